@@ -75,6 +75,17 @@ function Home() {
     fetchTopDogsDaily();
   }, [selectedDay]);
 
+  useEffect(() => {
+    // Live updates pushed by the backend instead of polling
+    return DogService.subscribeStandings(['overall', `day-${selectedDay}`], (board, rows) => {
+      if (board === 'overall') {
+        setTopDogsOverall(rows);
+      } else {
+        setTopDogsDaily(rows);
+      }
+    });
+  }, [selectedDay]);
+
   const overallColumns = ['#', 'Name', 'Owner', 'Points'];
   const overallData = topDogsOverall.map((dog) => [
     dog.dogNumber,
@@ -71,6 +71,15 @@ class DogService {
     }
   }
 
+  async postCrosses(crosses) {
+    try {
+      const response = await this.api.post('/scores/batch', crosses);
+      return response.data;
+    } catch (error) {
+      return error.response.data;
+    }
+  }
+
   async deleteCross(number, crossId) {
     try {
       const response = await this.api.delete(`/${number}/scores/${crossId}`);
@@ -333,6 +342,20 @@ class DogService {
       return error.response?.data || [];
     }
   }
+
+  /**
+   * Subscribe to the live top 10 boards pushed by the backend
+   * @param {string[]} boards - Board names (e.g. 'overall', 'day-1', 'stake-DERBY')
+   * @param {Function} onBoard - Called with (boardName, rows) on every update
+   * @returns {Function} Call to close the subscription
+   */
+  subscribeStandings(boards, onBoard) {
+    const source = new EventSource(`${API_BASE_URL}/dogs/scores/stream`);
+    boards.forEach((board) => {
+      source.addEventListener(board, (event) => onBoard(board, JSON.parse(event.data)));
+    });
+    return () => source.close();
+  }
 }
 
 export default new DogService();
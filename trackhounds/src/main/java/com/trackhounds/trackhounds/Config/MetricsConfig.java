@@ -0,0 +1,66 @@
+package com.trackhounds.trackhounds.Config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.trackhounds.trackhounds.Service.ScoreJournal;
+import com.trackhounds.trackhounds.Service.StandingsPublisher;
+import com.trackhounds.trackhounds.Service.StandingsService;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Application metrics. Service methods are timed through {@code @Timed},
+ * repository calls are timed by Spring Boot as
+ * {@code spring.data.repository.invocations}, and the standings engine is
+ * exposed as gauges.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspect recording the {@code @Timed} service methods
+     *
+     * @param registry Meter registry
+     * @return Timed aspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Gauges of what the standings engine holds in memory. They never trigger a
+     * load.
+     *
+     * @param standingsService   Standings Service
+     * @param standingsPublisher Standings Publisher
+     * @param scoreJournal       Score Journal
+     * @return Binder registering the gauges
+     */
+    @Bean
+    public MeterBinder standingsMetrics(StandingsService standingsService, StandingsPublisher standingsPublisher,
+            ScoreJournal scoreJournal) {
+        return registry -> {
+            Gauge.builder("trackhounds.standings.dogs", standingsService, StandingsService::getHeldDogCount)
+                    .description("Dog standings held in memory")
+                    .register(registry);
+            Gauge.builder("trackhounds.standings.days", standingsService, StandingsService::getHeldDayCount)
+                    .description("Daily standings held in memory, over every dog")
+                    .register(registry);
+            Gauge.builder("trackhounds.standings.dirty", standingsService, StandingsService::getDirtyCount)
+                    .description("Dogs waiting to be reloaded from the database")
+                    .register(registry);
+            Gauge.builder("trackhounds.standings.subscribers", standingsPublisher,
+                    StandingsPublisher::getSubscriberCount)
+                    .description("Clients subscribed to the live leaderboards")
+                    .register(registry);
+            Gauge.builder("trackhounds.journal.backlog", scoreJournal, ScoreJournal::getBacklog)
+                    .description("Journaled crosses waiting to be written to the database")
+                    .register(registry);
+        };
+    }
+}
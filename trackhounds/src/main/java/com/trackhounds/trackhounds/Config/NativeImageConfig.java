@@ -0,0 +1,91 @@
+package com.trackhounds.trackhounds.Config;
+
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.projection.TargetAware;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.trackhounds.trackhounds.Dto.DailyLeaderboardEntry;
+import com.trackhounds.trackhounds.Dto.DailyStandingView;
+import com.trackhounds.trackhounds.Dto.DogStakeView;
+import com.trackhounds.trackhounds.Dto.DogStanding;
+import com.trackhounds.trackhounds.Dto.DogSummary;
+import com.trackhounds.trackhounds.Dto.HuntConfig;
+import com.trackhounds.trackhounds.Dto.OverallLeaderboardEntry;
+import com.trackhounds.trackhounds.Dto.RebucketProgress;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DailyScore;
+import com.trackhounds.trackhounds.Entity.Days;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.HighestScore;
+import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Entity.Score;
+import com.trackhounds.trackhounds.Entity.Scratch;
+import com.trackhounds.trackhounds.Entity.TimeBucketScore;
+import com.trackhounds.trackhounds.Service.ScoreJournal;
+
+/**
+ * Hints for the native image build ({@code mvn -Pnative native:compile}).
+ * Spring AOT already finds the beans, the JPA entities Hibernate maps and the
+ * request and response types of the controllers. This adds what it cannot
+ * see: types written by hand to the streamed responses and the event stream,
+ * the projection proxies of the native queries, the journal entries Gson reads
+ * and writes, and the schema migrations of each database. Without AOT the
+ * hints are never read.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageConfig.Hints.class)
+public class NativeImageConfig {
+
+    /**
+     * Types serialized by Jackson outside of a controller signature. Their
+     * Lombok accessors, record components and the back and managed reference
+     * fields of the entities are registered with them.
+     */
+    static final Class<?>[] JSON_TYPES = { DogEntity.class, DailyScore.class, TimeBucketScore.class,
+            HighestScore.class, Score.class, Scratch.class, HuntEntity.class, JudgeEntity.class, Days.class,
+            DailyLeaderboardEntry.class, OverallLeaderboardEntry.class, DailyStandingView.class,
+            DogStakeView.class, DogStanding.class, DogSummary.class, HuntConfig.class, RebucketProgress.class };
+
+    /**
+     * Registers the hints
+     */
+    static class Hints implements RuntimeHintsRegistrar {
+
+        /**
+         * Register the hints
+         *
+         * @param hints       Hints of the image
+         * @param classLoader Class loader of the build
+         */
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+            hints.reflection().registerType(JsonManagedReference.class);
+            hints.reflection().registerType(JsonBackReference.class);
+            for (Class<?> projection : new Class<?>[] { DailyStandingView.class, DogStakeView.class,
+                    DogSummary.class })
+                hints.proxies().registerJdkProxy(projection, TargetAware.class, SpringProxy.class,
+                        DecoratingProxy.class);
+
+            // Gson reads fields directly and creates journal entries without
+            // a constructor. LocalTimeAdapter is built by GsonUtil itself and
+            // needs no hint
+            hints.reflection().registerType(ScoreJournal.Entry.class, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.UNSAFE_ALLOCATED);
+            hints.reflection().registerType(ScoreDto.class, MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            // Spring Boot only includes db/migration, see spring.flyway.locations
+            hints.resources().registerPattern("db/vendor/*/*.sql");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.trackhounds.trackhounds.Config;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.trackhounds.trackhounds.Dto.HuntConfig;
+import com.trackhounds.trackhounds.Entity.Days;
+import com.trackhounds.trackhounds.Entity.Score;
+import com.trackhounds.trackhounds.Entity.ScoreEvent;
+import com.trackhounds.trackhounds.Entity.Scratch;
+import com.trackhounds.trackhounds.Repository.DaysRepository;
+import com.trackhounds.trackhounds.Repository.ScoreEventRepository;
+import com.trackhounds.trackhounds.Repository.ScoreRepository;
+import com.trackhounds.trackhounds.Repository.ScratchRepository;
+import com.trackhounds.trackhounds.Service.HuntConfigService;
+
+/**
+ * Logs the scores and scratches entered before the score log existed.
+ * Rebuilding, verifying and rebucketing replay the log, so without their
+ * events a hunt scored by an earlier version could not be replayed.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class ScoreEventBackfill implements InitializingBean {
+
+    /**
+     * Logger
+     */
+    private static final Logger log = LoggerFactory.getLogger(ScoreEventBackfill.class);
+
+    /**
+     * Score Event Repository
+     */
+    @Autowired
+    private ScoreEventRepository scoreEventRepository;
+
+    /**
+     * Score Repository
+     */
+    @Autowired
+    private ScoreRepository scoreRepository;
+
+    /**
+     * Scratch Repository
+     */
+    @Autowired
+    private ScratchRepository scratchRepository;
+
+    /**
+     * Days Repository
+     */
+    @Autowired
+    private DaysRepository daysRepository;
+
+    /**
+     * Hunt Config Service
+     */
+    @Autowired
+    private HuntConfigService huntConfigService;
+
+    /**
+     * Transaction Manager
+     */
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * Backfill the log before anything is scored. Each score is logged as
+     * added, in id order, with the start time of its day and the interval of
+     * the hunt, then each scratch is logged. Once the log has an event this is
+     * a no-op.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            if (scoreEventRepository.count() > 0)
+                return;
+            List<Score> scores = scoreRepository.findAll(Sort.by("id"));
+            List<Scratch> scratches = scratchRepository.findAll(Sort.by("id"));
+            if (scores.isEmpty() && scratches.isEmpty())
+                return;
+            Map<Integer, LocalTime> startTimes = new HashMap<>();
+            for (Days day : daysRepository.findAll())
+                startTimes.put(day.getDay(), day.getStartTime());
+            int interval = huntConfigService.get().map(HuntConfig::getHuntInterval).orElse(0);
+            List<ScoreEvent> events = new ArrayList<>();
+            for (Score score : scores)
+                events.add(ScoreEvent.crossAdded(score, startTimes.get(score.getDay()), interval));
+            for (Scratch scratch : scratches)
+                events.add(ScoreEvent.dogScratched(scratch));
+            scoreEventRepository.saveAll(events);
+            log.info("Logged {} scores and {} scratches entered before the score log", scores.size(),
+                    scratches.size());
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.trackhounds.trackhounds.Config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per request SQL statement counting, see {@link SqlStatementFilter}
+ */
+@Configuration
+public class SqlStatementConfig {
+
+    /**
+     * Register the statement counter with Hibernate
+     *
+     * @return Hibernate properties customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * Count the statements of every request
+     *
+     * @param meterRegistry Meter registry
+     * @param warnThreshold Statement count above which a request is logged
+     * @return Filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(MeterRegistry meterRegistry,
+            @Value("${trackhounds.sql.warn-threshold:25}") int warnThreshold) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementFilter(meterRegistry, warnThreshold));
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
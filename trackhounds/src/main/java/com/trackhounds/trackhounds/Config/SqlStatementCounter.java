@@ -0,0 +1,59 @@
+package com.trackhounds.trackhounds.Config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector counting the SQL statements run on the current
+ * thread between {@link #start()} and {@link #stop()}. Statements run outside
+ * of a counting scope, such as on background threads, are not counted.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    /**
+     * Statements run so far in the scope of the current thread, null when not
+     * counting
+     */
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    /**
+     * Count a statement about to be prepared
+     *
+     * @param sql Statement
+     * @return The statement, unchanged
+     */
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null)
+            count[0]++;
+        return sql;
+    }
+
+    /**
+     * Start counting on the current thread, resetting any previous count
+     */
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * Statements counted so far on the current thread
+     *
+     * @return Statement count, 0 when not counting
+     */
+    public static int count() {
+        int[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Stop counting on the current thread
+     *
+     * @return Statements counted since {@link #start()}
+     */
+    public static int stop() {
+        int count = count();
+        COUNT.remove();
+        return count;
+    }
+}
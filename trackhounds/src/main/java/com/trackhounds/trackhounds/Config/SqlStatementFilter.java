@@ -0,0 +1,213 @@
+package com.trackhounds.trackhounds.Config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Counts the SQL statements run by each request. The count is returned in the
+ * {@value #HEADER} header, recorded in the
+ * {@code trackhounds.http.sql.statements} summary and logged as a warning when
+ * it goes over the threshold, which usually means an N+1 query pattern.
+ * <p>
+ * The header is set when the response is committed, so statements run after
+ * the first body bytes are sent only show in the metric and the log.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    /**
+     * Response header holding the statement count
+     */
+    public static final String HEADER = "X-SQL-Statements";
+
+    /**
+     * Logger for requests over the threshold
+     */
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    /**
+     * Meter registry
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Statement count above which a request is logged
+     */
+    private final int warnThreshold;
+
+    /**
+     * Create the filter
+     *
+     * @param meterRegistry Meter registry
+     * @param warnThreshold Statement count above which a request is logged
+     */
+    public SqlStatementFilter(MeterRegistry meterRegistry, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CountingResponse counting = new CountingResponse(response);
+        SqlStatementCounter.start();
+        try {
+            chain.doFilter(request, counting);
+        } finally {
+            counting.stamp();
+            int statements = SqlStatementCounter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            DistributionSummary.builder("trackhounds.http.sql.statements")
+                    .description("SQL statements run per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            if (statements > warnThreshold)
+                log.warn("{} {} ran {} SQL statements (threshold {})", request.getMethod(), request.getRequestURI(),
+                        statements, warnThreshold);
+        }
+    }
+
+    /**
+     * Response that sets the statement header right before it is committed
+     */
+    private static class CountingResponse extends HttpServletResponseWrapper {
+
+        /**
+         * Whether the header has been set
+         */
+        private boolean stamped;
+
+        /**
+         * Body stream, wrapped on first use
+         */
+        private ServletOutputStream outputStream;
+
+        /**
+         * Wrap a response
+         *
+         * @param response Response to wrap
+         */
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        /**
+         * Set the header with the statements counted so far, once
+         */
+        void stamp() {
+            if (stamped)
+                return;
+            stamped = true;
+            if (!isCommitted())
+                setIntHeader(HEADER, SqlStatementCounter.count());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null)
+                outputStream = new StampingOutputStream(super.getOutputStream());
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            stamp();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            stamp();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            stamp();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            stamp();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            stamp();
+            super.sendRedirect(location);
+        }
+
+        /**
+         * Body stream setting the header before the first byte goes out
+         */
+        private class StampingOutputStream extends ServletOutputStream {
+
+            /**
+             * Stream of the wrapped response
+             */
+            private final ServletOutputStream delegate;
+
+            /**
+             * Wrap a stream
+             *
+             * @param delegate Stream of the wrapped response
+             */
+            StampingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                stamp();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                stamp();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                stamp();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                stamp();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
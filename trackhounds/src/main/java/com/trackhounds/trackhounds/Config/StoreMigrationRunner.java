@@ -0,0 +1,66 @@
+package com.trackhounds.trackhounds.Config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+
+import com.trackhounds.trackhounds.Service.StoreMigrationService;
+
+/**
+ * Migration tool between the MariaDB and the embedded database. When
+ * trackhounds.migrate.source-url is set, the application copies that database
+ * into its own once started, then exits. Always registered rather than
+ * conditional on the property, so AOT builds keep the tool.
+ */
+@Component
+public class StoreMigrationRunner implements ApplicationRunner {
+
+    /**
+     * JDBC URL of the database to copy from, empty when not migrating
+     */
+    @Value("${trackhounds.migrate.source-url:}")
+    private String sourceUrl;
+
+    /**
+     * User of the database to copy from
+     */
+    @Value("${trackhounds.migrate.source-username:}")
+    private String sourceUsername;
+
+    /**
+     * Password of the database to copy from
+     */
+    @Value("${trackhounds.migrate.source-password:}")
+    private String sourcePassword;
+
+    /**
+     * Store Migration Service
+     */
+    @Autowired
+    private StoreMigrationService storeMigrationService;
+
+    /**
+     * Application context, closed once the copy is done
+     */
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    /**
+     * Copy the source database and exit, if one is set
+     *
+     * @param args Application arguments
+     * @throws Exception if the copy fails, which stops the application
+     */
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (sourceUrl.isBlank())
+            return;
+        storeMigrationService.copyFrom(new DriverManagerDataSource(sourceUrl, sourceUsername, sourcePassword));
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,61 @@
+package com.trackhounds.trackhounds.Config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails startup when spring.threads.virtual.enabled does not match the beans
+ * of the context. With Spring AOT the request threading is chosen when the
+ * jar is built, see the production profile, and setting VIRTUAL_THREADS on
+ * the container alone would otherwise be silently ignored.
+ */
+@Component
+public class ThreadingCheck implements InitializingBean {
+
+    /**
+     * Environment
+     */
+    private final Environment environment;
+
+    /**
+     * Executor of the async work, on virtual threads only when the context was
+     * built for them
+     */
+    private final Executor applicationTaskExecutor;
+
+    /**
+     * Constructor
+     *
+     * @param environment             Environment
+     * @param applicationTaskExecutor Executor of the async work
+     */
+    public ThreadingCheck(Environment environment,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor applicationTaskExecutor) {
+        this.environment = environment;
+        this.applicationTaskExecutor = applicationTaskExecutor;
+    }
+
+    /**
+     * Compare the requested threading with the one the context was built with
+     *
+     * @throws IllegalStateException if they differ
+     */
+    @Override
+    public void afterPropertiesSet() {
+        boolean requested = Threading.VIRTUAL.isActive(environment);
+        boolean built = applicationTaskExecutor instanceof SimpleAsyncTaskExecutor;
+        if (requested != built)
+            throw new IllegalStateException("spring.threads.virtual.enabled is " + requested
+                    + " but this build runs requests on " + (built ? "virtual" : "platform")
+                    + " threads. AOT builds choose the threading at build time: rebuild the image with"
+                    + " --build-arg VIRTUAL_THREADS=" + requested + " (mvn package -Pproduction -Daot.virtual-threads="
+                    + requested + ")");
+    }
+}
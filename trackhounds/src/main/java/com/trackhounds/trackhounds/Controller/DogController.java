@@ -1,11 +1,15 @@
 package com.trackhounds.trackhounds.Controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,15 +19,26 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.trackhounds.trackhounds.Dto.CrossInfoRequest;
+import com.trackhounds.trackhounds.Dto.DailyLeaderboardEntry;
+import com.trackhounds.trackhounds.Dto.DogSummary;
+import com.trackhounds.trackhounds.Dto.OverallLeaderboardEntry;
 import com.trackhounds.trackhounds.Dto.ScoreDto;
 import com.trackhounds.trackhounds.Entity.DogEntity;
 import com.trackhounds.trackhounds.Entity.Score;
 import com.trackhounds.trackhounds.Entity.Scratch;
 import com.trackhounds.trackhounds.Enums.StakeType;
 import com.trackhounds.trackhounds.Exception.TrackHoundsAPIException;
+import com.trackhounds.trackhounds.Service.DogImportService;
 import com.trackhounds.trackhounds.Service.DogService;
+import com.trackhounds.trackhounds.Service.StandingsPublisher;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Dog Controller
@@ -39,14 +54,32 @@ public class DogController {
   @Autowired
   private DogService dogService;
 
+  /**
+   * Standings publisher reference
+   */
+  @Autowired
+  private StandingsPublisher standingsPublisher;
+
+  /**
+   * Dog Import Service
+   */
+  @Autowired
+  private DogImportService dogImportService;
+
+  /**
+   * JSON mapper of the application, used to write the streamed lists
+   */
+  @Autowired
+  private ObjectMapper objectMapper;
+
   /**
    * Get all dogs
    * 
    * @return a list of all dogs
    */
   @GetMapping
-  public List<DogEntity> getAllDogs() {
-    return dogService.getDogs();
+  public List<DogSummary> getAllDogs() {
+    return dogService.getDogSummaries();
   }
 
   /**
@@ -80,6 +113,18 @@ public class DogController {
     dogService.createDogs(entities);
   }
 
+  /**
+   * Import an entry list, read from the request as it arrives
+   * 
+   * @param request Request with a CSV or JSON array of dogs as its body
+   * @return Number of dogs created
+   * @throws IOException if the body cannot be read
+   */
+  @PostMapping(value = "/import", consumes = { "text/csv", MediaType.APPLICATION_JSON_VALUE })
+  public int importDogs(HttpServletRequest request) throws IOException {
+    return dogImportService.importDogs(request.getInputStream(), MediaType.parseMediaType(request.getContentType()));
+  }
+
   /**
    * Edit a dog
    * 
@@ -96,7 +141,7 @@ public class DogController {
    * @param number Number of dog
    */
   @DeleteMapping("/{number}")
-  public List<DogEntity> deleteDog(@PathVariable("number") int number) {
+  public List<DogSummary> deleteDog(@PathVariable("number") int number) {
     return dogService.deleteDog(number);
   }
 
@@ -110,6 +155,16 @@ public class DogController {
     dogService.createScore(score);
   }
 
+  /**
+   * Create a batch of scores in a single transaction
+   * 
+   * @param scores Scores to create, in the order they were entered
+   */
+  @PostMapping("/scores/batch")
+  public void postScoresBatch(@RequestBody List<ScoreDto> scores) {
+    dogService.createScores(scores);
+  }
+
   /**
    * Delete a score by dog number and score ID
    * 
@@ -121,6 +176,26 @@ public class DogController {
     dogService.removeScore(dogNumber, scoreId);
   }
 
+  /**
+   * Rebuild the daily scores and totals of every dog from the score log
+   * 
+   * @return Number of events replayed
+   */
+  @PutMapping("/scores/rebuild")
+  public int rebuildScores() {
+    return dogService.rebuildScores();
+  }
+
+  /**
+   * Replay the score log and compare it with the stored totals
+   * 
+   * @return Numbers of the dogs whose totals differ from the log
+   */
+  @GetMapping("/scores/verify")
+  public List<Integer> verifyScores() {
+    return dogService.verifyScores();
+  }
+
   /**
    * Get the start time of a day
    * 
@@ -163,14 +238,27 @@ public class DogController {
   }
 
   /**
-   * Get dog scores by day
+   * Subscribe to live top 10 boards. Every current board is sent on connect and
+   * a board is sent again whenever its rows change.
    * 
-   * @param day The day number (1-4)
-   * @return List of dogs with their scores for the specified day
+   * @return Server-Sent Events stream of boards
+   */
+  @GetMapping(path = "/scores/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamStandings() {
+    return standingsPublisher.subscribe();
+  }
+
+  /**
+   * Get dog scores by day, written to the response as they are read
+   * 
+   * @param day      The day number (1-4)
+   * @param response Response the JSON array of dogs with their scores for the
+   *                 specified day is written to
+   * @throws IOException if the response cannot be written
    */
   @GetMapping("/scores/day/{day}")
-  public List<Map<String, Object>> getDogScoresByDay(@PathVariable("day") int day) {
-    return dogService.getDogScoresByDay(day);
+  public void getDogScoresByDay(@PathVariable("day") int day, HttpServletResponse response) throws IOException {
+    writeArray(response, writer -> dogService.streamDogScoresByDay(day, rows -> rows.forEach(writer)));
   }
 
   /**
@@ -181,7 +269,7 @@ public class DogController {
    * @return List of top scoring dogs for the specified day
    */
   @GetMapping("/scores/day/{day}/top/{limit}")
-  public List<Map<String, Object>> getTopScoringDogsByDay(
+  public List<DailyLeaderboardEntry> getTopScoringDogsByDay(
       @PathVariable("day") int day,
       @PathVariable("limit") int limit) {
     return dogService.getTopScoringDogsByDay(day, limit);
@@ -194,7 +282,7 @@ public class DogController {
    * @return List of top 10 dogs with their scores for the specified day
    */
   @GetMapping("/scores/day/{day}/top10")
-  public List<Map<String, Object>> getTop10ScoringDogsByDay(@PathVariable("day") int day) {
+  public List<DailyLeaderboardEntry> getTop10ScoringDogsByDay(@PathVariable("day") int day) {
     return dogService.getTop10ScoringDogsByDay(day);
   }
 
@@ -204,7 +292,7 @@ public class DogController {
    * @return List of top 10 dogs with their total scores
    */
   @GetMapping("/scores/top10/overall")
-  public List<Map<String, Object>> getTop10ScoringDogsOverall() {
+  public List<OverallLeaderboardEntry> getTop10ScoringDogsOverall() {
     return dogService.getTop10ScoringDogsOverall();
   }
 
@@ -215,7 +303,7 @@ public class DogController {
    * @return List of top scoring dogs limited to the specified count
    */
   @GetMapping("/scores/top/{limit}/overall")
-  public List<Map<String, Object>> getTopScoringDogsOverall(@PathVariable("limit") int limit) {
+  public List<OverallLeaderboardEntry> getTopScoringDogsOverall(@PathVariable("limit") int limit) {
     return dogService.getTopScoringDogsOverall(limit);
   }
 
@@ -227,7 +315,7 @@ public class DogController {
    * @return List of top scoring dogs of the specified stake type
    */
   @GetMapping("/scores/stake/{stakeType}/top/{limit}")
-  public List<Map<String, Object>> getTopScoringDogsByStakeType(
+  public List<OverallLeaderboardEntry> getTopScoringDogsByStakeType(
       @PathVariable("stakeType") String stakeType,
       @PathVariable("limit") int limit) {
     try {
@@ -246,7 +334,7 @@ public class DogController {
    * @return List of top 10 dogs with their scores of the specified stake type
    */
   @GetMapping("/scores/stake/{stakeType}/top10")
-  public List<Map<String, Object>> getTop10ScoringDogsByStakeType(
+  public List<OverallLeaderboardEntry> getTop10ScoringDogsByStakeType(
       @PathVariable("stakeType") String stakeType) {
     try {
       StakeType stake = StakeType.valueOf(stakeType.toUpperCase());
@@ -267,7 +355,7 @@ public class DogController {
    * @return List of top scoring dogs for the specified day and stake type
    */
   @GetMapping("/scores/day/{day}/stake/{stakeType}/top/{limit}")
-  public List<Map<String, Object>> getTopScoringDogsByDayAndStakeType(
+  public List<DailyLeaderboardEntry> getTopScoringDogsByDayAndStakeType(
       @PathVariable("day") int day,
       @PathVariable("stakeType") String stakeType,
       @PathVariable("limit") int limit) {
@@ -291,7 +379,7 @@ public class DogController {
    *         type
    */
   @GetMapping("/scores/day/{day}/stake/{stakeType}/top10")
-  public List<Map<String, Object>> getTop10ScoringDogsByDayAndStakeType(
+  public List<DailyLeaderboardEntry> getTop10ScoringDogsByDayAndStakeType(
       @PathVariable("day") int day,
       @PathVariable("stakeType") String stakeType) {
     try {
@@ -354,13 +442,14 @@ public class DogController {
   }
 
   /**
-   * Get all scores
+   * Get all scores, written to the response as they are read
    * 
-   * @return List of all scores
+   * @param response Response the JSON array of all scores is written to
+   * @throws IOException if the response cannot be written
    */
   @GetMapping("/scores")
-  public List<Score> getAllScores() {
-    return dogService.getScores();
+  public void getAllScores(HttpServletResponse response) throws IOException {
+    writeArray(response, writer -> dogService.streamScores(scores -> scores.forEach(writer)));
   }
 
   /**
@@ -389,4 +478,25 @@ public class DogController {
         crossRequest.getInterval(),
         crossRequest.getStakeType());
   }
+
+  /**
+   * Write rows to the response as a JSON array, one row at a time, so the
+   * whole list is never held in memory
+   * 
+   * @param response Response to write to
+   * @param rows     Hands every row to the given writer
+   * @throws IOException if the response cannot be written
+   */
+  private void writeArray(HttpServletResponse response, Consumer<Consumer<Object>> rows) throws IOException {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    try (SequenceWriter writer = objectMapper.writer().writeValuesAsArray(response.getOutputStream())) {
+      rows.accept(row -> {
+        try {
+          writer.write(row);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    }
+  }
 }
@@ -9,8 +9,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.trackhounds.trackhounds.Dto.RebucketProgress;
 import com.trackhounds.trackhounds.Entity.HuntEntity;
 import com.trackhounds.trackhounds.Service.HuntService;
+import com.trackhounds.trackhounds.Service.RebucketService;
 
 /**
  * Controller for the hunts. This class is used to handle the requests for the
@@ -26,6 +28,12 @@ public class HuntController {
     @Autowired
     private HuntService huntService;
 
+    /**
+     * The service bucketing the scores under the hunt interval.
+     */
+    @Autowired
+    private RebucketService rebucketService;
+
     /**
      * Get the current hunt
      * 
@@ -58,4 +66,24 @@ public class HuntController {
         return huntService.editHunt(entity);
     }
 
+    /**
+     * Bucket every score again under the current hunt interval
+     * 
+     * @return Progress of the finished job
+     */
+    @PutMapping("/rebucket")
+    public RebucketProgress rebucket() {
+        return rebucketService.rebucket();
+    }
+
+    /**
+     * Get the progress of the current or last rebucket
+     * 
+     * @return Progress of the job
+     */
+    @GetMapping("/rebucket")
+    public RebucketProgress getRebucketProgress() {
+        return rebucketService.getProgress();
+    }
+
 }
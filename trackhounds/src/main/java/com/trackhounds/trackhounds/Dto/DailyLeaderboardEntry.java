@@ -0,0 +1,22 @@
+package com.trackhounds.trackhounds.Dto;
+
+import java.time.LocalTime;
+
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+/**
+ * Row served by the daily leaderboards
+ *
+ * @param dogNumber       Number of the dog
+ * @param dogName         Name of the dog
+ * @param owner           Owner of the dog
+ * @param sire            Sire of the dog
+ * @param dam             Dam of the dog
+ * @param stake           Stake of the dog
+ * @param totalPoints     Daily S&D score
+ * @param lastScore       Time of the last counted cross
+ * @param lastScorePoints Points of the last counted cross
+ */
+public record DailyLeaderboardEntry(int dogNumber, String dogName, String owner, String sire, String dam,
+        StakeType stake, int totalPoints, LocalTime lastScore, int lastScorePoints) {
+}
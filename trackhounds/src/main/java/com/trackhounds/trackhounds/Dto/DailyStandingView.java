@@ -0,0 +1,56 @@
+package com.trackhounds.trackhounds.Dto;
+
+import java.time.LocalTime;
+
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+/**
+ * Projection of a dog's daily score with the fields of the dog the daily
+ * leaderboard shows
+ */
+public interface DailyStandingView {
+    /**
+     * @return Number of the dog
+     */
+    int getNumber();
+
+    /**
+     * @return Name of the dog
+     */
+    String getName();
+
+    /**
+     * @return Owner of the dog
+     */
+    String getOwner();
+
+    /**
+     * @return Sire of the dog
+     */
+    String getSire();
+
+    /**
+     * @return Dam of the dog
+     */
+    String getDam();
+
+    /**
+     * @return Stake of the dog
+     */
+    StakeType getStake();
+
+    /**
+     * @return Daily S&D score
+     */
+    int getDailyScore();
+
+    /**
+     * @return Time of the last counted cross
+     */
+    LocalTime getLastCross();
+
+    /**
+     * @return Points of the last counted cross
+     */
+    int getAssociatedPoints();
+}
@@ -0,0 +1,18 @@
+package com.trackhounds.trackhounds.Dto;
+
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+/**
+ * Projection of a dog's number and stake, all the cross info needs
+ */
+public interface DogStakeView {
+    /**
+     * @return Number of the dog
+     */
+    int getNumber();
+
+    /**
+     * @return Stake of the dog
+     */
+    StakeType getStake();
+}
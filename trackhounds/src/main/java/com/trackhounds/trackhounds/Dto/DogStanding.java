@@ -0,0 +1,158 @@
+package com.trackhounds.trackhounds.Dto;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.trackhounds.trackhounds.Entity.DailyScore;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.HighestScore;
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of a dog's standing, held in memory by the
+ * StandingsService so leaderboard reads do not need to touch the database.
+ */
+@Getter
+@AllArgsConstructor
+public class DogStanding {
+    /**
+     * Number of the dog
+     */
+    private final int number;
+    /**
+     * Name of the dog
+     */
+    private final String name;
+    /**
+     * Stake of the dog
+     */
+    private final StakeType stake;
+    /**
+     * Owner of the dog
+     */
+    private final String owner;
+    /**
+     * Sire of the dog
+     */
+    private final String sire;
+    /**
+     * Dam of the dog
+     */
+    private final String dam;
+    /**
+     * Whether or not the dog is scratched
+     */
+    private final boolean scratched;
+    /**
+     * Weighted total points of the dog
+     */
+    private final int points;
+    /**
+     * Daily standings, in the same order as DogEntity.scores (index = day - 1)
+     */
+    private final List<DayStanding> days;
+
+    /**
+     * Build a snapshot from a dog and its daily scores.
+     *
+     * @param dog Dog to snapshot
+     * @return Standing of the dog
+     */
+    public static DogStanding of(DogEntity dog) {
+        List<DayStanding> days = new ArrayList<>();
+        if (dog.getScores() != null) {
+            for (DailyScore dailyScore : dog.getScores()) {
+                Map<Integer, Integer> buckets = new HashMap<>();
+                for (HighestScore highest : dailyScore.getHighestScores())
+                    buckets.merge(highest.getTimeBucket(), highest.getScore().getPoints(), Math::max);
+                days.add(new DayStanding(dailyScore.getDay().getDay(), dailyScore.getDailyScore(),
+                        dailyScore.getLastCross(), dailyScore.getAssociatedPoints(),
+                        Collections.unmodifiableMap(buckets)));
+            }
+        }
+        return new DogStanding(dog.getNumber(), dog.getName(), dog.getStake(), dog.getOwner(), dog.getSire(),
+                dog.getDam(), dog.isScratched(), dog.getPoints(), Collections.unmodifiableList(days));
+    }
+
+    /**
+     * Apply a cross that has not been saved yet, the way DailyScore.addScore
+     * and DogService.calculateTotalPoints would once it is
+     *
+     * @param day      Day of the cross
+     * @param bucket   Time bucket of the cross
+     * @param time     Time of the cross
+     * @param points   Points of the dog in the cross
+     * @param interval Hunt interval in minutes, 0 counts every cross
+     * @return Standing including the cross
+     */
+    public DogStanding withCross(int day, int bucket, LocalTime time, int points, int interval) {
+        List<DayStanding> updated = new ArrayList<>(days);
+        for (int d = updated.size() + 1; d <= day; d++)
+            updated.add(new DayStanding(d, 0, LocalTime.of(0, 0), 0, Map.of()));
+        updated.set(day - 1, updated.get(day - 1).withCross(bucket, time, points, interval));
+        int total = 0;
+        for (DayStanding standing : updated) {
+            double toAdd = standing.getDailyScore();
+            toAdd += toAdd * (standing.getDay() * .1);
+            total += toAdd;
+        }
+        return new DogStanding(number, name, stake, owner, sire, dam, scratched, total,
+                Collections.unmodifiableList(updated));
+    }
+
+    /**
+     * Snapshot of a single DailyScore.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DayStanding {
+        /**
+         * Day number
+         */
+        private final int day;
+        /**
+         * Daily S&D score
+         */
+        private final int dailyScore;
+        /**
+         * Time of the last counted cross
+         */
+        private final LocalTime lastCross;
+        /**
+         * Points of the last counted cross
+         */
+        private final int associatedPoints;
+        /**
+         * Highest points of each time bucket
+         */
+        private final Map<Integer, Integer> buckets;
+
+        /**
+         * Apply a cross of the day
+         *
+         * @param bucket   Time bucket of the cross
+         * @param time     Time of the cross
+         * @param points   Points of the dog in the cross
+         * @param interval Hunt interval in minutes, 0 counts every cross
+         * @return Day standing including the cross
+         */
+        DayStanding withCross(int bucket, LocalTime time, int points, int interval) {
+            Integer highest = interval == 0 ? null : buckets.get(bucket);
+            if (highest != null && points <= highest)
+                return this;
+            Map<Integer, Integer> updated = new HashMap<>(buckets);
+            if (interval != 0)
+                updated.put(bucket, points);
+            boolean last = lastCross == null || time.isAfter(lastCross);
+            return new DayStanding(day, dailyScore + points - (highest == null ? 0 : highest),
+                    last ? time : lastCross, last ? points : associatedPoints, Collections.unmodifiableMap(updated));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.trackhounds.trackhounds.Dto;
+
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+/**
+ * Projection of a dog without its scores, used by the dog list
+ */
+public interface DogSummary {
+    /**
+     * @return Number of the dog
+     */
+    int getNumber();
+
+    /**
+     * @return Name of the dog
+     */
+    String getName();
+
+    /**
+     * @return Stake of the dog
+     */
+    StakeType getStake();
+
+    /**
+     * @return Owner of the dog
+     */
+    String getOwner();
+
+    /**
+     * @return Sire of the dog
+     */
+    String getSire();
+
+    /**
+     * @return Dam of the dog
+     */
+    String getDam();
+
+    /**
+     * @return Whether or not the dog is scratched
+     */
+    boolean isScratched();
+
+    /**
+     * @return Weighted total points of the dog
+     */
+    int getPoints();
+}
@@ -0,0 +1,72 @@
+package com.trackhounds.trackhounds.Dto;
+
+import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the current hunt configuration, held in memory by the
+ * HuntConfigService so reads do not need to query the hunt table.
+ */
+@Getter
+@AllArgsConstructor
+public class HuntConfig {
+    /**
+     * Id of the hunt
+     */
+    private final Long id;
+    /**
+     * Title of the hunt
+     */
+    private final String title;
+    /**
+     * Dates of the hunt
+     */
+    private final String dates;
+    /**
+     * Stake of the hunt
+     */
+    private final StakeType stake;
+    /**
+     * Interval of the time buckets in minutes
+     */
+    private final int huntInterval;
+    /**
+     * Stake type of each dog number range
+     */
+    private final StakeType[] stakeTypeRange;
+    /**
+     * Starting dog number of each range
+     */
+    private final int[] stakeRange;
+    /**
+     * Version of the snapshot, increases with every change
+     */
+    private final long version;
+
+    /**
+     * Build a snapshot from a hunt
+     *
+     * @param hunt    Hunt to snapshot
+     * @param version Version of the snapshot
+     * @return Snapshot of the hunt
+     */
+    public static HuntConfig of(HuntEntity hunt, long version) {
+        return new HuntConfig(hunt.getId(), hunt.getTitle(), hunt.getDates(), hunt.getStake(), hunt.getHuntInterval(),
+                hunt.getStakeTypeRange() == null ? null : hunt.getStakeTypeRange().clone(),
+                hunt.getStakeRange() == null ? null : hunt.getStakeRange().clone(), version);
+    }
+
+    /**
+     * Build a detached hunt entity from the snapshot
+     *
+     * @return Copy of the hunt
+     */
+    public HuntEntity toEntity() {
+        return new HuntEntity(id, title, dates, stake, huntInterval,
+                stakeTypeRange == null ? null : stakeTypeRange.clone(),
+                stakeRange == null ? null : stakeRange.clone());
+    }
+}
@@ -0,0 +1,235 @@
+package com.trackhounds.trackhounds.Dto;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import com.trackhounds.trackhounds.Dto.DogStanding.DayStanding;
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Typed leaderboard row. The tie-break fields (time bucket, last cross time) are
+ * computed once when the row is built so sorting only compares primitives.
+ */
+@Getter
+@AllArgsConstructor
+public class LeaderboardRow {
+
+    /**
+     * Daily leaderboard order: points, time bucket, last cross time and last cross
+     * points (all descending), then dog number
+     */
+    public static final Comparator<LeaderboardRow> DAILY_ORDER = (r1, r2) -> {
+        if (r1.points != r2.points)
+            return Integer.compare(r2.points, r1.points);
+        return compareLastCross(r1, r2);
+    };
+
+    /**
+     * Overall leaderboard order: points and last scored day (descending), then
+     * the daily tie-break on the last cross, then dog number
+     */
+    public static final Comparator<LeaderboardRow> OVERALL_ORDER = (r1, r2) -> {
+        if (r1.points != r2.points)
+            return Integer.compare(r2.points, r1.points);
+        if (r1.lastScoreDay != r2.lastScoreDay)
+            return Integer.compare(r2.lastScoreDay, r1.lastScoreDay);
+        if (r1.lastScore == null || r2.lastScore == null) {
+            if (r1.lastScore != r2.lastScore)
+                return r1.lastScore == null ? 1 : -1;
+            return Integer.compare(r1.dogNumber, r2.dogNumber);
+        }
+        if (r1.startTime == null || r2.startTime == null) {
+            // Without a start time there is no bucket, fall back to the time alone
+            if (r1.lastScoreNanos != r2.lastScoreNanos)
+                return Long.compare(r2.lastScoreNanos, r1.lastScoreNanos);
+            return Integer.compare(r1.dogNumber, r2.dogNumber);
+        }
+        return compareLastCross(r1, r2);
+    };
+
+    /**
+     * Number of the dog
+     */
+    private final int dogNumber;
+    /**
+     * Name of the dog
+     */
+    private final String dogName;
+    /**
+     * Owner of the dog
+     */
+    private final String owner;
+    /**
+     * Sire of the dog
+     */
+    private final String sire;
+    /**
+     * Dam of the dog
+     */
+    private final String dam;
+    /**
+     * Stake of the dog
+     */
+    private final StakeType stake;
+    /**
+     * Daily score or weighted total, depending on the leaderboard
+     */
+    private final int points;
+    /**
+     * Daily standings of the dog, only used by the overall leaderboard
+     */
+    private final List<DayStanding> days;
+    /**
+     * Time of the last counted cross
+     */
+    private final LocalTime lastScore;
+    /**
+     * Day of the last counted cross
+     */
+    private final int lastScoreDay;
+    /**
+     * Points of the last counted cross
+     */
+    private final int lastScorePoints;
+    /**
+     * Start time of the day of the last counted cross
+     */
+    private final LocalTime startTime;
+    /**
+     * Time bucket of the last counted cross
+     */
+    private final int bucket;
+    /**
+     * Last counted cross as nano of day, -1 if there is none
+     */
+    private final long lastScoreNanos;
+
+    /**
+     * Build a daily leaderboard row
+     *
+     * @param dog       Standing of the dog
+     * @param day       Standing of the dog on the day
+     * @param startTime Start time of the day, or null if no buckets are needed
+     * @param interval  Hunt interval in minutes
+     * @return Leaderboard row
+     */
+    public static LeaderboardRow ofDay(DogStanding dog, DayStanding day, LocalTime startTime, int interval) {
+        return new LeaderboardRow(dog.getNumber(), dog.getName(), dog.getOwner(), dog.getSire(), dog.getDam(),
+                dog.getStake(), day.getDailyScore(), null, day.getLastCross(), day.getDay(),
+                day.getAssociatedPoints(), startTime, bucket(startTime, day.getLastCross(), interval),
+                nanos(day.getLastCross()));
+    }
+
+    /**
+     * Build a daily leaderboard row from a stored daily score, without a time
+     * bucket
+     *
+     * @param view Daily standing read from the database
+     * @param day  Day number
+     * @return Leaderboard row
+     */
+    public static LeaderboardRow ofDay(DailyStandingView view, int day) {
+        return new LeaderboardRow(view.getNumber(), view.getName(), view.getOwner(), view.getSire(), view.getDam(),
+                view.getStake(), view.getDailyScore(), null, view.getLastCross(), day, view.getAssociatedPoints(),
+                null, 0, nanos(view.getLastCross()));
+    }
+
+    /**
+     * Build an overall leaderboard row from the last counted cross of the dog
+     *
+     * @param dog        Standing of the dog
+     * @param startTimes Start time lookup by day number
+     * @param interval   Hunt interval in minutes
+     * @return Leaderboard row
+     */
+    public static LeaderboardRow ofOverall(DogStanding dog, IntFunction<LocalTime> startTimes, int interval) {
+        LocalTime lastScore = null;
+        int lastDay = 0;
+        int lastScorePoints = 0;
+        for (DayStanding day : dog.getDays()) {
+            if (day.getLastCross() != null && (day.getDay() > lastDay
+                    || (day.getDay() == lastDay && day.getLastCross().isAfter(lastScore)))) {
+                lastScore = day.getLastCross();
+                lastDay = day.getDay();
+                lastScorePoints = day.getAssociatedPoints();
+            }
+        }
+        LocalTime startTime = lastDay == 0 ? null : startTimes.apply(lastDay);
+        return new LeaderboardRow(dog.getNumber(), dog.getName(), dog.getOwner(), dog.getSire(), dog.getDam(),
+                dog.getStake(), dog.getPoints(), dog.getDays(), lastScore, lastDay, lastScorePoints, startTime,
+                bucket(startTime, lastScore, interval), nanos(lastScore));
+    }
+
+    /**
+     * Convert to the row served by the daily leaderboards
+     *
+     * @return Daily leaderboard entry
+     */
+    public DailyLeaderboardEntry toDailyEntry() {
+        return new DailyLeaderboardEntry(dogNumber, dogName, owner, sire, dam, stake, points, lastScore,
+                lastScorePoints);
+    }
+
+    /**
+     * Convert to the row served by the overall leaderboards
+     *
+     * @return Overall leaderboard entry
+     */
+    public OverallLeaderboardEntry toOverallEntry() {
+        Integer[] sdScores = new Integer[4];
+        for (DayStanding day : days) {
+            if (day.getDay() <= sdScores.length)
+                sdScores[day.getDay() - 1] = day.getDailyScore();
+        }
+        return new OverallLeaderboardEntry(dogNumber, dogName, owner, sire, dam, stake, points, sdScores[0],
+                sdScores[1], sdScores[2], sdScores[3], lastScore, lastScoreDay, lastScorePoints, startTime);
+    }
+
+    /**
+     * Compare two rows by bucket, time and points of their last cross (latest
+     * first), then by dog number
+     *
+     * @param r1 First row
+     * @param r2 Second row
+     * @return Comparison result
+     */
+    private static int compareLastCross(LeaderboardRow r1, LeaderboardRow r2) {
+        if (r1.bucket != r2.bucket)
+            return Integer.compare(r2.bucket, r1.bucket);
+        if (r1.lastScoreNanos != r2.lastScoreNanos)
+            return Long.compare(r2.lastScoreNanos, r1.lastScoreNanos);
+        if (r1.lastScorePoints != r2.lastScorePoints)
+            return Integer.compare(r2.lastScorePoints, r1.lastScorePoints);
+        return Integer.compare(r1.dogNumber, r2.dogNumber);
+    }
+
+    /**
+     * Time bucket of a cross, same calculation as DailyScore
+     *
+     * @param startTime Start time of the day
+     * @param time      Time of the cross
+     * @param interval  Hunt interval in minutes
+     * @return Bucket index, 0 if it cannot be computed
+     */
+    private static int bucket(LocalTime startTime, LocalTime time, int interval) {
+        if (interval == 0 || startTime == null || time == null)
+            return 0;
+        return (int) Duration.between(startTime, time).toMinutes() / interval;
+    }
+
+    /**
+     * Nano of day of a time
+     *
+     * @param time Time
+     * @return Nano of day, -1 if the time is null
+     */
+    private static long nanos(LocalTime time) {
+        return time == null ? -1 : time.toNanoOfDay();
+    }
+}
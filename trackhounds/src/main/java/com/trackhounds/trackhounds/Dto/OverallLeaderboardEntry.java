@@ -0,0 +1,36 @@
+package com.trackhounds.trackhounds.Dto;
+
+import java.time.LocalTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+/**
+ * Row served by the overall leaderboards. The daily scores of the four days of
+ * a hunt are left out for the days the dog has no score entry on.
+ *
+ * @param dogNumber       Number of the dog
+ * @param dogName         Name of the dog
+ * @param owner           Owner of the dog
+ * @param sire            Sire of the dog
+ * @param dam             Dam of the dog
+ * @param stake           Stake of the dog
+ * @param totalPoints     Weighted total of the dog
+ * @param sdScore1        Daily S&D score of day 1
+ * @param sdScore2        Daily S&D score of day 2
+ * @param sdScore3        Daily S&D score of day 3
+ * @param sdScore4        Daily S&D score of day 4
+ * @param lastScore       Time of the last counted cross
+ * @param lastScoreDay    Day of the last counted cross
+ * @param lastScorePoints Points of the last counted cross
+ * @param startTime       Start time of the day of the last counted cross
+ */
+public record OverallLeaderboardEntry(int dogNumber, String dogName, String owner, String sire, String dam,
+        StakeType stake, int totalPoints,
+        @JsonInclude(Include.NON_NULL) Integer sdScore1,
+        @JsonInclude(Include.NON_NULL) Integer sdScore2,
+        @JsonInclude(Include.NON_NULL) Integer sdScore3,
+        @JsonInclude(Include.NON_NULL) Integer sdScore4,
+        LocalTime lastScore, int lastScoreDay, int lastScorePoints, LocalTime startTime) {
+}
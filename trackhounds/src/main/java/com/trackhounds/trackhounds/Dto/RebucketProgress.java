@@ -0,0 +1,47 @@
+package com.trackhounds.trackhounds.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Snapshot of the progress of the last rebucket job.
+ */
+@Getter
+@AllArgsConstructor
+public class RebucketProgress {
+    /**
+     * Phase of the job
+     */
+    private final Phase phase;
+    /**
+     * Interval the scores are bucketed under, in minutes
+     */
+    private final int interval;
+    /**
+     * Dogs in the hunt
+     */
+    private final int dogs;
+    /**
+     * Dogs whose daily scores have been recomputed
+     */
+    private final int replayed;
+    /**
+     * Dogs whose daily scores have been written
+     */
+    private final int written;
+    /**
+     * Time spent so far, or in total once finished, in milliseconds
+     */
+    private final long elapsedMillis;
+
+    /**
+     * Phases of a rebucket job
+     */
+    public enum Phase {
+        IDLE,
+        REPLAYING,
+        WRITING,
+        DONE,
+        FAILED,
+    }
+}
@@ -2,7 +2,13 @@ package com.trackhounds.trackhounds.Entity;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
@@ -13,14 +19,21 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_daily_score_dog_day", columnList = "dog_number, day_day"),
+    @Index(name = "idx_daily_score_day", columnList = "day_day") })
 @Getter
 @Setter
 @AllArgsConstructor
@@ -33,20 +46,21 @@ public class DailyScore {
    * Unique Id
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_score_seq")
+  @SequenceGenerator(name = "daily_score_seq", sequenceName = "daily_score_seq", allocationSize = 50)
   private Long id;
 
   /**
    * List of time bucket scores
    */
-  @OneToMany(mappedBy = "dailyScore", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+  @OneToMany(mappedBy = "dailyScore", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
   @JsonManagedReference
   private List<TimeBucketScore> timeBucketScores = new ArrayList<>();
 
   /**
    * List of highest scores
    */
-  @OneToMany(mappedBy = "dailyScore", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+  @OneToMany(mappedBy = "dailyScore", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
   @JsonManagedReference
   private List<HighestScore> highestScores = new ArrayList<>();
 
@@ -59,7 +73,7 @@ public class DailyScore {
   /**
    * Dog associated with the DailyScore
    */
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JsonBackReference
   private DogEntity dog;
 
@@ -81,6 +95,13 @@ public class DailyScore {
   /** Daily S&D Score */
   private int dailyScore = 0;
 
+  /**
+   * Index of the scores by bucket and by score, kept alongside the stored
+   * lists so adding or removing a cross only touches its own bucket
+   */
+  @Getter(AccessLevel.NONE)
+  private final transient ScoreIndex index = new ScoreIndex();
+
   /**
    * Default constructor for DailyScore
    * 
@@ -105,30 +126,27 @@ public class DailyScore {
 
     int bucket = interval == 0 ? 0
         : (int) java.time.Duration.between(startTime, score.getTime()).toMinutes() / interval;
-    TimeBucketScore timeBucketScore = new TimeBucketScore(null, bucket, score, this);
-    timeBucketScores.add(timeBucketScore);
+    Slot slot = index().add(score, bucket);
+    timeBucketScores.add(new TimeBucketScore(null, bucket, score, this));
 
     // For 0 interval hunts, all scores are counted
     if (interval == 0) {
       score.setCounted(true);
-      highestScores.add(new HighestScore(null, 0, score, this));
+      count(slot);
       if (score.getTime().isAfter(lastCross)) {
         lastCross = score.getTime();
         associatedPoints = score.getPoints();
       }
     } else {
       // Normal behavior for non-zero interval hunts
-      HighestScore highestScore = highestScores.stream()
-          .filter(hs -> hs.getTimeBucket() == bucket)
-          .findFirst()
-          .orElse(null);
-      if (highestScore == null || score.getPoints() > highestScore.getScore().getPoints()) {
-        if (highestScore != null) {
-          highestScore.getScore().setCounted(false);
-          highestScores.remove(highestScore);
+      Slot highest = slot.bucket.highest;
+      if (highest == null || score.getPoints() > highest.score.getPoints()) {
+        if (highest != null) {
+          highest.score.setCounted(false);
+          uncount(highest);
         }
         score.setCounted(true);
-        highestScores.add(new HighestScore(null, bucket, score, this));
+        count(slot);
         if (score.getTime().isAfter(lastCross)) {
           lastCross = score.getTime();
           associatedPoints = score.getPoints();
@@ -141,60 +159,106 @@ public class DailyScore {
   }
 
   /**
-   * Remove a score from the appropriate time bucket
+   * Remove a score from the appropriate time bucket. If it was counted, the
+   * last cross is taken from the remaining counted scores first, then the next
+   * highest score of its bucket is counted without moving the last cross.
    * 
    * @param score Score to remove
    * @return The removed score
    */
   public Score removeScore(Score score) {
-    TimeBucketScore timeBucketScore = timeBucketScores.stream()
-        .filter(tbs -> tbs.getScore().equals(score))
-        .findFirst()
-        .orElse(null);
-    if (timeBucketScore == null) {
+    ScoreIndex scores = index();
+    Slot slot = scores.remove(score);
+    if (slot == null) {
       return null;
     }
 
-    timeBucketScores.remove(timeBucketScore);
+    timeBucketScores.removeIf(tbs -> tbs.getScore().equals(score));
     score.setCounted(false);
 
-    HighestScore highestScore = highestScores.stream()
-        .filter(hs -> hs.getScore().equals(score))
-        .findFirst()
-        .orElse(null);
-    if (highestScore != null) {
-      highestScores.remove(highestScore);
-      if (highestScore.getScore().getTime().equals(lastCross)) {
-        lastCross = LocalTime.of(0, 0);
-        associatedPoints = 0;
-        for (HighestScore hs : highestScores) {
-          LocalTime scoreTime = hs.getScore().getTime();
-          if (scoreTime.isAfter(lastCross)) {
-            lastCross = scoreTime;
-            associatedPoints = hs.getScore().getPoints();
-          }
-        }
+    if (slot.counted) {
+      uncount(slot);
+      if (score.getTime().equals(lastCross)) {
+        Map.Entry<LocalTime, List<Score>> last = scores.byTime.lastEntry();
+        lastCross = last == null ? LocalTime.of(0, 0) : last.getKey();
+        associatedPoints = last == null ? 0 : last.getValue().get(0).getPoints();
       }
-    }
-
-    // Only find new highest score if not a 0 interval hunt
-    if (!zeroInterval) {
-      // Find the highest score in the same time bucket
-      int bucket = timeBucketScore.getTimeBucket();
-      TimeBucketScore newHighestScore = timeBucketScores.stream()
-          .filter(tbs -> tbs.getTimeBucket() == bucket)
-          .max((tbs1, tbs2) -> Integer.compare(tbs1.getScore().getPoints(), tbs2.getScore().getPoints()))
-          .orElse(null);
-
-      if (newHighestScore != null) {
-        newHighestScore.getScore().setCounted(true);
-        highestScores.add(new HighestScore(null, bucket, newHighestScore.getScore(), this));
+      // Only find new highest score if not a 0 interval hunt
+      if (!zeroInterval && !slot.bucket.scores.isEmpty()) {
+        Slot newHighest = slot.bucket.scores.first();
+        newHighest.score.setCounted(true);
+        count(newHighest);
       }
     }
 
     return score;
   }
 
+  /**
+   * Check if a score was added to this daily score
+   * 
+   * @param score Score to look for
+   * @return True if the score is in one of the time buckets
+   */
+  public boolean contains(Score score) {
+    return index().slots.containsKey(score);
+  }
+
+  /**
+   * Clear every score and the last cross
+   */
+  public void clearScores() {
+    timeBucketScores.clear();
+    highestScores.clear();
+    lastCross = LocalTime.of(0, 0);
+    associatedPoints = 0;
+    zeroInterval = false;
+    dailyScore = 0;
+    index.clear();
+  }
+
+  /**
+   * Count a score as a highest score of its bucket
+   * 
+   * @param slot Indexed score
+   */
+  private void count(Slot slot) {
+    highestScores.add(new HighestScore(null, slot.bucket.number, slot.score, this));
+    index.count(slot);
+  }
+
+  /**
+   * Stop counting a score
+   * 
+   * @param slot Indexed counted score
+   */
+  private void uncount(Slot slot) {
+    highestScores.removeIf(hs -> hs.getScore().equals(slot.score));
+    index.uncount(slot);
+  }
+
+  /**
+   * Get the index of the scores, building it from the stored lists the first
+   * time the daily score is changed after being loaded
+   * 
+   * @return Index of the scores
+   */
+  private ScoreIndex index() {
+    if (!index.built) {
+      index.built = true;
+      for (TimeBucketScore tbs : timeBucketScores) {
+        index.add(tbs.getScore(), tbs.getTimeBucket());
+      }
+      for (HighestScore hs : highestScores) {
+        Slot slot = index.slots.get(hs.getScore());
+        if (slot != null && !slot.counted) {
+          index.count(slot);
+        }
+      }
+    }
+    return index;
+  }
+
   /**
    * Get the highest score in each time bucket
    * 
@@ -203,4 +267,204 @@ public class DailyScore {
   public List<HighestScore> getHighestScores() {
     return highestScores;
   }
+
+  /**
+   * Scores of one time bucket
+   */
+  private static class Bucket {
+    /**
+     * Scores by points, highest first, then in the order they were added
+     */
+    private static final Comparator<Slot> BY_POINTS = Comparator
+        .comparingInt((Slot slot) -> -slot.score.getPoints()).thenComparingLong(slot -> slot.order);
+
+    /**
+     * Bucket number
+     */
+    private final int number;
+
+    /**
+     * Scores in the bucket by points, highest first and the earliest added
+     * first among equal points, so removing one is O(log n)
+     */
+    private final TreeSet<Slot> scores = new TreeSet<>(BY_POINTS);
+
+    /**
+     * Highest score of the bucket
+     */
+    private Slot highest;
+
+    /**
+     * Create an empty bucket
+     *
+     * @param number Bucket number
+     */
+    private Bucket(int number) {
+      this.number = number;
+    }
+  }
+
+  /**
+   * A score in its bucket
+   */
+  private static class Slot {
+    /**
+     * Score
+     */
+    private final Score score;
+
+    /**
+     * Bucket of the score
+     */
+    private final Bucket bucket;
+
+    /**
+     * Order the score was added in
+     */
+    private final long order;
+
+    /**
+     * Whether the score is counted
+     */
+    private boolean counted;
+
+    /**
+     * Index a score
+     *
+     * @param score  Score
+     * @param bucket Bucket of the score
+     * @param order  Order the score was added in
+     */
+    private Slot(Score score, Bucket bucket, long order) {
+      this.score = score;
+      this.bucket = bucket;
+      this.order = order;
+    }
+  }
+
+  /**
+   * Index of the scores of a daily score. Keyed by the scores themselves, since
+   * saving the dog can swap the time bucket and highest score entities in the
+   * stored lists for merged copies. Score has no hashCode, so the scores are
+   * keyed by identity; the persistence context keeps one instance per row.
+   */
+  private static class ScoreIndex {
+    /**
+     * Buckets by number, see {@link #position(int)}. Null where a bucket has no
+     * scores
+     */
+    private Bucket[] buckets = new Bucket[16];
+
+    /**
+     * Slot of each score
+     */
+    private final Map<Score, Slot> slots = new IdentityHashMap<>();
+
+    /**
+     * Counted scores by time, in the order they were counted
+     */
+    private final TreeMap<LocalTime, List<Score>> byTime = new TreeMap<>();
+
+    /**
+     * Scores added so far, orders the scores of a bucket with equal points
+     */
+    private long added;
+
+    /**
+     * Whether the index was built from the stored lists
+     */
+    private boolean built;
+
+    /**
+     * Index a score in its bucket
+     *
+     * @param score  Score
+     * @param bucket Time bucket
+     * @return Slot of the score
+     */
+    private Slot add(Score score, int bucket) {
+      int position = position(bucket);
+      if (position >= buckets.length) {
+        buckets = Arrays.copyOf(buckets, Math.max(position + 1, buckets.length * 2));
+      }
+      Bucket entry = buckets[position];
+      if (entry == null) {
+        entry = new Bucket(bucket);
+        buckets[position] = entry;
+      }
+      Slot slot = new Slot(score, entry, added++);
+      entry.scores.add(slot);
+      slots.put(score, slot);
+      return slot;
+    }
+
+    /**
+     * Remove a score from its bucket, dropping the bucket once empty
+     *
+     * @param score Score
+     * @return Slot of the score, null if it was not indexed
+     */
+    private Slot remove(Score score) {
+      Slot slot = slots.remove(score);
+      if (slot != null) {
+        slot.bucket.scores.remove(slot);
+        if (slot.bucket.scores.isEmpty()) {
+          buckets[position(slot.bucket.number)] = null;
+        }
+      }
+      return slot;
+    }
+
+    /**
+     * Index a score as counted
+     *
+     * @param slot Slot of the score
+     */
+    private void count(Slot slot) {
+      slot.counted = true;
+      byTime.computeIfAbsent(slot.score.getTime(), t -> new ArrayList<>()).add(slot.score);
+      slot.bucket.highest = slot;
+    }
+
+    /**
+     * Index a score as no longer counted
+     *
+     * @param slot Slot of the score
+     */
+    private void uncount(Slot slot) {
+      slot.counted = false;
+      List<Score> atTime = byTime.get(slot.score.getTime());
+      atTime.remove(slot.score);
+      if (atTime.isEmpty()) {
+        byTime.remove(slot.score.getTime());
+      }
+      if (slot.bucket.highest == slot) {
+        slot.bucket.highest = null;
+      }
+    }
+
+    /**
+     * Position of a bucket in the array. Crosses cannot be entered before the
+     * start time, so buckets are numbered from 0, but scores replayed against
+     * a start time changed since may fall in negative buckets. Those take the
+     * odd positions.
+     *
+     * @param bucket Bucket number
+     * @return Position
+     */
+    private static int position(int bucket) {
+      return bucket >= 0 ? 2 * bucket : -2 * bucket - 1;
+    }
+
+    /**
+     * Forget everything indexed
+     */
+    private void clear() {
+      Arrays.fill(buckets, null);
+      slots.clear();
+      byTime.clear();
+      added = 0;
+      built = false;
+    }
+  }
 }
@@ -8,8 +8,12 @@ import com.trackhounds.trackhounds.Enums.StakeType;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderColumn;
 import jakarta.persistence.Table;
@@ -22,6 +26,13 @@ import lombok.Setter;
 @Getter
 @Setter
 @Table(name = "dogs")
+@EntityListeners(DogEntityListener.class)
+@NamedEntityGraph(name = DogEntity.STANDINGS_GRAPH,
+    attributeNodes = @NamedAttributeNode(value = "scores", subgraph = "scores"),
+    subgraphs = {
+        @NamedSubgraph(name = "scores", attributeNodes = { @NamedAttributeNode("day"),
+            @NamedAttributeNode(value = "highestScores", subgraph = "highestScores") }),
+        @NamedSubgraph(name = "highestScores", attributeNodes = @NamedAttributeNode("score")) })
 @AllArgsConstructor
 @NoArgsConstructor
 /**
@@ -30,6 +41,12 @@ import lombok.Setter;
  */
 public class DogEntity {
 
+  /**
+   * Entity graph loading the daily scores with their days and highest scores,
+   * everything the standings need
+   */
+  public static final String STANDINGS_GRAPH = "DogEntity.standings";
+
   /**
    * Number of the dog, unique id
    */
@@ -69,7 +86,7 @@ public class DogEntity {
   /**
    * List of Daily Scores for the dog
    */
-  @OneToMany(mappedBy = "dog", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToMany(mappedBy = "dog", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @OrderColumn(name = "score_order")
   @JsonManagedReference
   private List<DailyScore> scores = new ArrayList<>();
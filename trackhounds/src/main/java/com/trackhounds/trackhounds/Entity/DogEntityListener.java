@@ -0,0 +1,37 @@
+package com.trackhounds.trackhounds.Entity;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.trackhounds.trackhounds.Service.StandingsService;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Entity listener that keeps the in-memory standings honest when a dog is
+ * written without going through DogService (e.g. the data-rest repositories).
+ */
+public class DogEntityListener {
+
+    /**
+     * Standings service, resolved lazily to avoid a cycle with the
+     * EntityManagerFactory
+     */
+    @Autowired
+    private ObjectProvider<StandingsService> standingsService;
+
+    /**
+     * Flag the dog as dirty in the standings
+     *
+     * @param dog Dog being written
+     */
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    public void onChange(DogEntity dog) {
+        if (standingsService != null)
+            standingsService.ifAvailable(s -> s.markDirty(dog.getNumber()));
+    }
+}
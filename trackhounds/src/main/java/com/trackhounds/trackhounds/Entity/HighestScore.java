@@ -6,13 +6,19 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_highest_score_daily_bucket", columnList = "daily_score_id, time_bucket"),
+    @Index(name = "idx_highest_score_score", columnList = "score_id") })
 @Getter
 @Setter
 @AllArgsConstructor
@@ -25,7 +31,8 @@ public class HighestScore {
      * Unique Id
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "highest_score_seq")
+    @SequenceGenerator(name = "highest_score_seq", sequenceName = "highest_score_seq", allocationSize = 50)
     private Long id;
     /**
      * Time bucket of the highest score
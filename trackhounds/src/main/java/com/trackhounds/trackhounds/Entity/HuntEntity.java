@@ -3,6 +3,7 @@ package com.trackhounds.trackhounds.Entity;
 import com.trackhounds.trackhounds.Enums.StakeType;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -23,6 +24,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "hunt_entity")
+@EntityListeners(HuntEntityListener.class)
 public class HuntEntity {
     /**
      * The id of the hunt.
@@ -0,0 +1,37 @@
+package com.trackhounds.trackhounds.Entity;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.trackhounds.trackhounds.Service.HuntConfigService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Entity listener that drops the cached hunt configuration whenever a hunt is
+ * written, including writes that bypass HuntService.
+ */
+public class HuntEntityListener {
+
+    /**
+     * Hunt configuration service, resolved lazily to avoid a cycle with the
+     * EntityManagerFactory
+     */
+    @Autowired
+    private ObjectProvider<HuntConfigService> huntConfigService;
+
+    /**
+     * Invalidate the cached hunt configuration
+     *
+     * @param hunt Hunt being written
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(HuntEntity hunt) {
+        if (huntConfigService != null)
+            huntConfigService.ifAvailable(HuntConfigService::invalidate);
+    }
+}
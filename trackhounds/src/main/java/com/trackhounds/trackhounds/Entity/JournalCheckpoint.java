@@ -0,0 +1,37 @@
+package com.trackhounds.trackhounds.Entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+/**
+ * Last score journal entry written to the database. Saved in the same
+ * transaction as the scores of the entry, so a replay after a restart never
+ * applies an entry twice.
+ */
+public class JournalCheckpoint {
+
+    /**
+     * Id of the single checkpoint row
+     */
+    public static final int ID = 1;
+
+    /**
+     * Unique Id, always {@link #ID}
+     */
+    @Id
+    private int id;
+
+    /**
+     * Sequence number of the last entry written
+     */
+    private long seq;
+}
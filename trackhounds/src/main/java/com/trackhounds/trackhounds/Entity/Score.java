@@ -6,12 +6,19 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_score_dog_day_time", columnList = "dog_number, day, time"),
+    @Index(name = "idx_score_judge_day_time", columnList = "judge_number, day, time"),
+    @Index(name = "idx_score_day_time", columnList = "day, time") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,7 +32,8 @@ public class Score {
    * Unique Id
    */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "score_seq")
+  @SequenceGenerator(name = "score_seq", sequenceName = "score_seq", allocationSize = 50)
   private Long id;
   /**
    * Points awarded
@@ -0,0 +1,128 @@
+package com.trackhounds.trackhounds.Entity;
+
+import java.time.LocalTime;
+
+import com.trackhounds.trackhounds.Enums.ScoreEventType;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+/**
+ * Entry of the append-only score log. The daily scores and dog totals are
+ * projections of these events, replayed in id order.
+ */
+public class ScoreEvent {
+
+    /**
+     * Unique Id, increasing in the order the events happened
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "score_event_seq")
+    @SequenceGenerator(name = "score_event_seq", sequenceName = "score_event_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Kind of event
+     */
+    @Enumerated(EnumType.STRING)
+    private ScoreEventType type;
+
+    /**
+     * Number of the dog, 0 for hunt events
+     */
+    private int dogNumber;
+
+    /**
+     * Id of the score added or removed
+     */
+    private Long scoreId;
+
+    /**
+     * Day of the cross
+     */
+    private int day;
+
+    /**
+     * Points of the dog in the cross
+     */
+    private int points;
+
+    /**
+     * Time of the cross or scratch
+     */
+    private LocalTime time;
+
+    /**
+     * Start time of the day the cross was entered with
+     */
+    private LocalTime startTime;
+
+    /**
+     * Number of the judge
+     */
+    private int judgeNumber;
+
+    /**
+     * Interval the cross was entered with, or the new hunt interval
+     */
+    private int huntInterval;
+
+    /**
+     * Event of a score being added
+     *
+     * @param score     Saved score
+     * @param startTime Start time of the day
+     * @param interval  Interval of the cross
+     * @return Event
+     */
+    public static ScoreEvent crossAdded(Score score, LocalTime startTime, int interval) {
+        return new ScoreEvent(null, ScoreEventType.CROSS_ADDED, score.getDogNumber(), score.getId(), score.getDay(),
+                score.getPoints(), score.getTime(), startTime, score.getJudgeNumber(), interval);
+    }
+
+    /**
+     * Event of a score being removed
+     *
+     * @param score Removed score
+     * @return Event
+     */
+    public static ScoreEvent crossRemoved(Score score) {
+        return new ScoreEvent(null, ScoreEventType.CROSS_REMOVED, score.getDogNumber(), score.getId(),
+                score.getDay(), score.getPoints(), score.getTime(), null, score.getJudgeNumber(), 0);
+    }
+
+    /**
+     * Event of a dog being scratched
+     *
+     * @param scratch Saved scratch
+     * @return Event
+     */
+    public static ScoreEvent dogScratched(Scratch scratch) {
+        return new ScoreEvent(null, ScoreEventType.DOG_SCRATCHED, scratch.getDogNumber(), null, 0, 0,
+                scratch.getTime(), null, scratch.getJudgeNumber(), 0);
+    }
+
+    /**
+     * Event of every score being bucketed again under a new hunt interval
+     *
+     * @param interval New interval in minutes
+     * @return Event
+     */
+    public static ScoreEvent intervalChanged(int interval) {
+        return new ScoreEvent(null, ScoreEventType.INTERVAL_CHANGED, 0, null, 0, 0, null, null, 0, interval);
+    }
+}
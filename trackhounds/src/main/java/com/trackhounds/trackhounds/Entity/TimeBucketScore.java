@@ -7,13 +7,19 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_time_bucket_score_daily_bucket", columnList = "daily_score_id, time_bucket"),
+    @Index(name = "idx_time_bucket_score_score", columnList = "score_id") })
 @Getter
 @Setter
 @AllArgsConstructor
@@ -26,7 +32,8 @@ public class TimeBucketScore {
      * Unique Id
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "time_bucket_score_seq")
+    @SequenceGenerator(name = "time_bucket_score_seq", sequenceName = "time_bucket_score_seq", allocationSize = 50)
     private Long id;
     /**
      * Time bucket (interval)
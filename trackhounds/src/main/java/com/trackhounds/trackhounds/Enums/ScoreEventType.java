@@ -0,0 +1,11 @@
+package com.trackhounds.trackhounds.Enums;
+
+/**
+ * Enum for the kinds of events in the score log.
+ */
+public enum ScoreEventType {
+    CROSS_ADDED,
+    CROSS_REMOVED,
+    DOG_SCRATCHED,
+    INTERVAL_CHANGED,
+}
@@ -1,14 +1,39 @@
 package com.trackhounds.trackhounds.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.trackhounds.trackhounds.Dto.DailyStandingView;
 import com.trackhounds.trackhounds.Entity.DailyScore;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository for DailyScores
  */
 public interface DailyScoreRepository extends JpaRepository<DailyScore, Integer> {
     List<DailyScore> findAllByDayDay(int day);
+
+    /**
+     * Find the daily standings of a day in leaderboard order. The time bucket of
+     * the last cross only grows with its time on a day, so ordering by the time
+     * gives the same order as the bucket then the time.
+     * 
+     * @param day Day number
+     * @return Daily standings of every dog with a score entry on the day, to be
+     *         closed inside the transaction
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("select d.number as number, d.name as name, d.owner as owner, d.sire as sire, d.dam as dam, "
+            + "d.stake as stake, s.dailyScore as dailyScore, s.lastCross as lastCross, "
+            + "s.associatedPoints as associatedPoints "
+            + "from DailyScore s join s.dog d where s.day.day = :day "
+            + "order by s.dailyScore desc, s.lastCross desc, s.associatedPoints desc, d.number asc")
+    Stream<DailyStandingView> streamDailyStandings(int day);
 }
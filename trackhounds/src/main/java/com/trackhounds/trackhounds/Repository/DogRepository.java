@@ -1,7 +1,13 @@
 package com.trackhounds.trackhounds.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import com.trackhounds.trackhounds.Dto.DogStakeView;
+import com.trackhounds.trackhounds.Dto.DogSummary;
 import com.trackhounds.trackhounds.Entity.DogEntity;
 
 /**
@@ -9,4 +15,26 @@ import com.trackhounds.trackhounds.Entity.DogEntity;
  */
 public interface DogRepository extends JpaRepository<DogEntity, Integer> {
 
+    /**
+     * Find all dogs without their scores, ordered by number
+     * 
+     * @return List of dog summaries
+     */
+    List<DogSummary> findSummariesByOrderByNumberAsc();
+
+    /**
+     * Find the number and stake of the given dogs
+     * 
+     * @param numbers Numbers of the dogs
+     * @return List of dog stakes
+     */
+    List<DogStakeView> findStakesByNumberIn(Collection<Integer> numbers);
+
+    /**
+     * Find the number of every dog, without loading the dogs
+     * 
+     * @return List of dog numbers
+     */
+    @Query("select d.number from DogEntity d")
+    List<Integer> findAllNumbers();
 }
@@ -0,0 +1,12 @@
+package com.trackhounds.trackhounds.Repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.trackhounds.trackhounds.Entity.JournalCheckpoint;
+
+/**
+ * Repository for the score journal checkpoint
+ */
+public interface JournalCheckpointRepository extends JpaRepository<JournalCheckpoint, Integer> {
+
+}
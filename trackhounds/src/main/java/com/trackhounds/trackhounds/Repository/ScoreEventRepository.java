@@ -0,0 +1,20 @@
+package com.trackhounds.trackhounds.Repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.trackhounds.trackhounds.Entity.ScoreEvent;
+
+/**
+ * Repository for the score log
+ */
+public interface ScoreEventRepository extends JpaRepository<ScoreEvent, Long> {
+
+    /**
+     * Find every event in the order it happened
+     *
+     * @return Score log
+     */
+    List<ScoreEvent> findAllByOrderByIdAsc();
+}
@@ -1,11 +1,16 @@
 package com.trackhounds.trackhounds.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.trackhounds.trackhounds.Entity.Score;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository for Individual Scores
  */
@@ -18,6 +23,16 @@ public interface ScoreRepository extends JpaRepository<Score, Long> {
      */
     List<Score> findAllByOrderByDayAscTimeAsc();
 
+    /**
+     * Stream all scores ordered by day ascending, then time ascending, fetching
+     * them from the database in chunks
+     * 
+     * @return Stream of scores, to be closed inside the transaction
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    Stream<Score> streamAllByOrderByDayAscTimeAsc();
+
     /**
      * Find all scores for a given dog, ordered by day and time
      * 
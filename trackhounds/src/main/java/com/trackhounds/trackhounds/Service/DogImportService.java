@@ -0,0 +1,237 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Exception.TrackHoundsAPIException;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Imports entry lists of dogs from CSV or JSON. The body is read one row at a
+ * time, then every row is validated and created together, so an entry list
+ * with an error creates no dogs.
+ */
+@Service
+public class DogImportService {
+
+    /**
+     * CSV media type
+     */
+    public static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    /**
+     * Dog Service
+     */
+    @Autowired
+    private DogService dogService;
+
+    /**
+     * JSON mapper of the application
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Import an entry list
+     *
+     * @param body Entry list, a CSV with a header row or a JSON array of dogs
+     * @param type Media type of the body
+     * @return Number of dogs created
+     * @throws IOException             if the body cannot be read
+     * @throws TrackHoundsAPIException if the body is malformed or any row is
+     *                                 invalid, with errors by field and row
+     */
+    @Timed(value = "trackhounds.dogs.import", description = "Importing an entry list")
+    public int importDogs(InputStream body, MediaType type) throws IOException {
+        Map<String, String> errs = new HashMap<>();
+        List<DogEntity> dogs = TEXT_CSV.isCompatibleWith(type) ? readCsv(body, type, errs) : readJson(body, errs);
+        return dogService.createDogs(dogs, errs);
+    }
+
+    /**
+     * Read a JSON array of dogs. A row that does not map onto a dog is reported
+     * on the field that failed.
+     *
+     * @param body JSON array
+     * @param errs Errors by field and row
+     * @return Dogs by row
+     * @throws IOException if the body cannot be read
+     */
+    private List<DogEntity> readJson(InputStream body, Map<String, String> errs) throws IOException {
+        List<DogEntity> dogs = new ArrayList<>();
+        try (MappingIterator<JsonNode> rows = objectMapper.readerFor(JsonNode.class).readValues(body)) {
+            while (rows.hasNextValue()) {
+                JsonNode row = rows.nextValue();
+                dogs.add(row == null || row.isNull() ? null : toDog(row, dogs.size() + 1, errs));
+            }
+        } catch (JsonProcessingException e) {
+            throw new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Malformed entry list.",
+                    Map.of("body", e.getOriginalMessage()));
+        }
+        return dogs;
+    }
+
+    /**
+     * Map a JSON row onto a dog. A field that does not map is reported and
+     * left out, so the rest of the row is still validated.
+     *
+     * @param row  JSON row
+     * @param i    Row number, from 1
+     * @param errs Errors by field and row
+     * @return Dog
+     */
+    private DogEntity toDog(JsonNode row, int i, Map<String, String> errs) {
+        try {
+            return objectMapper.treeToValue(row, DogEntity.class);
+        } catch (JsonProcessingException e) {
+            String field = e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()
+                    ? mapping.getPath().get(0).getFieldName()
+                    : null;
+            errs.putIfAbsent(String.format("%s%d", field == null ? "row" : field, i), "Invalid value.");
+            if (field != null && row instanceof ObjectNode object && object.remove(field) != null)
+                return toDog(object, i, errs);
+            return new DogEntity();
+        }
+    }
+
+    /**
+     * Read a CSV entry list. The header row names the columns, number, name and
+     * stake are required, owner, sire and dam are optional.
+     *
+     * @param body CSV
+     * @param type Media type, for its charset
+     * @param errs Errors by field and row
+     * @return Dogs by row
+     * @throws IOException if the body cannot be read
+     */
+    private static List<DogEntity> readCsv(InputStream body, MediaType type, Map<String, String> errs)
+            throws IOException {
+        Charset charset = type.getCharset() == null ? StandardCharsets.UTF_8 : type.getCharset();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+        List<String> header = readRecord(reader);
+        Map<String, Integer> columns = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++)
+                columns.put(header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("number") || !columns.containsKey("name") || !columns.containsKey("stake"))
+            throw new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Malformed entry list.",
+                    Map.of("header", "Header row must name the number, name and stake columns."));
+        List<DogEntity> dogs = new ArrayList<>();
+        List<String> record;
+        while ((record = readRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank())
+                continue;
+            int row = dogs.size() + 1;
+            DogEntity dog = new DogEntity();
+            String number = field(record, columns, "number");
+            if (number != null) {
+                try {
+                    dog.setNumber(Integer.parseInt(number));
+                } catch (NumberFormatException e) {
+                    errs.put(String.format("number%d", row), "Dog number must be a whole number.");
+                }
+            }
+            dog.setName(field(record, columns, "name"));
+            String stake = field(record, columns, "stake");
+            if (stake != null) {
+                try {
+                    dog.setStake(StakeType.valueOf(
+                            stake.toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_')));
+                } catch (IllegalArgumentException e) {
+                    errs.put(String.format("stake%d", row), "Unknown stake type.");
+                }
+            }
+            dog.setOwner(field(record, columns, "owner"));
+            dog.setSire(field(record, columns, "sire"));
+            dog.setDam(field(record, columns, "dam"));
+            dogs.add(dog);
+        }
+        return dogs;
+    }
+
+    /**
+     * Trimmed value of a column in a record
+     *
+     * @param record  Record
+     * @param columns Column indexes by name
+     * @param name    Column name
+     * @return Value, null if the column is missing or the value is blank
+     */
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer column = columns.get(name);
+        if (column == null || column >= record.size())
+            return null;
+        String value = record.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Read the next CSV record. Fields may be quoted, a quoted field may hold
+     * commas, line breaks and doubled quotes.
+     *
+     * @param reader Reader positioned at the start of a record
+     * @return Fields of the record, null at the end of the input
+     * @throws IOException if the input cannot be read
+     */
+    private static List<String> readRecord(BufferedReader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int c = reader.read();
+        if (c == -1)
+            return null;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1)
+                            reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,67 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Striped locks keyed by dog number. Writes that read a dog, change its scores
+ * and save it hold the locks of their dogs until they commit, so writes to the
+ * same dog run one after the other while writes to other dogs run in parallel.
+ */
+@Component
+public class DogLocks {
+
+    /**
+     * Lock stripes, a dog uses the stripe of its number
+     */
+    private final ReentrantLock[] stripes;
+
+    /**
+     * Create the stripes
+     *
+     * @param stripes Number of stripes
+     */
+    public DogLocks(@Value("${trackhounds.dog-locks.stripes:64}") int stripes) {
+        this.stripes = new ReentrantLock[Math.max(1, stripes)];
+        for (int i = 0; i < this.stripes.length; i++)
+            this.stripes[i] = new ReentrantLock();
+    }
+
+    /**
+     * Run work while holding the locks of a group of dogs. Stripes are taken in
+     * ascending order so two groups sharing dogs cannot deadlock.
+     *
+     * @param <T>     Result type
+     * @param numbers Numbers of the dogs
+     * @param work    Work to run
+     * @return Result of the work
+     */
+    public <T> T withDogs(Collection<Integer> numbers, Supplier<T> work) {
+        TreeSet<Integer> held = new TreeSet<>();
+        for (Integer number : numbers)
+            held.add(stripe(number));
+        for (int stripe : held)
+            stripes[stripe].lock();
+        try {
+            return work.get();
+        } finally {
+            for (int stripe : held.descendingSet())
+                stripes[stripe].unlock();
+        }
+    }
+
+    /**
+     * Stripe of a dog
+     *
+     * @param number Number of the dog
+     * @return Stripe index
+     */
+    private int stripe(int number) {
+        return Math.floorMod(number, stripes.length);
+    }
+}
@@ -2,34 +2,64 @@ package com.trackhounds.trackhounds.Service;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.trackhounds.trackhounds.Dto.DailyLeaderboardEntry;
+import com.trackhounds.trackhounds.Dto.DailyStandingView;
+import com.trackhounds.trackhounds.Dto.DogStakeView;
+import com.trackhounds.trackhounds.Dto.DogStanding;
+import com.trackhounds.trackhounds.Dto.DogSummary;
+import com.trackhounds.trackhounds.Dto.HuntConfig;
+import com.trackhounds.trackhounds.Dto.LeaderboardRow;
+import com.trackhounds.trackhounds.Dto.OverallLeaderboardEntry;
 import com.trackhounds.trackhounds.Dto.ScoreDto;
 import com.trackhounds.trackhounds.Entity.DailyScore;
 import com.trackhounds.trackhounds.Entity.Days;
 import com.trackhounds.trackhounds.Entity.DogEntity;
-import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Entity.JournalCheckpoint;
 import com.trackhounds.trackhounds.Entity.JudgeEntity;
 import com.trackhounds.trackhounds.Entity.Score;
+import com.trackhounds.trackhounds.Entity.ScoreEvent;
 import com.trackhounds.trackhounds.Entity.Scratch;
 import com.trackhounds.trackhounds.Enums.StakeType;
 import com.trackhounds.trackhounds.Exception.TrackHoundsAPIException;
 import com.trackhounds.trackhounds.Repository.DailyScoreRepository;
 import com.trackhounds.trackhounds.Repository.DaysRepository;
 import com.trackhounds.trackhounds.Repository.DogRepository;
-import com.trackhounds.trackhounds.Repository.HuntRepository;
+import com.trackhounds.trackhounds.Repository.JournalCheckpointRepository;
 import com.trackhounds.trackhounds.Repository.JudgeRepository;
+import com.trackhounds.trackhounds.Repository.ScoreEventRepository;
 import com.trackhounds.trackhounds.Repository.ScoreRepository;
 import com.trackhounds.trackhounds.Repository.ScratchRepository;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 import lombok.AllArgsConstructor;
 
 @Service
@@ -76,54 +106,174 @@ public class DogService {
   private ScratchRepository scratchRepository;
 
   /**
-   * Hunt Repository
+   * Hunt configuration
+   */
+  @Autowired
+  private HuntConfigService huntConfigService;
+
+  /**
+   * Standings Service
+   */
+  @Autowired
+  private StandingsService standingsService;
+
+  /**
+   * Meter registry for the score counters
    */
   @Autowired
-  private HuntRepository huntRepository;
+  private MeterRegistry meterRegistry;
+
+  /**
+   * Entity manager of the current transaction
+   */
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Per dog locks held by dog writes until they commit
+   */
+  @Autowired
+  private DogLocks dogLocks;
+
+  /**
+   * Transactions of the dog writes, which start once the dog locks are held
+   */
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  /**
+   * Journal of crosses written behind, when enabled
+   */
+  @Autowired
+  private ScoreJournal scoreJournal;
+
+  /**
+   * Journal Checkpoint Repository
+   */
+  @Autowired
+  private JournalCheckpointRepository checkpointRepository;
+
+  /**
+   * Score Event Repository, the append-only score log
+   */
+  @Autowired
+  private ScoreEventRepository scoreEventRepository;
+
+  /**
+   * Attempts at a dog write whose commit hit a constraint, such as two
+   * judges creating the row of the same new day
+   */
+  private static final int WRITE_ATTEMPTS = 3;
+
+  /**
+   * Dogs persisted per flush when a group of dogs is created
+   */
+  private static final int INSERT_BATCH_SIZE = 500;
 
   /**
    * Create a group of dogs
    * 
    * @param dogs List of dogs to create
    * @throws TrackHoundsAPIException if dog number is not specified, dog with
-   *                                 matching number already exists, name is
-   *                                 empty,
+   *                                 matching number already exists or is
+   *                                 entered twice, name is empty,
    *                                 stake is null.
    */
+  @Transactional
   public void createDogs(List<DogEntity> dogs) {
-    Map<String, String> errs = new HashMap<>();
-    if (dogs == null || dogs.size() == 0) {
-      return;
+    createDogs(dogs, new HashMap<>());
+  }
+
+  /**
+   * Create a group of dogs, such as an imported entry list. The taken numbers
+   * are read in one query, the rows are validated in parallel and the dogs are
+   * persisted in JDBC batches.
+   * 
+   * @param dogs List of dogs to create, by row
+   * @param errs Errors already found while reading the rows, by field and row
+   * @return Number of dogs created
+   * @throws TrackHoundsAPIException if any row has an error
+   */
+  @Transactional
+  public int createDogs(List<DogEntity> dogs, Map<String, String> errs) {
+    if (dogs == null)
+      dogs = List.of();
+    BitSet existing = new BitSet();
+    if (!dogs.isEmpty()) {
+      for (int number : dogRepository.findAllNumbers()) {
+        if (number > 0)
+          existing.set(number);
+      }
     }
-    for (int i = 0; i < dogs.size(); i++) {
-      DogEntity d = dogs.get(i);
-      if (d == null)
+    Map<String, String> found = new ConcurrentHashMap<>();
+    List<DogEntity> rows = dogs;
+    IntStream.range(0, rows.size()).parallel().forEach(i -> validateDog(rows.get(i), i + 1, existing, found));
+    // Only the first row with a free number keeps it, so duplicates are
+    // checked in row order
+    BitSet entered = new BitSet();
+    for (int i = 0; i < rows.size(); i++) {
+      DogEntity d = rows.get(i);
+      if (d == null || d.getNumber() <= 0 || existing.get(d.getNumber()))
         continue;
-      if (dogRepository.existsById(d.getNumber())) {
-        errs.put(String.format("number%d", i + 1), "Existing dog with matching number.");
-      } else if (d.getNumber() == 0) {
-        errs.put(String.format("number%d", i + 1), "Dog number not specified.");
-      } else if (d.getNumber() < 0) {
-        errs.put(String.format("number%d", i + 1), "Dog number cannot be negative.");
-      }
-      if (d.getName() == null || d.getName().isEmpty())
-        errs.put(String.format("name%d", i + 1), "Name cannot be empty.");
-      if (d.getStake() == null)
-        errs.put(String.format("stake%d", i + 1), "Stake type cannot be null.");
+      if (entered.get(d.getNumber()))
+        found.put(String.format("number%d", i + 1), "Dog number entered twice.");
+      entered.set(d.getNumber());
     }
+    found.forEach(errs::putIfAbsent);
     if (errs.size() > 0)
       throw new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Invalid Fields", errs);
-    dogRepository.saveAll(dogs);
+    // The numbers are known to be free, so the dogs are persisted without the
+    // select saving an assigned id runs, and Hibernate sends the inserts in
+    // JDBC batches. Each group is flushed and detached to keep the
+    // persistence context small
+    List<DogEntity> created = rows.stream().filter(d -> d != null).toList();
+    for (int from = 0; from < created.size(); from += INSERT_BATCH_SIZE) {
+      List<DogEntity> batch = created.subList(from, Math.min(created.size(), from + INSERT_BATCH_SIZE));
+      batch.forEach(entityManager::persist);
+      entityManager.flush();
+      batch.forEach(entityManager::detach);
+    }
+    for (DogEntity dog : created)
+      standingsService.update(dog);
+    return created.size();
+  }
+
+  /**
+   * Check the fields of a new dog
+   * 
+   * @param d        Dog
+   * @param row      Row of the dog, from 1
+   * @param existing Numbers already taken
+   * @param errs     Errors by field and row
+   */
+  private static void validateDog(DogEntity d, int row, BitSet existing, Map<String, String> errs) {
+    if (d == null)
+      return;
+    if (d.getNumber() > 0 && existing.get(d.getNumber())) {
+      errs.put(String.format("number%d", row), "Existing dog with matching number.");
+    } else if (d.getNumber() == 0) {
+      errs.put(String.format("number%d", row), "Dog number not specified.");
+    } else if (d.getNumber() < 0) {
+      errs.put(String.format("number%d", row), "Dog number cannot be negative.");
+    }
+    if (d.getName() == null || d.getName().isEmpty())
+      errs.put(String.format("name%d", row), "Name cannot be empty.");
+    if (d.getStake() == null)
+      errs.put(String.format("stake%d", row), "Stake type cannot be null.");
   }
 
   /**
    * Delete a dog by number
    * 
    * @param number Number of dog
+   * @return remaining dogs
    */
-  public List<DogEntity> deleteDog(int number) {
-    dogRepository.deleteById(number);
-    return dogRepository.findAll();
+  public List<DogSummary> deleteDog(int number) {
+    writeDogs(List.of(number), () -> {
+      dogRepository.deleteById(number);
+      standingsService.remove(number);
+    });
+    return dogRepository.findSummariesByOrderByNumberAsc();
   }
 
   /**
@@ -135,6 +285,15 @@ public class DogService {
    *                                 or dog number is not specified
    */
   public void editDog(DogEntity dog) {
+    writeDogs(List.of(dog.getNumber()), () -> applyEdit(dog));
+  }
+
+  /**
+   * Edit a locked dog
+   * 
+   * @param dog Edited Dog
+   */
+  private void applyEdit(DogEntity dog) {
     DogEntity d = dogRepository.findById(dog.getNumber())
         .orElseThrow(() -> new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Dog with this number does not exist.",
             Map.of("number", "Dog with this number does not exist.")));
@@ -150,7 +309,7 @@ public class DogService {
     d.setDam(dog.getDam());
     d.setSire(dog.getSire());
     d.setStake(dog.getStake());
-    dogRepository.save(d);
+    standingsService.update(dogRepository.save(d));
   }
 
   /**
@@ -163,19 +322,13 @@ public class DogService {
   }
 
   /**
-   * Get a list of all dogs
+   * Get a list of all dogs without their scores
    * 
-   * @return all dogs
-   */
-  public List<DogEntity> getDogs() {
-    List<DogEntity> dogs = dogRepository.findAll();
-    for (DogEntity dog : dogs) {
-      // Calculate the total points for each dog
-      int totalPoints = calculateTotalPoints(dog);
-      dog.setPoints(totalPoints);
-    }
-    dogRepository.saveAll(dogs);
-    return dogs;
+   * @return all dogs, ordered by number
+   */
+  @Timed(value = "trackhounds.dogs.list", description = "Listing the dogs")
+  public List<DogSummary> getDogSummaries() {
+    return dogRepository.findSummariesByOrderByNumberAsc();
   }
 
   /**
@@ -183,25 +336,29 @@ public class DogService {
    * 
    * @return dogs in cross, with stake, and points
    */
+  @Timed(value = "trackhounds.cross.info", description = "Resolving the stakes and points of a cross")
   public List<Map<String, Object>> getCrossInfo(int[] numbers, int startingPoints, int interval, StakeType stakeType) {
     List<Map<String, Object>> crossInfo = new ArrayList<>();
     if (numbers == null || numbers.length == 0) {
       return crossInfo;
     }
-    if (huntRepository.count() == 0)
+    Optional<HuntConfig> huntConfig = huntConfigService.get();
+    if (huntConfig.isEmpty())
       return crossInfo;
-    HuntEntity hunt = huntRepository.findAll().get(0);
+    HuntConfig hunt = huntConfig.get();
+    Map<Integer, DogStakeView> dogs = new HashMap<>();
+    for (DogStakeView dog : dogRepository.findStakesByNumberIn(Arrays.stream(numbers).boxed().toList()))
+      dogs.put(dog.getNumber(), dog);
     if (stakeType != StakeType.DUAL) {
       for (int i = 0; i < numbers.length; i++) {
-        Optional<DogEntity> dogRetrieval = dogRepository.findById(numbers[i]);
+        DogStakeView dog = dogs.get(numbers[i]);
         Map<String, Object> dogInfo = new HashMap<>();
-        if (dogRetrieval.isEmpty()) {
+        if (dog == null) {
           dogInfo.put("dogNumber", numbers[i]);
           dogInfo.put("error", "Dog does not exist. Skipping.");
           crossInfo.add(dogInfo);
           continue;
         }
-        DogEntity dog = dogRetrieval.get();
         dogInfo.put("dogNumber", dog.getNumber());
         dogInfo.put("stake", dog.getStake());
         dogInfo.put("points", startingPoints - (interval * i));
@@ -211,9 +368,9 @@ public class DogService {
       int sp1 = startingPoints;
       int sp2 = startingPoints;
       for (int i = 0; i < numbers.length; i++) {
-        Optional<DogEntity> dogRetrieval = dogRepository.findById(numbers[i]);
+        DogStakeView dog = dogs.get(numbers[i]);
         Map<String, Object> dogInfo = new HashMap<>();
-        if (dogRetrieval.isEmpty()) {
+        if (dog == null) {
           dogInfo.put("dogNumber", numbers[i]);
           dogInfo.put("error", "Dog does not exist. Skipping.");
           crossInfo.add(dogInfo);
@@ -246,7 +403,6 @@ public class DogService {
           }
           continue;
         }
-        DogEntity dog = dogRetrieval.get();
         dogInfo.put("dogNumber", dog.getNumber());
         dogInfo.put("stake", dog.getStake());
         if (dog.getStake() == StakeType.ALL_AGE) {
@@ -264,19 +420,17 @@ public class DogService {
   }
 
   /**
-   * Calculate the total points for a dog
+   * Calculate the total points for a dog, refreshing each daily score in
+   * memory. The daily scores are persisted by the cascade when the dog is saved.
    * 
    * @param dog Dog to calculate points for
    * @return total points
    */
-  private int calculateTotalPoints(DogEntity dog) {
+  public static int calculateTotalPoints(DogEntity dog) {
     int totalPoints = 0;
-    List<DailyScore> scores = dog.getScores();
-    for (DailyScore dailyScore : scores) {
+    for (DailyScore dailyScore : dog.getScores()) {
       double toAdd = dailyScore.getHighestScores().stream().mapToInt(hs -> hs.getScore().getPoints()).sum();
       dailyScore.setDailyScore((int) toAdd);
-      dailyScoreRepository.save(dailyScore);
-      scores.set(dailyScore.getDay().getDay() - 1, dailyScore);
       toAdd += toAdd * (dailyScore.getDay().getDay() * .1);
       totalPoints += toAdd;
     }
@@ -291,13 +445,9 @@ public class DogService {
    * @return Dog with the specified number
    */
   public DogEntity getDogByNumber(int number) {
-    DogEntity dog = dogRepository.findById(number)
+    return dogRepository.findById(number)
         .orElseThrow(() -> new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Dog does not exist.",
             Map.of("number", "Dog does not exist with this number.")));
-    // Calculate the total points for the dog
-    int totalPoints = calculateTotalPoints(dog);
-    dog.setPoints(totalPoints);
-    return dog;
   }
 
   /**
@@ -308,6 +458,8 @@ public class DogService {
     daysRepository.deleteAll();
     scoreRepository.deleteAll();
     scratchRepository.deleteAll();
+    scoreEventRepository.deleteAll();
+    standingsService.reset();
   }
 
   /**
@@ -322,17 +474,58 @@ public class DogService {
    *                                 cross time is before
    *                                 start time.
    */
+  @Timed(value = "trackhounds.scores.create", description = "Validating and applying crosses")
   public void createScore(ScoreDto score) {
+    Map<String, String> errs = validateScore(score, judgeRepository.existsById(score.getJudge()));
+    if (errs.size() > 0)
+      throw new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Invalid Fields", errs);
+    applyLocked(List.of(score));
+  }
+
+  /**
+   * Create a batch of scores in a single transaction. Every cross is validated
+   * before any of them are applied.
+   * 
+   * @param crosses Scores to create, in the order they were entered
+   * @throws TrackHoundsAPIException if any cross is invalid, fields are prefixed
+   *                                 with cross%d.
+   */
+  @Timed(value = "trackhounds.scores.create", description = "Validating and applying crosses")
+  public void createScores(List<ScoreDto> crosses) {
+    if (crosses == null || crosses.size() == 0)
+      return;
+    Set<Integer> judges = judgeRepository
+        .findAllById(crosses.stream().map(ScoreDto::getJudge).collect(Collectors.toSet()))
+        .stream().map(JudgeEntity::getNumber).collect(Collectors.toSet());
+    Map<String, String> errs = new HashMap<>();
+    for (int i = 0; i < crosses.size(); i++) {
+      final int cross = i + 1;
+      validateScore(crosses.get(i), judges.contains(crosses.get(i).getJudge()))
+          .forEach((field, message) -> errs.put(String.format("cross%d.%s", cross, field), message));
+    }
+    if (errs.size() > 0)
+      throw new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Invalid Fields", errs);
+    applyLocked(crosses);
+  }
+
+  /**
+   * Validate the fields of a score
+   * 
+   * @param score       Score to validate
+   * @param judgeExists Whether the judge of the score exists
+   * @return Map of invalid fields, empty if the score is valid
+   */
+  private Map<String, String> validateScore(ScoreDto score, boolean judgeExists) {
     Map<String, String> errs = new HashMap<>();
-    if (judgeRepository.findById(score.getJudge()).isEmpty())
+    if (!judgeExists)
       errs.put("judge", "Judge does not exist.");
     if (score.getDogNumbers() == null || score.getDogNumbers().length == 0)
       errs.put("dogNumbers", "Dog numbers cannot be empty.");
     if (score.getScores() == null || score.getScores().length == 0)
       errs.put("scores", "Scores cannot be empty.");
-    if (score.getDogNumbers().length != score.getScores().length)
+    else if (score.getDogNumbers() == null || score.getDogNumbers().length != score.getScores().length)
       errs.put("scores", "Scores and dog numbers do not match.");
-    for (int i = 0; i < score.getScores().length; i++) {
+    for (int i = 0; score.getScores() != null && i < score.getScores().length; i++) {
       if (score.getScores()[i] < 0)
         errs.put(String.format("scores%d", i), "Score cannot be negative.");
     }
@@ -354,43 +547,159 @@ public class DogService {
     }
     if (crossTime != null && startTime != null && crossTime.isBefore(startTime))
       errs.put("crossTime", "Cross time cannot be before start time.");
+    return errs;
+  }
 
-    if (errs.size() > 0)
-      throw new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Invalid Fields", errs);
+  /**
+   * Apply validated scores while holding the locks of their dogs. With the
+   * score journal enabled they are journaled instead and saved later by
+   * {@link #saveJournaled(List)}.
+   * 
+   * @param crosses Validated scores
+   */
+  private void applyLocked(List<ScoreDto> crosses) {
+    if (scoreJournal.isEnabled()) {
+      scoreJournal.append(crosses);
+      return;
+    }
+    int created = dogLocks.withDogs(dogNumbers(crosses),
+        () -> inTransaction(() -> applyScores(crosses, standingsService::update)));
+    meterRegistry.counter("trackhounds.scores.created").increment(created);
+  }
 
-    Days day = daysRepository.findById(score.getDay()).orElse(new Days(score.getDay(), startTime));
-    if (day.getStartTime() == null)
-      day.setStartTime(startTime);
-    day = daysRepository.save(day);
-    for (int i = 0; i < score.getDogNumbers().length; i++) {
-      Optional<DogEntity> dogRetrieval = dogRepository.findById(score.getDogNumbers()[i]);
-      if (dogRetrieval.isEmpty())
-        continue;
-      DogEntity dog = dogRetrieval.get();
-      List<DailyScore> scores = dog.getScores();
-      if (scores.size() < score.getDay()) {
-        for (int j = scores.size(); j < score.getDay(); j++) {
-          final int dayIndex = j + 1;
-          Days d = daysRepository.findByDay(dayIndex).orElseGet(() -> {
-            Days newDay = new Days(dayIndex, null);
-            return daysRepository.save(newDay);
-          });
-          DailyScore dailyScore = new DailyScore(d, dog);
-          dailyScore = dailyScoreRepository.save(dailyScore);
-          dog.getScores().add(dailyScore);
+  /**
+   * Save a batch of journaled scores together with the journal checkpoint, so
+   * a replay after a crash skips exactly the batches already saved. The
+   * standings replace the journaled overlay once the batch commits.
+   * 
+   * @param entries Journal entries, in journal order
+   */
+  public void saveJournaled(List<ScoreJournal.Entry> entries) {
+    List<ScoreDto> crosses = entries.stream().map(ScoreJournal.Entry::getCross).toList();
+    long through = entries.get(entries.size() - 1).getSeq();
+    List<DogStanding> saved = new ArrayList<>();
+    int created = dogLocks.withDogs(dogNumbers(crosses), () -> inTransaction(() -> {
+      saved.clear();
+      int count = applyScores(crosses, dog -> saved.add(DogStanding.of(dog)));
+      checkpointRepository.save(new JournalCheckpoint(JournalCheckpoint.ID, through));
+      return count;
+    }));
+    standingsService.settle(through, saved);
+    meterRegistry.counter("trackhounds.scores.created").increment(created);
+  }
+
+  /**
+   * Numbers of the dogs in a group of crosses
+   * 
+   * @param crosses Crosses
+   * @return Dog numbers
+   */
+  private static Set<Integer> dogNumbers(List<ScoreDto> crosses) {
+    Set<Integer> dogNumbers = new HashSet<>();
+    for (ScoreDto cross : crosses) {
+      for (int number : cross.getDogNumbers())
+        dogNumbers.add(number);
+    }
+    return dogNumbers;
+  }
+
+  /**
+   * Run a write to a group of dogs while holding their locks
+   * 
+   * @param numbers Numbers of the dogs
+   * @param write   Write to run
+   */
+  private void writeDogs(Collection<Integer> numbers, Runnable write) {
+    dogLocks.withDogs(numbers, () -> inTransaction(() -> {
+      write.run();
+      return null;
+    }));
+  }
+
+  /**
+   * Run a dog write in its own transaction, started after the caller took
+   * the dog locks so they are held until it commits. A commit failing on a
+   * constraint is retried: the write raced another one creating the same
+   * shared row, which the next attempt reads instead. A write joining an
+   * existing transaction is not retried.
+   * 
+   * @param <T>   Result type
+   * @param write Write to run
+   * @return Result of the write
+   */
+  private <T> T inTransaction(Supplier<T> write) {
+    if (TransactionSynchronizationManager.isActualTransactionActive())
+      return transactionTemplate.execute(status -> write.get());
+    for (int attempt = 1;; attempt++) {
+      try {
+        return transactionTemplate.execute(status -> write.get());
+      } catch (DataIntegrityViolationException e) {
+        if (attempt == WRITE_ATTEMPTS)
+          throw e;
+      }
+    }
+  }
+
+  /**
+   * Apply validated scores. Dogs and days are fetched with one query each and
+   * every change is flushed together when the surrounding transaction commits.
+   * 
+   * @param crosses Validated scores
+   * @param saved   Called with each saved dog
+   * @return Number of scores created
+   */
+  private int applyScores(List<ScoreDto> crosses, Consumer<DogEntity> saved) {
+    Set<Integer> dogNumbers = new HashSet<>();
+    int lastDay = 0;
+    for (ScoreDto cross : crosses) {
+      for (int number : cross.getDogNumbers())
+        dogNumbers.add(number);
+      lastDay = Math.max(lastDay, cross.getDay());
+    }
+    Map<Integer, DogEntity> dogs = new HashMap<>();
+    for (DogEntity dog : dogRepository.findAllById(dogNumbers))
+      dogs.put(dog.getNumber(), dog);
+    Map<Integer, Days> days = new HashMap<>();
+    for (Days day : daysRepository.findAllById(IntStream.rangeClosed(1, lastDay).boxed().toList()))
+      days.put(day.getDay(), day);
+
+    Map<Integer, DogEntity> touched = new LinkedHashMap<>();
+    int created = 0;
+    for (ScoreDto cross : crosses) {
+      LocalTime startTime = LocalTime.parse(cross.getStartTime());
+      LocalTime crossTime = LocalTime.parse(cross.getCrossTime());
+      Days day = days.get(cross.getDay());
+      if (day == null || day.getStartTime() == null) {
+        if (day == null)
+          day = new Days(cross.getDay(), startTime);
+        day.setStartTime(startTime);
+        day = daysRepository.save(day);
+        days.put(day.getDay(), day);
+      }
+      standingsService.updateDay(day);
+      for (int i = 0; i < cross.getDogNumbers().length; i++) {
+        DogEntity dog = dogs.get(cross.getDogNumbers()[i]);
+        if (dog == null)
+          continue;
+        List<DailyScore> scores = dog.getScores();
+        for (int j = scores.size(); j < cross.getDay(); j++) {
+          Days d = days.computeIfAbsent(j + 1, dayIndex -> daysRepository.save(new Days(dayIndex, null)));
+          scores.add(dailyScoreRepository.save(new DailyScore(d, dog)));
         }
+        DailyScore dailyScore = scores.get(cross.getDay() - 1);
+        dailyScore.setDay(day);
+        Score s = scoreRepository.save(
+            new Score(cross.getScores()[i], crossTime, false, cross.getJudge(), dog.getNumber(), day.getDay()));
+        scoreEventRepository.save(ScoreEvent.crossAdded(s, startTime, cross.getInterval()));
+        dailyScore.addScore(s, startTime, cross.getInterval());
+        dog.setPoints(calculateTotalPoints(dog));
+        touched.put(dog.getNumber(), dog);
+        created++;
       }
-      DailyScore dailyScore = dog.getScores().get(score.getDay() - 1);
-      dailyScore.setDay(day);
-      Score s = new Score(score.getScores()[i], crossTime, false, score.getJudge(), dog.getNumber(), day.getDay());
-      s = scoreRepository.save(s);
-      dailyScore.addScore(s, startTime, score.getInterval());
-      scoreRepository.save(s);
-      dailyScore = dailyScoreRepository.save(dailyScore);
-      dog.getScores().set(score.getDay() - 1, dailyScore);
-      dog.setPoints(calculateTotalPoints(dog));
-      dogRepository.save(dog);
     }
+    for (DogEntity dog : dogRepository.saveAll(touched.values()))
+      saved.accept(dog);
+    return created;
   }
 
   /**
@@ -401,7 +710,19 @@ public class DogService {
    * @throws TrackHoundsAPIException if dog or score does not exist
    * @throws TrackHoundsAPIException if score does not exist for dog
    */
+  @Timed(value = "trackhounds.scores.remove", description = "Removing a score from a dog")
   public void removeScore(int dogNumber, Long scoreId) {
+    writeDogs(List.of(dogNumber), () -> applyRemoval(dogNumber, scoreId));
+    meterRegistry.counter("trackhounds.scores.removed").increment();
+  }
+
+  /**
+   * Remove a score from a locked dog
+   * 
+   * @param dogNumber Dog number
+   * @param scoreId   Score ID
+   */
+  private void applyRemoval(int dogNumber, Long scoreId) {
     DogEntity dog = dogRepository.findById(dogNumber)
         .orElseThrow(() -> new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Dog does not exist.",
             Map.of("number", "Dog does not exist with this number.")));
@@ -411,16 +732,88 @@ public class DogService {
             Map.of("scoreId", "Score does not exist with this ID.")));
 
     DailyScore dailyScore = dog.getScores().stream()
-        .filter(ds -> ds.getTimeBucketScores().stream().anyMatch(tbs -> tbs.getScore().equals(score)))
+        .filter(ds -> ds.contains(score))
         .findFirst()
         .orElseThrow(() -> new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "DailyScore does not exist.",
             Map.of("dailyScore", "DailyScore does not exist for this score.")));
 
     dailyScore.removeScore(score);
+    scoreEventRepository.save(ScoreEvent.crossRemoved(score));
     scoreRepository.delete(score);
     dailyScoreRepository.save(dailyScore);
     dog.setPoints(calculateTotalPoints(dog));
-    dogRepository.save(dog);
+    standingsService.update(dogRepository.save(dog));
+  }
+
+  /**
+   * Rebuild the daily scores and totals of every dog from the score log. Holds
+   * every dog lock, so no write runs while the projections are replaced.
+   * 
+   * @return Number of events replayed
+   * @throws TrackHoundsAPIException if the log does not cover every score, as
+   *                                 when scores were written to the database
+   *                                 directly. Scores entered before the log
+   *                                 existed are logged at startup
+   */
+  @Timed(value = "trackhounds.scores.rebuild", description = "Rebuilding the daily scores from the score log")
+  public int rebuildScores() {
+    Set<Integer> numbers = dogRepository.findSummariesByOrderByNumberAsc().stream().map(DogSummary::getNumber)
+        .collect(Collectors.toSet());
+    return dogLocks.withDogs(numbers, () -> inTransaction(this::applyRebuild));
+  }
+
+  /**
+   * Rebuild the daily scores of locked dogs from the score log
+   * 
+   * @return Number of events replayed
+   */
+  private int applyRebuild() {
+    // Bulk deletes, since removing a time bucket score from its daily score
+    // cascades to the score itself
+    entityManager.createQuery("delete from HighestScore").executeUpdate();
+    entityManager.createQuery("delete from TimeBucketScore").executeUpdate();
+    List<ScoreEvent> events = scoreEventRepository.findAllByOrderByIdAsc();
+    Map<Long, Score> stored = new HashMap<>();
+    for (Score score : scoreRepository.findAll())
+      stored.put(score.getId(), score);
+    Map<Integer, DogEntity> dogs = new HashMap<>();
+    for (DogEntity dog : dogRepository.findAll()) {
+      dog.getScores().forEach(ScoreProjection::reset);
+      dogs.put(dog.getNumber(), dog);
+    }
+    Map<Integer, Days> days = new HashMap<>();
+    for (Days day : daysRepository.findAll())
+      days.put(day.getDay(), day);
+
+    // Scores removed since are replayed as detached copies, they never reach
+    // the database
+    ScoreProjection projection = new ScoreProjection(dogs,
+        event -> stored.getOrDefault(event.getScoreId(), ScoreProjection.scoreOf(event)),
+        day -> days.computeIfAbsent(day, d -> daysRepository.save(new Days(d, null))));
+    projection.applyAll(events);
+    if (!projection.getLiveScores().keySet().equals(stored.keySet()))
+      throw new TrackHoundsAPIException(HttpStatus.CONFLICT, "Score log does not match the scores.",
+          Map.of("scores", "Scores were entered or removed outside of the score log."));
+    projection.finish();
+    for (DogEntity dog : dogRepository.saveAll(dogs.values()))
+      standingsService.update(dog);
+    return events.size();
+  }
+
+  /**
+   * Replay the score log in memory and compare it with the stored totals
+   * 
+   * @return Numbers of the dogs whose stored points differ from the log, in
+   *         order
+   */
+  @Transactional(readOnly = true)
+  @Timed(value = "trackhounds.scores.verify", description = "Replaying the score log against the stored totals")
+  public List<Integer> verifyScores() {
+    List<DogSummary> dogs = dogRepository.findSummariesByOrderByNumberAsc();
+    Map<Integer, DogEntity> replayed = ScoreProjection.replay(scoreEventRepository.findAllByOrderByIdAsc(),
+        dogs.stream().map(DogSummary::getNumber).toList());
+    return dogs.stream().filter(dog -> replayed.get(dog.getNumber()).getPoints() != dog.getPoints())
+        .map(DogSummary::getNumber).toList();
   }
 
   /**
@@ -442,6 +835,15 @@ public class DogService {
    * @throws TrackHoundsAPIException if dog does not exist
    */
   public void scratchDog(Scratch scratch) {
+    writeDogs(List.of(scratch.getDogNumber()), () -> applyScratch(scratch));
+  }
+
+  /**
+   * Scratch a locked dog
+   * 
+   * @param scratch Scratch to record
+   */
+  private void applyScratch(Scratch scratch) {
     Map<String, String> errs = new HashMap<>();
     if (scratch.getReason() == null || scratch.getReason().isEmpty())
       errs.put("reason", "Reason cannot be empty.");
@@ -458,8 +860,8 @@ public class DogService {
     DogEntity dog = dogRetrieval.get();
     dog.setScratched(true);
     scratch.setDogName(dog.getName());
-    scratchRepository.save(scratch);
-    dogRepository.save(dog);
+    scoreEventRepository.save(ScoreEvent.dogScratched(scratchRepository.save(scratch)));
+    standingsService.update(dogRepository.save(dog));
   }
 
   /**
@@ -481,35 +883,40 @@ public class DogService {
   }
 
   /**
-   * Get total scores for all dogs on a specific day
+   * Get total scores for all dogs on a specific day, in leaderboard order
    * 
    * @param day The day number (1-4)
    * @return List of dogs with their total scores for the specified day
    */
-  public List<Map<String, Object>> getDogScoresByDay(int day) {
-    List<DogEntity> allDogs = dogRepository.findAll();
-    List<Map<String, Object>> dogScores = new ArrayList<>();
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  @Transactional(readOnly = true)
+  public List<DailyLeaderboardEntry> getDogScoresByDay(int day) {
+    List<DailyLeaderboardEntry> entries = new ArrayList<>();
+    streamDogScoresByDay(day, rows -> rows.forEach(entries::add));
+    return entries;
+  }
 
-    for (DogEntity dog : allDogs) {
-      if (dog.getScores().size() < day) {
-        continue;
-      }
-      DailyScore dailyScore = dog.getScores().get(day - 1);
-
-      Map<String, Object> dogScore = new HashMap<>();
-      dogScore.put("dogNumber", dog.getNumber());
-      dogScore.put("dogName", dog.getName());
-      dogScore.put("owner", dog.getOwner());
-      dogScore.put("sire", dog.getSire()); // Add sire
-      dogScore.put("dam", dog.getDam()); // Add dam
-      dogScore.put("stake", dog.getStake());
-      dogScore.put("totalPoints", dailyScore.getDailyScore());
-      dogScore.put("lastScore", dailyScore.getLastCross());
-      dogScore.put("lastScorePoints", dailyScore.getAssociatedPoints());
-      dogScores.add(dogScore);
+  /**
+   * Hand the total scores for all dogs on a specific day to a consumer as they
+   * are read, in leaderboard order. The rows are ranked by the database in one
+   * query, unless journaled crosses are still waiting to be written and only
+   * the standings hold them.
+   * 
+   * @param day      The day number (1-4)
+   * @param consumer Consumer of the rows, called once inside the transaction
+   */
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  @Transactional(readOnly = true)
+  public void streamDogScoresByDay(int day, Consumer<Stream<DailyLeaderboardEntry>> consumer) {
+    if (standingsService.getPendingCount() > 0) {
+      List<LeaderboardRow> rows = getDayRows(day, null, 0, null);
+      rows.sort(LeaderboardRow.DAILY_ORDER);
+      consumer.accept(rows.stream().map(LeaderboardRow::toDailyEntry));
+      return;
+    }
+    try (Stream<DailyStandingView> views = dailyScoreRepository.streamDailyStandings(day)) {
+      consumer.accept(views.map(view -> LeaderboardRow.ofDay(view, day).toDailyEntry()));
     }
-
-    return dogScores;
   }
 
   /**
@@ -519,49 +926,9 @@ public class DogService {
    * @param limit The maximum number of dogs to return
    * @return List of top dogs with their scores
    */
-  public List<Map<String, Object>> getTopScoringDogsByDay(int day, int limit) {
-    List<Map<String, Object>> dogScores = getDogScoresByDay(day);
-    LocalTime startTime;
-    final int interval;
-    try {
-      startTime = getStartTime(day);
-      if (startTime == null) {
-        return List.of();
-      }
-      interval = huntRepository.findAll().get(0).getHuntInterval();
-    } catch (Exception e) {
-      return List.of();
-    }
-    return dogScores.stream()
-        .sorted((d1, d2) -> {
-          // First, compare by total points (descending)
-          int pointsComparison = Integer.compare(
-              (Integer) d2.get("totalPoints"),
-              (Integer) d1.get("totalPoints"));
-
-          // If points are equal, sort by dog name (ascending)
-          if (pointsComparison == 0) {
-            LocalTime tifd1 = (LocalTime) d1.get("lastScore");
-            LocalTime tifd2 = (LocalTime) d2.get("lastScore");
-            int bucket1 = interval == 0 ? 0 : (int) java.time.Duration.between(startTime, tifd1).toMinutes() / interval;
-            int bucket2 = interval == 0 ? 0 : (int) java.time.Duration.between(startTime, tifd2).toMinutes() / interval;
-            if (bucket1 != bucket2) {
-              return bucket1 > bucket2 ? -1 : 1;
-            } else {
-              if (tifd1.isAfter(tifd2)) {
-                return -1;
-              } else if (tifd1.isBefore(tifd2)) {
-                return 1;
-              } else {
-                return -1
-                    * Integer.compare((((Integer) d1.get("lastScorePoints"))), (((Integer) d2.get("lastScorePoints"))));
-              }
-            }
-          }
-          return pointsComparison;
-        })
-        .limit(limit)
-        .collect(Collectors.toList());
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  public List<DailyLeaderboardEntry> getTopScoringDogsByDay(int day, int limit) {
+    return getTopDayRows(day, null, limit);
   }
 
   /**
@@ -570,7 +937,8 @@ public class DogService {
    * @param day The day number (1-4)
    * @return List of top 10 dogs with their scores
    */
-  public List<Map<String, Object>> getTop10ScoringDogsByDay(int day) {
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  public List<DailyLeaderboardEntry> getTop10ScoringDogsByDay(int day) {
     return getTopScoringDogsByDay(day, 10);
   }
 
@@ -579,7 +947,8 @@ public class DogService {
    * 
    * @return List of top 10 dogs with their total scores
    */
-  public List<Map<String, Object>> getTop10ScoringDogsOverall() {
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  public List<OverallLeaderboardEntry> getTop10ScoringDogsOverall() {
     return getTopScoringDogsOverall(10);
   }
 
@@ -589,126 +958,9 @@ public class DogService {
    * @param limit The maximum number of dogs to return
    * @return List of top scoring dogs limited to the specified count
    */
-  public List<Map<String, Object>> getTopScoringDogsOverall(int limit) {
-    List<DogEntity> allDogs = dogRepository.findAll();
-    List<Map<String, Object>> dogScores = new ArrayList<>();
-    final int interval;
-
-    try {
-      interval = huntRepository.findAll().get(0).getHuntInterval();
-    } catch (Exception e) {
-      return List.of();
-    }
-
-    for (DogEntity dog : allDogs) {
-      int totalPoints = dog.getPoints(); // Using the existing points field
-
-      Map<String, Object> dogScore = new HashMap<>();
-      dogScore.put("dogNumber", dog.getNumber());
-      dogScore.put("dogName", dog.getName());
-      dogScore.put("sire", dog.getSire());
-      dogScore.put("dam", dog.getDam());
-      dogScore.put("owner", dog.getOwner());
-      dogScore.put("stake", dog.getStake());
-      dogScore.put("totalPoints", totalPoints);
-
-      for (DailyScore dailyScore : dog.getScores()) {
-        dogScore.put("sdScore" + dailyScore.getDay().getDay(), dailyScore.getDailyScore());
-      }
-
-      // Add last score time for tie-breaking
-      LocalTime lastScoreTime = null;
-      int lastDay = 0;
-      int lastScorePoints = 0;
-      LocalTime startTime = null;
-
-      if (dog.getScores() != null && !dog.getScores().isEmpty()) {
-        for (DailyScore dailyScore : dog.getScores()) {
-          if (dailyScore.getLastCross() != null &&
-              (dailyScore.getDay().getDay() > lastDay ||
-                  (dailyScore.getDay().getDay() == lastDay &&
-                      dailyScore.getLastCross().isAfter(lastScoreTime)))) {
-            lastScoreTime = dailyScore.getLastCross();
-            lastDay = dailyScore.getDay().getDay();
-            lastScorePoints = dailyScore.getAssociatedPoints();
-            startTime = dailyScore.getDay().getStartTime();
-          }
-        }
-      }
-
-      dogScore.put("lastScore", lastScoreTime);
-      dogScore.put("lastScoreDay", lastDay);
-      dogScore.put("lastScorePoints", lastScorePoints);
-      dogScore.put("startTime", startTime);
-
-      dogScores.add(dogScore);
-    }
-
-    // Sort using the improved tie-breaking logic
-    return dogScores.stream()
-        .sorted((d1, d2) -> {
-          // First, compare by total points (descending)
-          int pointsComparison = Integer.compare(
-              (Integer) d2.get("totalPoints"),
-              (Integer) d1.get("totalPoints"));
-
-          // If points are equal, sort by last score day (latest first)
-          if (pointsComparison == 0) {
-            Integer day1 = (Integer) d1.get("lastScoreDay");
-            Integer day2 = (Integer) d2.get("lastScoreDay");
-
-            if (!day1.equals(day2)) {
-              return day2.compareTo(day1); // Later day wins
-            }
-
-            // If days are equal, use the same time-bucket logic as daily methods
-            LocalTime tifd1 = (LocalTime) d1.get("lastScore");
-            LocalTime tifd2 = (LocalTime) d2.get("lastScore");
-
-            // Handle null cases
-            if (tifd1 == null && tifd2 == null) {
-              Integer dogNumber1 = (Integer) d1.get("dogNumber");
-              Integer dogNumber2 = (Integer) d2.get("dogNumber");
-              return dogNumber1.compareTo(dogNumber2);
-            } else if (tifd1 == null) {
-              return 1; // Null times come after non-null times
-            } else if (tifd2 == null) {
-              return -1; // Null times come after non-null times
-            }
-
-            // Use time buckets for comparison
-            LocalTime startTime1 = (LocalTime) d1.get("startTime");
-            LocalTime startTime2 = (LocalTime) d2.get("startTime");
-
-            if (startTime1 != null && startTime2 != null) {
-              int bucket1 = interval == 0 ? 0
-                  : (int) java.time.Duration.between(startTime1, tifd1).toMinutes() / interval;
-              int bucket2 = interval == 0 ? 0
-                  : (int) java.time.Duration.between(startTime2, tifd2).toMinutes() / interval;
-
-              if (bucket1 != bucket2) {
-                return bucket1 > bucket2 ? -1 : 1;
-              } else {
-                if (tifd1.isAfter(tifd2)) {
-                  return -1;
-                } else if (tifd1.isBefore(tifd2)) {
-                  return 1;
-                } else {
-                  return -1 * Integer.compare(
-                      (Integer) d1.get("lastScorePoints"),
-                      (Integer) d2.get("lastScorePoints"));
-                }
-              }
-            }
-
-            // Fall back to time comparison if startTime is null
-            return tifd2.compareTo(tifd1);
-          }
-
-          return pointsComparison;
-        })
-        .limit(limit)
-        .collect(Collectors.toList());
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  public List<OverallLeaderboardEntry> getTopScoringDogsOverall(int limit) {
+    return getTopOverallRows(null, limit);
   }
 
   /**
@@ -718,129 +970,9 @@ public class DogService {
    * @param limit     The maximum number of dogs to return
    * @return List of top scoring dogs of the specified stake type
    */
-  public List<Map<String, Object>> getTopScoringDogsByStakeType(StakeType stakeType, int limit) {
-    List<DogEntity> allDogs = dogRepository.findAll();
-    List<Map<String, Object>> dogScores = new ArrayList<>();
-    final int interval;
-
-    try {
-      interval = huntRepository.findAll().get(0).getHuntInterval();
-    } catch (Exception e) {
-      return List.of();
-    }
-
-    // Filter dogs by stake type and calculate total points
-    for (DogEntity dog : allDogs) {
-      if (dog.getStake() == stakeType) {
-        int totalPoints = dog.getPoints(); // Using the existing points field
-
-        Map<String, Object> dogScore = new HashMap<>();
-        dogScore.put("dogNumber", dog.getNumber());
-        dogScore.put("dogName", dog.getName());
-        dogScore.put("owner", dog.getOwner());
-        dogScore.put("sire", dog.getSire());
-        dogScore.put("dam", dog.getDam());
-        dogScore.put("stake", dog.getStake());
-        dogScore.put("totalPoints", totalPoints);
-
-        for (DailyScore dailyScore : dog.getScores()) {
-          dogScore.put("sdScore" + dailyScore.getDay().getDay(), dailyScore.getDailyScore());
-        }
-
-        // Add last score time for tie-breaking
-        LocalTime lastScoreTime = null;
-        int lastDay = 0;
-        int lastScorePoints = 0;
-        LocalTime startTime = null;
-
-        if (dog.getScores() != null && !dog.getScores().isEmpty()) {
-          for (DailyScore dailyScore : dog.getScores()) {
-            if (dailyScore.getLastCross() != null &&
-                (dailyScore.getDay().getDay() > lastDay ||
-                    (dailyScore.getDay().getDay() == lastDay &&
-                        dailyScore.getLastCross().isAfter(lastScoreTime)))) {
-              lastScoreTime = dailyScore.getLastCross();
-              lastDay = dailyScore.getDay().getDay();
-              lastScorePoints = dailyScore.getAssociatedPoints();
-              startTime = dailyScore.getDay().getStartTime();
-            }
-          }
-        }
-
-        dogScore.put("lastScore", lastScoreTime);
-        dogScore.put("lastScoreDay", lastDay);
-        dogScore.put("lastScorePoints", lastScorePoints);
-        dogScore.put("startTime", startTime);
-
-        dogScores.add(dogScore);
-      }
-    }
-
-    // Sort using the same tie-breaking logic as getTopScoringDogsOverall
-    return dogScores.stream()
-        .sorted((d1, d2) -> {
-          // First, compare by total points (descending)
-          int pointsComparison = Integer.compare(
-              (Integer) d2.get("totalPoints"),
-              (Integer) d1.get("totalPoints"));
-
-          // If points are equal, sort by last score day (latest first)
-          if (pointsComparison == 0) {
-            Integer day1 = (Integer) d1.get("lastScoreDay");
-            Integer day2 = (Integer) d2.get("lastScoreDay");
-
-            if (!day1.equals(day2)) {
-              return day2.compareTo(day1); // Later day wins
-            }
-
-            // If days are equal, use the same time-bucket logic as daily methods
-            LocalTime tifd1 = (LocalTime) d1.get("lastScore");
-            LocalTime tifd2 = (LocalTime) d2.get("lastScore");
-
-            // Handle null cases
-            if (tifd1 == null && tifd2 == null) {
-              Integer dogNumber1 = (Integer) d1.get("dogNumber");
-              Integer dogNumber2 = (Integer) d2.get("dogNumber");
-              return dogNumber1.compareTo(dogNumber2);
-            } else if (tifd1 == null) {
-              return 1; // Null times come after non-null times
-            } else if (tifd2 == null) {
-              return -1; // Null times come after non-null times
-            }
-
-            // Use time buckets for comparison
-            LocalTime startTime1 = (LocalTime) d1.get("startTime");
-            LocalTime startTime2 = (LocalTime) d2.get("startTime");
-
-            if (startTime1 != null && startTime2 != null) {
-              int bucket1 = interval == 0 ? 0
-                  : (int) java.time.Duration.between(startTime1, tifd1).toMinutes() / interval;
-              int bucket2 = interval == 0 ? 0
-                  : (int) java.time.Duration.between(startTime2, tifd2).toMinutes() / interval;
-
-              if (bucket1 != bucket2) {
-                return bucket1 > bucket2 ? -1 : 1;
-              } else {
-                if (tifd1.isAfter(tifd2)) {
-                  return -1;
-                } else if (tifd1.isBefore(tifd2)) {
-                  return 1;
-                } else {
-                  return -1 * Integer.compare(
-                      (Integer) d1.get("lastScorePoints"),
-                      (Integer) d2.get("lastScorePoints"));
-                }
-              }
-            }
-
-            // Fall back to time comparison if startTime is null
-            return tifd2.compareTo(tifd1);
-          }
-
-          return pointsComparison;
-        })
-        .limit(limit)
-        .collect(Collectors.toList());
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  public List<OverallLeaderboardEntry> getTopScoringDogsByStakeType(StakeType stakeType, int limit) {
+    return getTopOverallRows(stakeType, limit);
   }
 
   /**
@@ -849,7 +981,8 @@ public class DogService {
    * @param stakeType The stake type to filter by (ALL_AGE or DERBY)
    * @return List of top 10 dogs with their scores of the specified stake type
    */
-  public List<Map<String, Object>> getTop10ScoringDogsByStakeType(StakeType stakeType) {
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  public List<OverallLeaderboardEntry> getTop10ScoringDogsByStakeType(StakeType stakeType) {
     return getTopScoringDogsByStakeType(stakeType, 10);
   }
 
@@ -862,58 +995,9 @@ public class DogService {
    * @param limit     The maximum number of dogs to return
    * @return List of top scoring dogs for the specified day and stake type
    */
-  public List<Map<String, Object>> getTopScoringDogsByDayAndStakeType(int day, StakeType stakeType, int limit) {
-    List<Map<String, Object>> allDogScores = getDogScoresByDay(day);
-    LocalTime startTime;
-    int interval;
-
-    try {
-      startTime = getStartTime(day);
-      if (startTime == null) {
-        return List.of();
-      }
-      interval = huntRepository.findAll().get(0).getHuntInterval();
-    } catch (Exception e) {
-      return List.of();
-    }
-
-    // Filter by stake type
-    List<Map<String, Object>> filteredDogScores = allDogScores.stream()
-        .filter(dogScore -> stakeType.equals(dogScore.get("stake")))
-        .collect(Collectors.toList());
-
-    // Sort by total points and limit the results
-    return filteredDogScores.stream()
-        .sorted((d1, d2) -> {
-          // First, compare by total points (descending)
-          int pointsComparison = Integer.compare(
-              (Integer) d2.get("totalPoints"),
-              (Integer) d1.get("totalPoints"));
-
-          // If points are equal, apply the same tie-breaking logic as
-          // getTopScoringDogsByDay
-          if (pointsComparison == 0) {
-            LocalTime tifd1 = (LocalTime) d1.get("lastScore");
-            LocalTime tifd2 = (LocalTime) d2.get("lastScore");
-            int bucket1 = interval == 0 ? 0 : (int) java.time.Duration.between(startTime, tifd1).toMinutes() / interval;
-            int bucket2 = interval == 0 ? 0 : (int) java.time.Duration.between(startTime, tifd2).toMinutes() / interval;
-            if (bucket1 != bucket2) {
-              return bucket1 > bucket2 ? -1 : 1;
-            }
-            if (tifd1.isAfter(tifd2)) {
-              return -1;
-            } else if (tifd1.isBefore(tifd2)) {
-              return 1;
-            } else {
-              return -1
-                  * Integer.compare((((Integer) d1.get("lastScorePoints"))),
-                      (((Integer) d2.get("lastScorePoints"))));
-            }
-          }
-          return pointsComparison;
-        })
-        .limit(limit)
-        .collect(Collectors.toList());
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  public List<DailyLeaderboardEntry> getTopScoringDogsByDayAndStakeType(int day, StakeType stakeType, int limit) {
+    return getTopDayRows(day, stakeType, limit);
   }
 
   /**
@@ -925,10 +1009,76 @@ public class DogService {
    * @return List of top 10 dogs with their scores for the specified day and stake
    *         type
    */
-  public List<Map<String, Object>> getTop10ScoringDogsByDayAndStakeType(int day, StakeType stakeType) {
+  @Timed(value = "trackhounds.leaderboard", description = "Ranking a leaderboard")
+  public List<DailyLeaderboardEntry> getTop10ScoringDogsByDayAndStakeType(int day, StakeType stakeType) {
     return getTopScoringDogsByDayAndStakeType(day, stakeType, 10);
   }
 
+  /**
+   * Build the leaderboard rows of every dog that has a score entry on a day
+   * 
+   * @param day       The day number
+   * @param startTime Start time of the day, or null if buckets are not needed
+   * @param interval  Hunt interval in minutes
+   * @param stakeType Stake type to filter by, or null for all dogs
+   * @return Leaderboard rows, ordered by dog number
+   */
+  private List<LeaderboardRow> getDayRows(int day, LocalTime startTime, int interval, StakeType stakeType) {
+    List<LeaderboardRow> rows = new ArrayList<>();
+    for (DogStanding dog : standingsService.getStandings()) {
+      if (dog.getDays().size() < day || (stakeType != null && dog.getStake() != stakeType)) {
+        continue;
+      }
+      rows.add(LeaderboardRow.ofDay(dog, dog.getDays().get(day - 1), startTime, interval));
+    }
+    return rows;
+  }
+
+  /**
+   * Get the top rows of a daily leaderboard
+   * 
+   * @param day       The day number
+   * @param stakeType Stake type to filter by, or null for all dogs
+   * @param limit     The maximum number of dogs to return
+   * @return Top rows of the day
+   */
+  private List<DailyLeaderboardEntry> getTopDayRows(int day, StakeType stakeType, int limit) {
+    LocalTime startTime = standingsService.getStartTime(day);
+    Optional<HuntConfig> hunt = huntConfigService.get();
+    if (startTime == null || hunt.isEmpty()) {
+      return List.of();
+    }
+    int interval = hunt.get().getHuntInterval();
+    return Leaderboard.top(getDayRows(day, startTime, interval, stakeType), LeaderboardRow.DAILY_ORDER, limit)
+        .stream()
+        .map(LeaderboardRow::toDailyEntry)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Get the top rows of an overall leaderboard
+   * 
+   * @param stakeType Stake type to filter by, or null for all dogs
+   * @param limit     The maximum number of dogs to return
+   * @return Top rows across all days
+   */
+  private List<OverallLeaderboardEntry> getTopOverallRows(StakeType stakeType, int limit) {
+    Optional<HuntConfig> hunt = huntConfigService.get();
+    if (hunt.isEmpty()) {
+      return List.of();
+    }
+    int interval = hunt.get().getHuntInterval();
+    List<LeaderboardRow> rows = new ArrayList<>();
+    for (DogStanding dog : standingsService.getStandings()) {
+      if (stakeType == null || dog.getStake() == stakeType) {
+        rows.add(LeaderboardRow.ofOverall(dog, standingsService::getStartTime, interval));
+      }
+    }
+    return Leaderboard.top(rows, LeaderboardRow.OVERALL_ORDER, limit).stream()
+        .map(LeaderboardRow::toOverallEntry)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Get all scores for a specific dog
    * 
@@ -1014,6 +1164,20 @@ public class DogService {
     return scoreRepository.findAllByOrderByDayAscTimeAsc();
   }
 
+  /**
+   * Hand all scores to a consumer as they are read, ordered by day and time.
+   * Each score is detached once handed over so the persistence context stays
+   * small however many scores there are.
+   * 
+   * @param consumer Consumer of the scores, called once inside the transaction
+   */
+  @Transactional(readOnly = true)
+  public void streamScores(Consumer<Stream<Score>> consumer) {
+    try (Stream<Score> scores = scoreRepository.streamAllByOrderByDayAscTimeAsc()) {
+      consumer.accept(scores.peek(entityManager::detach));
+    }
+  }
+
   /**
    * Get all scores for a specific day
    * 
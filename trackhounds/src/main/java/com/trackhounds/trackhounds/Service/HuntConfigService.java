@@ -0,0 +1,124 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.trackhounds.trackhounds.Dto.HuntConfig;
+import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Repository.HuntRepository;
+
+/**
+ * Holds the current hunt configuration in memory. The snapshot is loaded on
+ * first use, replaced by HuntService when the hunt is created or edited and
+ * dropped whenever a hunt is written any other way.
+ */
+@Service
+public class HuntConfigService {
+
+    /**
+     * The repository for the hunts.
+     */
+    @Autowired
+    private HuntRepository huntRepository;
+
+    /**
+     * Current snapshot, null when it has to be loaded
+     */
+    private volatile HuntConfig config;
+
+    /**
+     * Version of the latest snapshot or invalidation
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Get the current hunt configuration
+     *
+     * @return Current hunt, or empty if no hunt has been created
+     */
+    public Optional<HuntConfig> get() {
+        HuntConfig current = config;
+        if (current != null)
+            return Optional.of(current);
+        return Optional.ofNullable(load());
+    }
+
+    /**
+     * Replace the snapshot with a saved hunt
+     *
+     * @param hunt Saved hunt
+     * @return New snapshot
+     */
+    public HuntConfig update(HuntEntity hunt) {
+        HuntConfig updated = HuntConfig.of(hunt, version.incrementAndGet());
+        config = updated;
+        clearOnRollback();
+        return updated;
+    }
+
+    /**
+     * Drop the snapshot now and again once the surrounding transaction
+     * completes, so a concurrent reader cannot cache the old row in between
+     */
+    public void invalidate() {
+        clear();
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                clear();
+            }
+        });
+    }
+
+    /**
+     * Load the snapshot from the database. Nothing is cached while no hunt
+     * exists so a hunt saved later is picked up.
+     *
+     * @return Loaded snapshot, or null if there is no hunt
+     */
+    private HuntConfig load() {
+        long seen = version.get();
+        List<HuntEntity> hunts = huntRepository.findAll();
+        if (hunts.isEmpty())
+            return null;
+        HuntConfig loaded = HuntConfig.of(hunts.get(0), seen + 1);
+        // Only cache if nothing changed while loading
+        if (version.compareAndSet(seen, seen + 1)) {
+            config = loaded;
+            clearOnRollback();
+        }
+        return loaded;
+    }
+
+    /**
+     * Forget the snapshot
+     */
+    private void clear() {
+        version.incrementAndGet();
+        config = null;
+    }
+
+    /**
+     * Drop the snapshot if the surrounding transaction rolls back, since it may
+     * hold a hunt that never reached the database
+     */
+    private void clearOnRollback() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive())
+            return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED)
+                    clear();
+            }
+        });
+    }
+}
@@ -7,10 +7,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.trackhounds.trackhounds.Dto.HuntConfig;
 import com.trackhounds.trackhounds.Entity.HuntEntity;
 import com.trackhounds.trackhounds.Exception.TrackHoundsAPIException;
 import com.trackhounds.trackhounds.Repository.HuntRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 
 /**
@@ -18,6 +20,7 @@ import lombok.AllArgsConstructor;
  */
 @Service
 @AllArgsConstructor
+@Timed(value = "trackhounds.hunt", description = "Reading and editing the hunt")
 public class HuntService {
     /**
      * The repository for the hunts.
@@ -28,6 +31,12 @@ public class HuntService {
     @Autowired
     private DogService dogService;
 
+    /**
+     * In-memory snapshot of the current hunt.
+     */
+    @Autowired
+    private HuntConfigService huntConfigService;
+
     /**
      * Create a new Hunt, calls clearOldHunt if another Hunt is in the repository.
      * 
@@ -53,7 +62,9 @@ public class HuntService {
         if (huntRepository.count() > 0) {
             clearOldHunt();
         }
-        return huntRepository.save(hunt);
+        HuntEntity saved = huntRepository.save(hunt);
+        huntConfigService.update(saved);
+        return saved;
     }
 
     /**
@@ -71,10 +82,9 @@ public class HuntService {
      * @return current hunt.
      */
     public HuntEntity getHunt() {
-        if (huntRepository.count() == 0) {
-            throw new TrackHoundsAPIException(HttpStatus.CONTINUE, null, null);
-        }
-        return huntRepository.findAll().get(0);
+        return huntConfigService.get()
+                .orElseThrow(() -> new TrackHoundsAPIException(HttpStatus.CONTINUE, null, null))
+                .toEntity();
     }
 
     /**
@@ -85,8 +95,9 @@ public class HuntService {
      * @return updated Hunt
      */
     public HuntEntity editHunt(HuntEntity entity) {
-        if (huntRepository.count() == 0)
-            throw new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "No Hunt has been created to edit.", null);
+        HuntConfig current = huntConfigService.get()
+                .orElseThrow(() -> new TrackHoundsAPIException(HttpStatus.BAD_REQUEST,
+                        "No Hunt has been created to edit.", null));
         Map<String, String> errs = new HashMap<>();
         if (entity.getTitle() == null || entity.getTitle().isEmpty()) {
             errs.put("title", "Title cannot be empty.");
@@ -101,13 +112,17 @@ public class HuntService {
         }
         if (errs.size() > 0)
             throw new TrackHoundsAPIException(HttpStatus.BAD_REQUEST, "Invalid Edit Fields", errs);
-        HuntEntity hunt = huntRepository.findAll().get(0);
+        HuntEntity hunt = huntRepository.findById(current.getId())
+                .orElseThrow(() -> new TrackHoundsAPIException(HttpStatus.BAD_REQUEST,
+                        "No Hunt has been created to edit.", null));
         hunt.setTitle(entity.getTitle());
         hunt.setDates(entity.getDates());
         hunt.setStake(entity.getStake());
         hunt.setHuntInterval(entity.getHuntInterval());
         hunt.setStakeRange(entity.getStakeRange());
         hunt.setStakeTypeRange(entity.getStakeTypeRange());
-        return huntRepository.save(hunt);
+        HuntEntity saved = huntRepository.save(hunt);
+        huntConfigService.update(saved);
+        return saved;
     }
 }
@@ -12,10 +12,12 @@ import com.trackhounds.trackhounds.Entity.JudgeEntity;
 import com.trackhounds.trackhounds.Exception.TrackHoundsAPIException;
 import com.trackhounds.trackhounds.Repository.JudgeRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 
 @Service
 @AllArgsConstructor
+@Timed(value = "trackhounds.judges", description = "Reading and editing the judges")
 /**
  * Service class for Judges. This class is used to interact with the database.
  */
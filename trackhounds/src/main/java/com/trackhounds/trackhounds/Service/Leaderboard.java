@@ -0,0 +1,49 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Bounded top-K selection for the leaderboards. Keeps only the best limit rows
+ * in a heap instead of sorting every dog in the hunt.
+ */
+public final class Leaderboard {
+
+    private Leaderboard() {
+    }
+
+    /**
+     * Select the first rows of a collection in the given order
+     *
+     * @param <T>   Row type
+     * @param rows  Rows to select from
+     * @param order Order of the rows, must be total so the result is stable
+     * @param limit Maximum number of rows to return
+     * @return The best rows, sorted
+     */
+    public static <T> List<T> top(Collection<T> rows, Comparator<? super T> order, int limit) {
+        if (limit <= 0 || rows.isEmpty())
+            return new ArrayList<>();
+        if (limit >= rows.size()) {
+            List<T> sorted = new ArrayList<>(rows);
+            sorted.sort(order);
+            return sorted;
+        }
+        // Max-heap on the order, so the head is the worst row kept so far
+        PriorityQueue<T> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (T row : rows) {
+            if (heap.size() < limit) {
+                heap.add(row);
+            } else if (order.compare(row, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(row);
+            }
+        }
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
@@ -0,0 +1,322 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.trackhounds.trackhounds.Dto.DogSummary;
+import com.trackhounds.trackhounds.Dto.HuntConfig;
+import com.trackhounds.trackhounds.Dto.RebucketProgress;
+import com.trackhounds.trackhounds.Dto.RebucketProgress.Phase;
+import com.trackhounds.trackhounds.Entity.DailyScore;
+import com.trackhounds.trackhounds.Entity.Days;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.HighestScore;
+import com.trackhounds.trackhounds.Entity.Score;
+import com.trackhounds.trackhounds.Entity.ScoreEvent;
+import com.trackhounds.trackhounds.Entity.TimeBucketScore;
+import com.trackhounds.trackhounds.Exception.TrackHoundsAPIException;
+import com.trackhounds.trackhounds.Repository.DogRepository;
+import com.trackhounds.trackhounds.Repository.ScoreEventRepository;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Buckets every score of the hunt again under the current hunt interval.
+ * Crosses keep the interval they were entered with until this runs, so an
+ * interval edited mid-hunt is applied to the earlier crosses explicitly. Each
+ * dog is replayed from the score log on a fork-join pool, then the daily
+ * scores are written back in batches.
+ */
+@Service
+public class RebucketService {
+
+    /**
+     * Logger
+     */
+    private static final Logger log = LoggerFactory.getLogger(RebucketService.class);
+
+    /**
+     * Dog Repository
+     */
+    @Autowired
+    private DogRepository dogRepository;
+
+    /**
+     * Score Event Repository
+     */
+    @Autowired
+    private ScoreEventRepository scoreEventRepository;
+
+    /**
+     * Hunt configuration
+     */
+    @Autowired
+    private HuntConfigService huntConfigService;
+
+    /**
+     * Standings Service
+     */
+    @Autowired
+    private StandingsService standingsService;
+
+    /**
+     * Per dog locks, all of them are held while the job runs
+     */
+    @Autowired
+    private DogLocks dogLocks;
+
+    /**
+     * Transaction of the write phase
+     */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Entity manager of the current transaction
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Threads replaying dogs
+     */
+    @Value("${trackhounds.rebucket.parallelism:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int parallelism;
+
+    /**
+     * Dogs written per flush
+     */
+    @Value("${trackhounds.rebucket.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * Whether a job is running
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Dogs replayed by the current or last job
+     */
+    private final AtomicInteger replayed = new AtomicInteger();
+
+    /**
+     * Dogs written by the current or last job
+     */
+    private final AtomicInteger written = new AtomicInteger();
+
+    /**
+     * Phase of the current or last job
+     */
+    private volatile Phase phase = Phase.IDLE;
+
+    /**
+     * Interval of the current or last job
+     */
+    private volatile int interval;
+
+    /**
+     * Dogs of the current or last job
+     */
+    private volatile int dogs;
+
+    /**
+     * Start of the current or last job, in milliseconds
+     */
+    private volatile long started;
+
+    /**
+     * End of the last job, 0 while running
+     */
+    private volatile long finished;
+
+    /**
+     * Get the progress of the current or last job
+     *
+     * @return Progress snapshot
+     */
+    public RebucketProgress getProgress() {
+        long end = finished == 0 ? System.currentTimeMillis() : finished;
+        return new RebucketProgress(phase, interval, dogs, replayed.get(), written.get(),
+                started == 0 ? 0 : end - started);
+    }
+
+    /**
+     * Bucket every score again under the current hunt interval. Holds every
+     * dog lock, so scores posted meanwhile wait for the job to finish.
+     *
+     * @return Progress of the finished job
+     * @throws TrackHoundsAPIException if there is no hunt, a job is already
+     *                                 running or the score log does not cover
+     *                                 the scores
+     */
+    @Timed(value = "trackhounds.scores.rebucket", description = "Bucketing every score under the hunt interval")
+    public RebucketProgress rebucket() {
+        HuntConfig hunt = huntConfigService.get()
+                .orElseThrow(() -> new TrackHoundsAPIException(HttpStatus.BAD_REQUEST,
+                        "No Hunt has been created to rebucket.", null));
+        if (!running.compareAndSet(false, true))
+            throw new TrackHoundsAPIException(HttpStatus.CONFLICT, "A rebucket is already running.", null);
+        try {
+            Set<Integer> numbers = dogRepository.findSummariesByOrderByNumberAsc().stream()
+                    .map(DogSummary::getNumber).collect(Collectors.toSet());
+            interval = hunt.getHuntInterval();
+            dogs = numbers.size();
+            replayed.set(0);
+            written.set(0);
+            started = System.currentTimeMillis();
+            finished = 0;
+            phase = Phase.REPLAYING;
+            dogLocks.withDogs(numbers, () -> {
+                run(numbers, hunt.getHuntInterval());
+                return null;
+            });
+            phase = Phase.DONE;
+            log.info("Rebucketed {} dogs under a {} minute interval", numbers.size(), hunt.getHuntInterval());
+        } catch (RuntimeException e) {
+            phase = Phase.FAILED;
+            throw e;
+        } finally {
+            finished = System.currentTimeMillis();
+            running.set(false);
+        }
+        return getProgress();
+    }
+
+    /**
+     * Replay and write locked dogs
+     *
+     * @param numbers     Numbers of the dogs
+     * @param newInterval Interval in minutes
+     */
+    private void run(Set<Integer> numbers, int newInterval) {
+        List<ScoreEvent> events = new ArrayList<>(scoreEventRepository.findAllByOrderByIdAsc());
+        events.add(ScoreEvent.intervalChanged(newInterval));
+        Map<Integer, DogEntity> projected = replay(numbers, events);
+
+        Set<Long> live = new HashSet<>();
+        for (DogEntity dog : projected.values()) {
+            for (DailyScore dailyScore : dog.getScores())
+                dailyScore.getTimeBucketScores().forEach(tbs -> live.add(tbs.getScore().getId()));
+        }
+
+        phase = Phase.WRITING;
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> stored = new HashSet<>(
+                    entityManager.createQuery("select s.id from Score s", Long.class).getResultList());
+            if (!stored.equals(live))
+                throw new TrackHoundsAPIException(HttpStatus.CONFLICT, "Score log does not match the scores.",
+                        Map.of("scores", "Scores were entered or removed outside of the score log."));
+            scoreEventRepository.save(events.get(events.size() - 1));
+            // Bulk deletes, since removing a time bucket score from its daily
+            // score cascades to the score itself
+            entityManager.createQuery("delete from HighestScore").executeUpdate();
+            entityManager.createQuery("delete from TimeBucketScore").executeUpdate();
+            entityManager.createQuery("update Score s set s.counted = false").executeUpdate();
+            List<Integer> ordered = numbers.stream().sorted().toList();
+            for (int from = 0; from < ordered.size(); from += batchSize) {
+                List<Integer> batch = ordered.subList(from, Math.min(ordered.size(), from + batchSize));
+                write(batch, projected);
+                entityManager.flush();
+                entityManager.clear();
+                written.addAndGet(batch.size());
+            }
+            standingsService.reset();
+        });
+    }
+
+    /**
+     * Replay the log for each dog on its own, in parallel
+     *
+     * @param numbers Numbers of the dogs
+     * @param events  Score log ending with the interval change
+     * @return Projected dogs by number
+     */
+    private Map<Integer, DogEntity> replay(Set<Integer> numbers, List<ScoreEvent> events) {
+        Map<Integer, List<ScoreEvent>> byDog = new HashMap<>();
+        for (int number : numbers)
+            byDog.put(number, new ArrayList<>());
+        for (ScoreEvent event : events) {
+            if (event.getDogNumber() == 0) {
+                byDog.values().forEach(dogEvents -> dogEvents.add(event));
+            } else {
+                List<ScoreEvent> dogEvents = byDog.get(event.getDogNumber());
+                if (dogEvents != null)
+                    dogEvents.add(event);
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            return pool.submit(() -> byDog.entrySet().parallelStream().collect(Collectors.toConcurrentMap(
+                    Map.Entry::getKey, entry -> {
+                        DogEntity dog = ScoreProjection.replay(entry.getValue(), List.of(entry.getKey()))
+                                .get(entry.getKey());
+                        replayed.incrementAndGet();
+                        return dog;
+                    }))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rebucket interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Rebucket replay failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Copy the projected daily scores onto a batch of stored dogs
+     *
+     * @param batch     Numbers of the dogs
+     * @param projected Projected dogs by number
+     */
+    private void write(List<Integer> batch, Map<Integer, DogEntity> projected) {
+        List<Long> counted = new ArrayList<>();
+        for (DogEntity dog : dogRepository.findAllById(batch)) {
+            DogEntity from = projected.get(dog.getNumber());
+            List<DailyScore> stored = dog.getScores();
+            for (int i = 0; i < from.getScores().size(); i++) {
+                DailyScore source = from.getScores().get(i);
+                if (i == stored.size())
+                    stored.add(new DailyScore(entityManager.getReference(Days.class, source.getDay().getDay()), dog));
+                DailyScore target = stored.get(i);
+                target.setLastCross(source.getLastCross());
+                target.setAssociatedPoints(source.getAssociatedPoints());
+                target.setZeroInterval(source.isZeroInterval());
+                target.setDailyScore(source.getDailyScore());
+                for (TimeBucketScore tbs : source.getTimeBucketScores())
+                    target.getTimeBucketScores().add(new TimeBucketScore(null, tbs.getTimeBucket(),
+                            entityManager.getReference(Score.class, tbs.getScore().getId()), target));
+                for (HighestScore hs : source.getHighestScores()) {
+                    target.getHighestScores().add(new HighestScore(null, hs.getTimeBucket(),
+                            entityManager.getReference(Score.class, hs.getScore().getId()), target));
+                    counted.add(hs.getScore().getId());
+                }
+            }
+            for (int i = from.getScores().size(); i < stored.size(); i++)
+                ScoreProjection.reset(stored.get(i));
+            dog.setPoints(from.getPoints());
+        }
+        if (!counted.isEmpty())
+            entityManager.createQuery("update Score s set s.counted = true where s.id in :ids")
+                    .setParameter("ids", counted).executeUpdate();
+    }
+}
@@ -0,0 +1,275 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.google.gson.JsonParseException;
+import com.trackhounds.trackhounds.GsonUtil;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.JournalCheckpoint;
+import com.trackhounds.trackhounds.Repository.JournalCheckpointRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Append-only journal of accepted crosses for the write-behind mode. A cross
+ * is acknowledged once its line is forced to disk and applied to the
+ * standings, the ScoreJournalWriter saves it to the database later. Entries
+ * above the checkpoint saved with the last written batch are replayed on
+ * startup, so every cross is written exactly once.
+ */
+@Service
+public class ScoreJournal {
+
+    /**
+     * Logger
+     */
+    private static final Logger log = LoggerFactory.getLogger(ScoreJournal.class);
+
+    /**
+     * Standings Service
+     */
+    @Autowired
+    private StandingsService standingsService;
+
+    /**
+     * Journal Checkpoint Repository
+     */
+    @Autowired
+    private JournalCheckpointRepository checkpointRepository;
+
+    /**
+     * Whether crosses are journaled and written behind
+     */
+    @Value("${trackhounds.journal.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * Path of the journal file
+     */
+    @Value("${trackhounds.journal.path:data/score-journal.log}")
+    private Path path;
+
+    /**
+     * Serializes appends so lines and sequence numbers stay in order
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Entries waiting to be written to the database, in journal order
+     */
+    private final BlockingQueue<Entry> backlog = new LinkedBlockingQueue<>();
+
+    /**
+     * Open journal file
+     */
+    private FileChannel channel;
+
+    /**
+     * Sequence number of the last appended entry
+     */
+    private long lastSeq;
+
+    /**
+     * Whether crosses are journaled and written behind
+     *
+     * @return True if the journal is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Number of entries waiting to be written to the database
+     *
+     * @return Backlog size
+     */
+    public int getBacklog() {
+        return backlog.size();
+    }
+
+    /**
+     * Open the journal and replay the entries the database has not seen
+     *
+     * @throws IOException if the journal cannot be read or opened
+     */
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled)
+            return;
+        lock.lock();
+        try {
+            long checkpoint = checkpointRepository.findById(JournalCheckpoint.ID)
+                    .map(JournalCheckpoint::getSeq).orElse(0L);
+            lastSeq = checkpoint;
+            if (path.getParent() != null)
+                Files.createDirectories(path.getParent());
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            long valid = 0;
+            int replayed = 0;
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                Entry entry;
+                try {
+                    entry = GsonUtil.GSON.fromJson(line, Entry.class);
+                } catch (JsonParseException e) {
+                    entry = null;
+                }
+                // A line torn by a crash was never acknowledged, it is dropped with anything after it
+                if (entry == null || entry.getCross() == null)
+                    break;
+                valid += line.getBytes(StandardCharsets.UTF_8).length + 1;
+                if (entry.getSeq() <= checkpoint)
+                    continue;
+                standingsService.applyPending(entry.getSeq(), entry.getCross());
+                backlog.add(entry);
+                lastSeq = entry.getSeq();
+                replayed++;
+            }
+            channel.truncate(valid);
+            channel.position(valid);
+            if (replayed > 0)
+                log.info("Replaying {} journaled crosses from {}", replayed, path);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close the journal. Entries not written yet stay in the file and are
+     * replayed when it is opened again, so they are taken off the standings
+     * until then.
+     *
+     * @throws IOException if the journal cannot be closed
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            backlog.clear();
+            if (standingsService.getPendingCount() > 0)
+                standingsService.settle(lastSeq, List.of());
+            if (channel != null)
+                channel.close();
+            channel = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Append validated crosses, force them to disk and apply them to the
+     * standings
+     *
+     * @param crosses Validated crosses, in the order they were entered
+     * @throws UncheckedIOException if the journal cannot be written
+     */
+    public void append(List<ScoreDto> crosses) {
+        lock.lock();
+        try {
+            if (channel == null)
+                throw new IllegalStateException("Score journal is not open");
+            List<Entry> entries = new ArrayList<>();
+            StringBuilder lines = new StringBuilder();
+            for (ScoreDto cross : crosses) {
+                Entry entry = new Entry(lastSeq + entries.size() + 1, cross);
+                entries.add(entry);
+                lines.append(GsonUtil.GSON.toJson(entry)).append('\n');
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            long position = channel.position();
+            try {
+                while (buffer.hasRemaining())
+                    channel.write(buffer);
+                channel.force(false);
+            } catch (IOException e) {
+                channel.truncate(position);
+                throw e;
+            }
+            lastSeq += entries.size();
+            for (Entry entry : entries) {
+                standingsService.applyPending(entry.getSeq(), entry.getCross());
+                backlog.add(entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the next entries to write, waiting for one to arrive
+     *
+     * @param max     Most entries to take
+     * @param timeout Longest wait in milliseconds
+     * @return Entries in journal order, empty if none arrived
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public List<Entry> take(int max, long timeout) throws InterruptedException {
+        List<Entry> entries = new ArrayList<>();
+        Entry first = backlog.poll(timeout, TimeUnit.MILLISECONDS);
+        if (first == null)
+            return entries;
+        entries.add(first);
+        backlog.drainTo(entries, max - 1);
+        return entries;
+    }
+
+    /**
+     * Empty the journal file once everything in it has been written
+     *
+     * @param through Sequence number of the last written entry
+     */
+    public void compact(long through) {
+        lock.lock();
+        try {
+            if (channel == null || through != lastSeq || !backlog.isEmpty())
+                return;
+            channel.truncate(0);
+            channel.force(false);
+        } catch (IOException e) {
+            // The written entries stay behind the checkpoint and are skipped on replay
+            log.warn("Could not compact the score journal", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A journaled cross
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        /**
+         * Sequence number, increasing over the life of the journal
+         */
+        private long seq;
+        /**
+         * Validated cross
+         */
+        private ScoreDto cross;
+    }
+}
@@ -0,0 +1,155 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Background writer of the score journal. Drains journaled crosses into the
+ * database in batches on a single thread, so they are saved in journal order.
+ * A batch that fails is retried with a growing delay rather than skipped,
+ * since every entry in it was already acknowledged.
+ */
+@Service
+public class ScoreJournalWriter {
+
+    /**
+     * Logger
+     */
+    private static final Logger log = LoggerFactory.getLogger(ScoreJournalWriter.class);
+
+    /**
+     * Longest wait before retrying a failed batch, in milliseconds
+     */
+    private static final long MAX_RETRY_DELAY = 30_000;
+
+    /**
+     * Score Journal
+     */
+    @Autowired
+    private ScoreJournal scoreJournal;
+
+    /**
+     * Dog Service
+     */
+    @Autowired
+    private DogService dogService;
+
+    /**
+     * Most crosses saved in one transaction
+     */
+    @Value("${trackhounds.journal.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * Longest wait for a cross before checking whether to stop, in
+     * milliseconds
+     */
+    @Value("${trackhounds.journal.poll-ms:100}")
+    private long pollMs;
+
+    /**
+     * Writer thread, null while stopped
+     */
+    private Thread thread;
+
+    /**
+     * Whether the writer should keep running
+     */
+    private volatile boolean running;
+
+    /**
+     * Start writing once the application is ready, if the journal is enabled
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (scoreJournal.isEnabled())
+            start();
+    }
+
+    /**
+     * Start the writer thread
+     */
+    public synchronized void start() {
+        if (thread != null)
+            return;
+        running = true;
+        thread = Thread.ofPlatform().name("score-journal-writer").daemon().start(this::drain);
+    }
+
+    /**
+     * Stop the writer thread after its current batch. Entries not written yet
+     * stay in the journal and are replayed when it is opened again.
+     *
+     * @throws InterruptedException if interrupted while waiting for the thread
+     */
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (thread == null)
+            return;
+        running = false;
+        thread.join();
+        thread = null;
+    }
+
+    /**
+     * Whether the writer thread is running
+     *
+     * @return True if running
+     */
+    public synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    /**
+     * Write batches until stopped
+     */
+    private void drain() {
+        long delay = 0;
+        List<ScoreJournal.Entry> batch = List.of();
+        while (running) {
+            try {
+                if (batch.isEmpty())
+                    batch = scoreJournal.take(batchSize, pollMs);
+                if (batch.isEmpty())
+                    continue;
+                dogService.saveJournaled(batch);
+                scoreJournal.compact(batch.get(batch.size() - 1).getSeq());
+                batch = List.of();
+                delay = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                delay = Math.min(MAX_RETRY_DELAY, Math.max(delay * 2, 500));
+                log.warn("Could not write {} journaled crosses, retrying in {} ms", batch.size(), delay, e);
+                sleep(delay);
+            }
+        }
+    }
+
+    /**
+     * Wait before a retry, waking early if stopped
+     *
+     * @param millis Delay in milliseconds
+     */
+    private void sleep(long millis) {
+        long end = System.currentTimeMillis() + millis;
+        while (running && System.currentTimeMillis() < end) {
+            try {
+                Thread.sleep(Math.max(1, Math.min(pollMs, end - System.currentTimeMillis())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.trackhounds.trackhounds.Entity.DailyScore;
+import com.trackhounds.trackhounds.Entity.Days;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.ScoreEvent;
+import com.trackhounds.trackhounds.Entity.Score;
+
+/**
+ * Projection of the score log onto the daily scores and totals of dogs. The
+ * events are replayed in a single pass through DailyScore.addScore and
+ * removeScore, the code the live writes go through, so a projection matches
+ * what was written at the time.
+ */
+public class ScoreProjection {
+
+    /**
+     * Dogs projected onto, by number. Events of other dogs are skipped.
+     */
+    private final Map<Integer, DogEntity> dogs;
+
+    /**
+     * Resolves the score of a cross added event
+     */
+    private final Function<ScoreEvent, Score> scores;
+
+    /**
+     * Resolves a day for the daily scores created by the replay
+     */
+    private final IntFunction<Days> days;
+
+    /**
+     * Scores added and not removed yet, by id in the order they were added
+     */
+    private final Map<Long, Score> live = new LinkedHashMap<>();
+
+    /**
+     * Start time each live score was entered with, by score id
+     */
+    private final Map<Long, LocalTime> startTimes = new HashMap<>();
+
+    /**
+     * Dogs scratched
+     */
+    private final Set<Integer> scratched = new HashSet<>();
+
+    /**
+     * Hunt interval set by the last interval change, -1 if it never changed
+     */
+    private int interval = -1;
+
+    /**
+     * Create a projection onto a group of dogs
+     *
+     * @param dogs   Dogs by number, their daily scores must be empty or reset
+     * @param scores Resolves the score of a cross added event
+     * @param days   Resolves a day by number
+     */
+    public ScoreProjection(Map<Integer, DogEntity> dogs, Function<ScoreEvent, Score> scores, IntFunction<Days> days) {
+        this.dogs = dogs;
+        this.scores = scores;
+        this.days = days;
+    }
+
+    /**
+     * Replay the log onto new dogs that are not persisted. Used to check the
+     * stored totals without touching them.
+     *
+     * @param events  Score log, in id order
+     * @param numbers Numbers of the dogs to project
+     * @return Projected dogs by number
+     */
+    public static Map<Integer, DogEntity> replay(List<ScoreEvent> events, Collection<Integer> numbers) {
+        Map<Integer, DogEntity> dogs = new HashMap<>();
+        for (int number : numbers) {
+            DogEntity dog = new DogEntity();
+            dog.setNumber(number);
+            dogs.put(number, dog);
+        }
+        Map<Integer, Days> days = new HashMap<>();
+        ScoreProjection projection = new ScoreProjection(dogs, ScoreProjection::scoreOf,
+                day -> days.computeIfAbsent(day, d -> new Days(d, null)));
+        projection.applyAll(events);
+        projection.finish();
+        return dogs;
+    }
+
+    /**
+     * Score recorded by a cross added event, not persisted
+     *
+     * @param event Cross added event
+     * @return Score
+     */
+    public static Score scoreOf(ScoreEvent event) {
+        return new Score(event.getScoreId(), event.getPoints(), event.getTime(), false, event.getJudgeNumber(),
+                event.getDogNumber(), event.getDay());
+    }
+
+    /**
+     * Clear what a replay derives from the log off a daily score
+     *
+     * @param dailyScore Daily score to reset
+     */
+    public static void reset(DailyScore dailyScore) {
+        dailyScore.clearScores();
+    }
+
+    /**
+     * Apply events in order
+     *
+     * @param events Events, in id order
+     */
+    public void applyAll(List<ScoreEvent> events) {
+        for (ScoreEvent event : events)
+            apply(event);
+    }
+
+    /**
+     * Apply the next event of the log
+     *
+     * @param event Event
+     */
+    public void apply(ScoreEvent event) {
+        DogEntity dog = dogs.get(event.getDogNumber());
+        switch (event.getType()) {
+            case CROSS_ADDED -> {
+                if (dog == null)
+                    return;
+                Score score = scores.apply(event);
+                score.setCounted(false);
+                live.put(score.getId(), score);
+                startTimes.put(score.getId(), event.getStartTime());
+                dailyScore(dog, event.getDay()).addScore(score, event.getStartTime(), event.getHuntInterval());
+            }
+            case CROSS_REMOVED -> {
+                Score score = live.remove(event.getScoreId());
+                startTimes.remove(event.getScoreId());
+                if (dog == null || score == null)
+                    return;
+                dailyScore(dog, score.getDay()).removeScore(score);
+            }
+            case DOG_SCRATCHED -> scratched.add(event.getDogNumber());
+            case INTERVAL_CHANGED -> rebucket(event.getHuntInterval());
+        }
+    }
+
+    /**
+     * Bucket every live score again under a new interval, in the order the
+     * scores were added
+     *
+     * @param newInterval Interval in minutes
+     */
+    private void rebucket(int newInterval) {
+        interval = newInterval;
+        for (DogEntity dog : dogs.values())
+            dog.getScores().forEach(ScoreProjection::reset);
+        for (Score score : live.values()) {
+            score.setCounted(false);
+            dailyScore(dogs.get(score.getDogNumber()), score.getDay()).addScore(score,
+                    startTimes.get(score.getId()), newInterval);
+        }
+    }
+
+    /**
+     * Set the totals and scratches of every dog once the log is applied
+     */
+    public void finish() {
+        for (DogEntity dog : dogs.values()) {
+            dog.setPoints(DogService.calculateTotalPoints(dog));
+            if (scratched.contains(dog.getNumber()))
+                dog.setScratched(true);
+        }
+    }
+
+    /**
+     * Scores added and not removed by the events applied so far
+     *
+     * @return Live scores by id
+     */
+    public Map<Long, Score> getLiveScores() {
+        return live;
+    }
+
+    /**
+     * Hunt interval applied by the last interval change
+     *
+     * @return Interval in minutes, -1 if it never changed
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Daily score of a dog on a day, adding the missing days before it the way
+     * the live writes do
+     *
+     * @param dog Dog
+     * @param day Day number
+     * @return Daily score
+     */
+    private DailyScore dailyScore(DogEntity dog, int day) {
+        List<DailyScore> daily = dog.getScores();
+        for (int d = daily.size() + 1; d <= day; d++)
+            daily.add(new DailyScore(days.apply(d), dog));
+        return daily.get(day - 1);
+    }
+}
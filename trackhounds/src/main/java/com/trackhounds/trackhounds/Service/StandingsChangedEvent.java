@@ -0,0 +1,19 @@
+package com.trackhounds.trackhounds.Service;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published by the StandingsService once a change to the standings has been
+ * committed.
+ */
+public class StandingsChangedEvent extends ApplicationEvent {
+
+  /**
+   * Create the event
+   *
+   * @param source Standings service that changed
+   */
+  public StandingsChangedEvent(Object source) {
+    super(source);
+  }
+}
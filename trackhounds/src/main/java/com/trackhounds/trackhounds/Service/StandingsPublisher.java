@@ -0,0 +1,182 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes the top 10 leaderboards to Server-Sent Events subscribers. The boards
+ * are computed once per committed change and only the boards whose rows
+ * changed are sent, so every scoreboard shares the same computation.
+ *
+ * Board names (used as the SSE event name): overall, stake-{STAKE},
+ * day-{DAY} and day-{DAY}-stake-{STAKE}.
+ */
+@Service
+public class StandingsPublisher {
+
+  /**
+   * Dog Service, used to compute the boards
+   */
+  @Autowired
+  private DogService dogService;
+
+  /**
+   * Standings Service
+   */
+  @Autowired
+  private StandingsService standingsService;
+
+  /**
+   * Connected subscribers
+   */
+  private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+  /**
+   * Last boards sent to the subscribers, by board name
+   */
+  private Map<String, List<?>> boards = new LinkedHashMap<>();
+
+  /**
+   * Whether a refresh is already queued
+   */
+  private final AtomicBoolean pending = new AtomicBoolean();
+
+  /**
+   * Single thread that recomputes the boards off the request thread
+   */
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "standings-publisher");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /**
+   * Register a new subscriber and send it every current board
+   *
+   * @return Emitter of the subscriber
+   */
+  public synchronized SseEmitter subscribe() {
+    SseEmitter emitter = new SseEmitter(0L);
+    emitter.onCompletion(() -> emitters.remove(emitter));
+    emitter.onTimeout(() -> emitters.remove(emitter));
+    emitter.onError(e -> emitters.remove(emitter));
+    // Boards are not kept up to date while nobody listens
+    if (emitters.isEmpty())
+      boards = computeBoards();
+    emitters.add(emitter);
+    for (Map.Entry<String, List<?>> board : boards.entrySet())
+      send(emitter, board.getKey(), board.getValue());
+    return emitter;
+  }
+
+  /**
+   * Get the number of connected subscribers
+   *
+   * @return Number of subscribers
+   */
+  public int getSubscriberCount() {
+    return emitters.size();
+  }
+
+  /**
+   * Queue a refresh of the boards after a committed change. Changes arriving
+   * while a refresh is queued are folded into it.
+   *
+   * @param event Change event
+   */
+  @EventListener
+  public void onStandingsChanged(StandingsChangedEvent event) {
+    if (emitters.isEmpty())
+      return;
+    if (pending.compareAndSet(false, true)) {
+      executor.execute(() -> {
+        pending.set(false);
+        refresh();
+      });
+    }
+  }
+
+  /**
+   * Recompute every board and send the ones that changed
+   *
+   * @return Names of the boards that were sent
+   */
+  public synchronized List<String> refresh() {
+    Map<String, List<?>> current = computeBoards();
+    // Boards that disappeared (e.g. after a clear) are sent as empty
+    for (String name : boards.keySet())
+      current.putIfAbsent(name, List.of());
+    List<String> changed = new ArrayList<>();
+    for (Map.Entry<String, List<?>> board : current.entrySet()) {
+      if (!board.getValue().equals(boards.get(board.getKey())))
+        changed.add(board.getKey());
+    }
+    boards = current;
+    for (String name : changed) {
+      for (SseEmitter emitter : emitters)
+        send(emitter, name, current.get(name));
+    }
+    return changed;
+  }
+
+  /**
+   * Complete every subscriber on shutdown
+   */
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+    for (SseEmitter emitter : emitters)
+      emitter.complete();
+    emitters.clear();
+  }
+
+  /**
+   * Compute the top 10 of every board
+   *
+   * @return Boards by name
+   */
+  private Map<String, List<?>> computeBoards() {
+    Map<String, List<?>> current = new LinkedHashMap<>();
+    current.put("overall", dogService.getTop10ScoringDogsOverall());
+    for (StakeType stake : StakeType.values())
+      current.put("stake-" + stake, dogService.getTop10ScoringDogsByStakeType(stake));
+    for (int day : standingsService.getStartedDays()) {
+      current.put("day-" + day, dogService.getTop10ScoringDogsByDay(day));
+      for (StakeType stake : StakeType.values())
+        current.put("day-" + day + "-stake-" + stake, dogService.getTop10ScoringDogsByDayAndStakeType(day, stake));
+    }
+    return current;
+  }
+
+  /**
+   * Send a board to a subscriber, dropping the subscriber if it is gone
+   *
+   * @param emitter Subscriber
+   * @param name    Board name
+   * @param rows    Board rows
+   */
+  private void send(SseEmitter emitter, String name, List<?> rows) {
+    try {
+      emitter.send(SseEmitter.event().name(name).data(rows, MediaType.APPLICATION_JSON));
+    } catch (IOException | IllegalStateException e) {
+      emitters.remove(emitter);
+    }
+  }
+}
@@ -0,0 +1,670 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.trackhounds.trackhounds.Dto.DogStanding;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.Days;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Repository.DaysRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnit;
+import jakarta.persistence.TypedQuery;
+import lombok.AllArgsConstructor;
+
+/**
+ * In-memory standings engine. Holds a snapshot of every dog's daily and
+ * weighted totals which is replaced only when a write touches that dog, so
+ * leaderboard reads are pure lookups.
+ *
+ * Changes made inside a transaction are staged on it and only reach the
+ * shared standings once it commits, so a rollback leaves them untouched.
+ * Reads inside that transaction see its staged changes.
+ */
+@Service
+public class StandingsService {
+
+  /**
+   * Entity manager of the current transaction
+   */
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  /**
+   * Entity manager factory, the shared standings are read through their own
+   * entity manager so they only ever hold committed rows
+   */
+  @PersistenceUnit
+  private EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Days Repository
+   */
+  @Autowired
+  private DaysRepository daysRepository;
+
+  /**
+   * Event publisher used to announce committed standings changes
+   */
+  @Autowired
+  private ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Standings keyed (and ordered) by dog number
+   */
+  private final Map<Integer, DogStanding> standings = new ConcurrentSkipListMap<>();
+
+  /**
+   * Start time of each day that has one
+   */
+  private final Map<Integer, LocalTime> startTimes = new ConcurrentHashMap<>();
+
+  /**
+   * Dogs changed outside of the service layer that must be reloaded
+   */
+  private final Set<Integer> dirty = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Journaled crosses not saved yet, by dog number in journal order. They are
+   * applied over whatever is read from the database until they are settled.
+   */
+  private final Map<Integer, List<PendingCross>> pending = new HashMap<>();
+
+  /**
+   * Start times of days opened by journaled crosses not saved yet
+   */
+  private final Map<Integer, LocalTime> pendingStartTimes = new HashMap<>();
+
+  /**
+   * Whether the standings have been loaded from the database
+   */
+  private volatile boolean loaded = false;
+
+  /**
+   * Bumped whenever the standings are dropped, reads started before are
+   * discarded
+   */
+  private long generation;
+
+  /**
+   * Database reads in progress. Dogs changed meanwhile are reloaded after them
+   */
+  private int reading;
+
+  /**
+   * Get the standings of all dogs, ordered by dog number
+   *
+   * @return List of standings
+   */
+  public List<DogStanding> getStandings() {
+    Changes changes = staged();
+    if (changes == null) {
+      ensureFresh();
+      return new ArrayList<>(standings.values());
+    }
+    return new ArrayList<>(view(changes).values());
+  }
+
+  /**
+   * Get the start time of a day
+   *
+   * @param day Day number
+   * @return Start time, or null if the day has not started
+   */
+  public LocalTime getStartTime(int day) {
+    Changes changes = staged();
+    if (changes != null && (changes.reset || changes.startTimes.containsKey(day)))
+      return changes.startTimes.get(day);
+    ensureFresh();
+    return startTimes.get(day);
+  }
+
+  /**
+   * Get the days that have a start time
+   *
+   * @return Started day numbers, in order
+   */
+  public List<Integer> getStartedDays() {
+    Changes changes = staged();
+    Set<Integer> days = new HashSet<>();
+    if (changes == null || !changes.reset) {
+      ensureFresh();
+      days.addAll(startTimes.keySet());
+    }
+    if (changes != null)
+      days.addAll(changes.startTimes.keySet());
+    return days.stream().sorted().toList();
+  }
+
+  /**
+   * Number of dogs held in memory, without loading them
+   *
+   * @return Held dog standings
+   */
+  public int getHeldDogCount() {
+    return standings.size();
+  }
+
+  /**
+   * Number of daily standings held in memory, without loading them
+   *
+   * @return Held day standings over every dog
+   */
+  public int getHeldDayCount() {
+    int days = 0;
+    for (DogStanding standing : standings.values())
+      days += standing.getDays().size();
+    return days;
+  }
+
+  /**
+   * Number of dogs waiting to be reloaded
+   *
+   * @return Dirty dog count
+   */
+  public int getDirtyCount() {
+    return dirty.size();
+  }
+
+  /**
+   * Number of journaled crosses not saved yet, over every dog
+   *
+   * @return Pending dog crosses
+   */
+  public synchronized int getPendingCount() {
+    int count = 0;
+    for (List<PendingCross> crosses : pending.values())
+      count += crosses.size();
+    return count;
+  }
+
+  /**
+   * Replace the standing of a dog after it has been saved
+   *
+   * @param dog Saved dog
+   */
+  public void update(DogEntity dog) {
+    DogStanding standing = DogStanding.of(dog);
+    stage(changes -> changes.put(dog.getNumber(), standing));
+  }
+
+  /**
+   * Apply a journaled cross before it is saved. The journal has already made
+   * it durable, so it is applied at once rather than staged. It stays applied
+   * over the dog's standing until {@link #settle(long, Collection)} is called
+   * with its sequence number.
+   *
+   * @param seq   Journal sequence number of the cross
+   * @param cross Validated cross
+   */
+  public void applyPending(long seq, ScoreDto cross) {
+    LocalTime startTime = LocalTime.parse(cross.getStartTime());
+    LocalTime time = LocalTime.parse(cross.getCrossTime());
+    int bucket = cross.getInterval() == 0 ? 0
+        : (int) Duration.between(startTime, time).toMinutes() / cross.getInterval();
+    synchronized (this) {
+      pendingStartTimes.putIfAbsent(cross.getDay(), startTime);
+      if (loaded)
+        startTimes.putIfAbsent(cross.getDay(), startTime);
+      for (int i = 0; i < cross.getDogNumbers().length; i++) {
+        PendingCross pendingCross = new PendingCross(seq, cross.getDay(), bucket, time, cross.getScores()[i],
+            cross.getInterval());
+        int number = cross.getDogNumbers()[i];
+        pending.computeIfAbsent(number, n -> new ArrayList<>()).add(pendingCross);
+        DogStanding standing = standings.get(number);
+        if (standing != null)
+          standings.put(number, pendingCross.applyTo(standing));
+      }
+    }
+    eventPublisher.publishEvent(new StandingsChangedEvent(this));
+  }
+
+  /**
+   * Replace the overlay of journaled crosses once they are saved
+   *
+   * @param through Highest sequence number saved
+   * @param saved   Standings of the saved dogs, read in the transaction that
+   *                saved them
+   */
+  public void settle(long through, Collection<DogStanding> saved) {
+    stage(changes -> {
+      changes.settled = Math.max(changes.settled, through);
+      for (DogStanding standing : saved)
+        changes.put(standing.getNumber(), standing);
+    });
+  }
+
+  /**
+   * Record the start time of a day after it has been saved
+   *
+   * @param day Saved day
+   */
+  public void updateDay(Days day) {
+    if (day.getStartTime() == null)
+      return;
+    stage(changes -> changes.startTimes.put(day.getDay(), day.getStartTime()));
+  }
+
+  /**
+   * Remove the standing of a deleted dog
+   *
+   * @param number Number of the dog
+   */
+  public void remove(int number) {
+    stage(changes -> changes.put(number, null));
+  }
+
+  /**
+   * Flag a dog as changed outside of the service layer so it is reloaded on the
+   * next read
+   *
+   * @param number Number of the dog
+   */
+  public void markDirty(int number) {
+    stage(changes -> changes.flag(number));
+  }
+
+  /**
+   * Drop all standings, they are reloaded from the database on the next read
+   */
+  public void reset() {
+    stage(Changes::reset);
+  }
+
+  /**
+   * Changes staged on the current transaction
+   *
+   * @return Staged changes, or null if nothing is staged
+   */
+  private Changes staged() {
+    return (Changes) TransactionSynchronizationManager.getResource(this);
+  }
+
+  /**
+   * Record a change. Inside a transaction it is staged on it, applied and
+   * announced once it commits and discarded if it rolls back. Outside one it
+   * is applied and announced at once.
+   *
+   * @param change Change to record
+   */
+  private void stage(Consumer<Changes> change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      Changes changes = new Changes();
+      change.accept(changes);
+      apply(changes);
+      eventPublisher.publishEvent(new StandingsChangedEvent(this));
+      return;
+    }
+    Changes changes = staged();
+    if (changes == null) {
+      changes = new Changes();
+      bind(changes);
+    }
+    change.accept(changes);
+  }
+
+  /**
+   * Stage changes on the current transaction
+   *
+   * @param created Empty changes to stage into
+   */
+  private void bind(Changes created) {
+    TransactionSynchronizationManager.bindResource(this, created);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        apply(created);
+        eventPublisher.publishEvent(new StandingsChangedEvent(StandingsService.this));
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(StandingsService.this);
+      }
+    });
+  }
+
+  /**
+   * Apply committed changes to the shared standings
+   *
+   * @param changes Committed changes
+   */
+  private synchronized void apply(Changes changes) {
+    if (changes.reset) {
+      drop();
+      return;
+    }
+    Set<Integer> settled = new HashSet<>();
+    pending.entrySet().removeIf(entry -> {
+      if (entry.getValue().removeIf(cross -> cross.seq <= changes.settled))
+        settled.add(entry.getKey());
+      return entry.getValue().isEmpty();
+    });
+    if (pending.isEmpty())
+      pendingStartTimes.clear();
+    // Nothing to reload before the first load, unless one is reading already
+    if (loaded || reading > 0)
+      dirty.addAll(changes.dirty);
+    changes.dogs.forEach((number, standing) -> {
+      settled.remove(number);
+      if (reading > 0)
+        dirty.add(number);
+      else
+        dirty.remove(number);
+      if (standing == null)
+        standings.remove(number);
+      else if (loaded)
+        standings.put(number, withPending(standing));
+    });
+    // Crosses of dogs that were not saved, such as deleted dogs
+    for (Integer number : settled) {
+      if (standings.containsKey(number))
+        dirty.add(number);
+    }
+    startTimes.putAll(changes.startTimes);
+  }
+
+  /**
+   * Forget everything held in memory
+   */
+  private synchronized void drop() {
+    generation++;
+    loaded = false;
+    standings.clear();
+    startTimes.clear();
+    dirty.clear();
+  }
+
+  /**
+   * Standings as seen by a transaction with staged changes. Dogs it flagged
+   * as dirty are read through it, since their rows are not committed yet.
+   *
+   * @param changes Changes staged on the transaction
+   * @return Standings keyed by dog number
+   */
+  private Map<Integer, DogStanding> view(Changes changes) {
+    Map<Integer, DogStanding> view = new TreeMap<>();
+    if (!changes.reset) {
+      ensureFresh();
+      view.putAll(standings);
+    }
+    // Reading flushes the transaction, which may flag more dogs
+    while (!changes.dirty.isEmpty()) {
+      List<Integer> numbers = new ArrayList<>(changes.dirty);
+      for (Integer number : numbers)
+        changes.put(number, null);
+      for (DogStanding standing : readStandings(entityManager, numbers))
+        changes.put(standing.getNumber(), standing);
+    }
+    synchronized (this) {
+      changes.dogs.forEach((number, standing) -> {
+        if (standing == null)
+          view.remove(number);
+        else
+          view.put(number, withPending(standing));
+      });
+    }
+    return view;
+  }
+
+  /**
+   * Load the standings if needed and reload any dirty dogs
+   */
+  private void ensureFresh() {
+    if (!loaded)
+      load();
+    else if (!dirty.isEmpty())
+      reloadDirty();
+  }
+
+  /**
+   * Load every dog and day from the database. The queries run outside the
+   * monitor: writers call in while holding a pooled connection, so waiting on a
+   * connection while holding the monitor can exhaust the pool.
+   */
+  private void load() {
+    while (!loaded) {
+      long seen;
+      synchronized (this) {
+        if (loaded)
+          return;
+        seen = generation;
+        reading++;
+      }
+      try {
+        List<DogStanding> loadedStandings;
+        List<Days> days;
+        if (readOnlyTransaction()) {
+          loadedStandings = readStandings(entityManager, null);
+          days = daysRepository.findAll();
+        } else {
+          try (EntityManager own = entityManagerFactory.createEntityManager()) {
+            loadedStandings = readStandings(own, null);
+            days = own.createQuery("select d from Days d", Days.class).getResultList();
+          }
+        }
+        synchronized (this) {
+          if (loaded || generation != seen)
+            continue;
+          for (DogStanding standing : loadedStandings)
+            standings.put(standing.getNumber(), withPending(standing));
+          for (Days day : days) {
+            if (day.getStartTime() != null)
+              startTimes.putIfAbsent(day.getDay(), day.getStartTime());
+          }
+          pendingStartTimes.forEach(startTimes::putIfAbsent);
+          loaded = true;
+        }
+      } finally {
+        synchronized (this) {
+          reading--;
+        }
+      }
+    }
+  }
+
+  /**
+   * Reload the dogs flagged as dirty, querying outside the monitor like
+   * {@link #load()}
+   */
+  private void reloadDirty() {
+    List<Integer> numbers;
+    long seen;
+    synchronized (this) {
+      numbers = new ArrayList<>(dirty);
+      dirty.removeAll(numbers);
+      seen = generation;
+      reading++;
+    }
+    try {
+      if (numbers.isEmpty())
+        return;
+      List<DogStanding> reloaded;
+      if (readOnlyTransaction()) {
+        reloaded = readStandings(entityManager, numbers);
+      } else {
+        try (EntityManager own = entityManagerFactory.createEntityManager()) {
+          reloaded = readStandings(own, numbers);
+        }
+      }
+      synchronized (this) {
+        if (generation != seen)
+          return;
+        for (Integer number : numbers)
+          standings.remove(number);
+        for (DogStanding standing : reloaded)
+          standings.put(standing.getNumber(), withPending(standing));
+      }
+    } finally {
+      synchronized (this) {
+        reading--;
+      }
+    }
+  }
+
+  /**
+   * Apply the journaled crosses of a dog that are not saved yet
+   *
+   * @param standing Standing read from the database
+   * @return Standing including the pending crosses
+   */
+  private DogStanding withPending(DogStanding standing) {
+    for (PendingCross cross : pending.getOrDefault(standing.getNumber(), List.of()))
+      standing = cross.applyTo(standing);
+    return standing;
+  }
+
+  /**
+   * Whether the shared standings can be read through the current
+   * transaction. A read-only one holds no uncommitted rows and saves a
+   * connection. Any other read uses a dedicated entity manager: a writing
+   * transaction may hold rows that never commit, and outside a transaction
+   * the request's persistence context may hold cached copies of the dogs
+   * that Hibernate would keep instead of the rows just read.
+   *
+   * @return True inside a read-only transaction
+   */
+  private static boolean readOnlyTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  /**
+   * Read dogs with their daily scores and days through an entity manager, in a
+   * single query
+   *
+   * @param manager Entity manager to read through
+   * @param numbers Numbers of the dogs, or null for every dog
+   * @return Standings of the dogs found
+   */
+  private static List<DogStanding> readStandings(EntityManager manager, Collection<Integer> numbers) {
+    TypedQuery<DogEntity> query = numbers == null
+        ? manager.createQuery("select d from DogEntity d", DogEntity.class)
+        : manager.createQuery("select d from DogEntity d where d.number in :numbers", DogEntity.class)
+            .setParameter("numbers", numbers);
+    query.setHint("jakarta.persistence.fetchgraph", manager.getEntityGraph(DogEntity.STANDINGS_GRAPH));
+    List<DogStanding> read = new ArrayList<>();
+    for (DogEntity dog : query.getResultList())
+      read.add(DogStanding.of(dog));
+    return read;
+  }
+
+  /**
+   * Standings changes of one write or transaction
+   */
+  private static class Changes {
+    /**
+     * New standings by dog number, null for a removed dog
+     */
+    private final Map<Integer, DogStanding> dogs = new HashMap<>();
+    /**
+     * Start times by day number
+     */
+    private final Map<Integer, LocalTime> startTimes = new HashMap<>();
+    /**
+     * Dogs written outside of the service layer
+     */
+    private final Set<Integer> dirty = new HashSet<>();
+    /**
+     * Highest journal sequence number saved, -1 if none
+     */
+    private long settled = -1;
+    /**
+     * Whether every standing was dropped first
+     */
+    private boolean reset;
+
+    /**
+     * Replace the standing of a dog
+     *
+     * @param number   Number of the dog
+     * @param standing New standing, null if the dog was removed
+     */
+    void put(int number, DogStanding standing) {
+      dirty.remove(number);
+      dogs.put(number, standing);
+    }
+
+    /**
+     * Flag a dog written outside of the service layer
+     *
+     * @param number Number of the dog
+     */
+    void flag(int number) {
+      dogs.remove(number);
+      dirty.add(number);
+    }
+
+    /**
+     * Drop every standing, including the changes recorded so far
+     */
+    void reset() {
+      reset = true;
+      dogs.clear();
+      startTimes.clear();
+      dirty.clear();
+    }
+  }
+
+  /**
+   * A dog's part of a journaled cross
+   */
+  @AllArgsConstructor
+  private static class PendingCross {
+    /**
+     * Journal sequence number of the cross
+     */
+    private final long seq;
+    /**
+     * Day of the cross
+     */
+    private final int day;
+    /**
+     * Time bucket of the cross
+     */
+    private final int bucket;
+    /**
+     * Time of the cross
+     */
+    private final LocalTime time;
+    /**
+     * Points of the dog
+     */
+    private final int points;
+    /**
+     * Hunt interval of the cross
+     */
+    private final int interval;
+
+    /**
+     * Apply the cross to a standing
+     *
+     * @param standing Standing of the dog
+     * @return Standing including the cross
+     */
+    DogStanding applyTo(DogStanding standing) {
+      return standing.withCross(day, bucket, time, points, interval);
+    }
+  }
+}
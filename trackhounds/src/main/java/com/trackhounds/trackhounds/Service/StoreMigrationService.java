@@ -0,0 +1,379 @@
+package com.trackhounds.trackhounds.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Copies a hunt between the MariaDB and the embedded database. Every table is
+ * copied row for row in foreign key order, keeping the ids, then the id
+ * sequences of the copy are moved past the copied rows. The array columns of
+ * the hunt are converted, as H2 stores them as arrays and MariaDB as binary.
+ */
+@Service
+public class StoreMigrationService {
+
+    /**
+     * Logger
+     */
+    private static final Logger log = LoggerFactory.getLogger(StoreMigrationService.class);
+
+    /**
+     * Tables of the hunt, referenced tables first
+     */
+    public static final List<String> TABLES = List.of("hunt_entity", "days", "dogs", "judge_entity", "scratch",
+            "score", "daily_score", "time_bucket_score", "highest_score", "score_event", "journal_checkpoint");
+
+    /**
+     * Id sequences, by table
+     */
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "scratch", "scratch_seq",
+            "score", "score_seq",
+            "daily_score", "daily_score_seq",
+            "time_bucket_score", "time_bucket_score_seq",
+            "highest_score", "highest_score_seq",
+            "score_event", "score_event_seq");
+
+    /**
+     * Array columns Hibernate stores as a serialized Java array on MariaDB
+     */
+    private static final List<String> SERIALIZED_ARRAYS = List.of("hunt_entity.stake_range");
+
+    /**
+     * Enum array columns Hibernate stores as one ordinal byte per element on
+     * MariaDB, -1 for null
+     */
+    private static final List<String> ORDINAL_ARRAYS = List.of("hunt_entity.stake_type_range");
+
+    /**
+     * Only a serialized int array is read back
+     */
+    private static final ObjectInputFilter SERIALIZED_FILTER = ObjectInputFilter.Config
+            .createFilter("[I;maxarray=1024;!*");
+
+    /**
+     * Ids Hibernate takes from a sequence at a time, see the
+     * {@code @SequenceGenerator} of the entities
+     */
+    private static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * Rows inserted per JDBC batch
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Database of the application, the copy is written to it
+     */
+    @Autowired
+    private DataSource dataSource;
+
+    /**
+     * Standings Service
+     */
+    @Autowired
+    private StandingsService standingsService;
+
+    /**
+     * Hunt configuration
+     */
+    @Autowired
+    private HuntConfigService huntConfigService;
+
+    /**
+     * Copy the hunt of another database into the database of the application,
+     * which must be empty
+     *
+     * @param source Database to copy from
+     * @return Rows copied, by table
+     * @throws SQLException          if either database fails
+     * @throws IllegalStateException if the database of the application already
+     *                               holds a hunt
+     */
+    public Map<String, Integer> copyFrom(DataSource source) throws SQLException {
+        Map<String, Integer> copied = new LinkedHashMap<>();
+        try (Connection from = source.getConnection(); Connection to = dataSource.getConnection()) {
+            from.setReadOnly(true);
+            for (String table : TABLES) {
+                if (count(to, table) > 0)
+                    throw new IllegalStateException("Database to copy into already holds " + table + " rows.");
+            }
+            boolean autoCommit = to.getAutoCommit();
+            to.setAutoCommit(false);
+            try {
+                for (String table : TABLES)
+                    copied.put(table, hasTable(from, table) ? copyTable(from, to, table) : 0);
+                to.commit();
+            } catch (SQLException | RuntimeException e) {
+                to.rollback();
+                throw e;
+            } finally {
+                to.setAutoCommit(autoCommit);
+            }
+            // Schema changes commit on their own, so the ids move once the rows
+            // are in
+            for (Map.Entry<String, String> sequence : SEQUENCES.entrySet())
+                restartSequence(to, sequence.getValue(), maxId(to, sequence.getKey()));
+            if (to.getMetaData().getDatabaseProductName().equals("H2"))
+                execute(to, "ALTER TABLE hunt_entity ALTER COLUMN id RESTART WITH " + (maxId(to, "hunt_entity") + 1));
+        }
+        huntConfigService.invalidate();
+        standingsService.reset();
+        log.info("Copied {}", copied);
+        return copied;
+    }
+
+    /**
+     * Copy the rows of a table, in the columns both databases have
+     *
+     * @param from  Connection to copy from
+     * @param to    Connection to copy into
+     * @param table Table
+     * @return Rows copied
+     * @throws SQLException if either database fails
+     */
+    private static int copyTable(Connection from, Connection to, String table) throws SQLException {
+        Map<String, Integer> targetColumns = columns(to, table);
+        try (Statement select = from.createStatement()) {
+            select.setFetchSize(BATCH_SIZE);
+            try (ResultSet rows = select.executeQuery("SELECT * FROM " + table)) {
+                ResultSetMetaData meta = rows.getMetaData();
+                List<Integer> indexes = new ArrayList<>();
+                List<String> names = new ArrayList<>();
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    String name = meta.getColumnLabel(i).toLowerCase(Locale.ROOT);
+                    if (targetColumns.containsKey(name)) {
+                        indexes.add(i);
+                        names.add(name);
+                    }
+                }
+                String sql = "INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+                        + String.join(", ", names.stream().map(name -> "?").toList()) + ")";
+                int copied = 0;
+                try (PreparedStatement insert = to.prepareStatement(sql)) {
+                    while (rows.next()) {
+                        for (int i = 0; i < indexes.size(); i++) {
+                            String name = names.get(i);
+                            insert.setObject(i + 1, convert(to, table + "." + name, rows.getObject(indexes.get(i)),
+                                    targetColumns.get(name)));
+                        }
+                        insert.addBatch();
+                        if (++copied % BATCH_SIZE == 0)
+                            insert.executeBatch();
+                    }
+                    insert.executeBatch();
+                }
+                return copied;
+            }
+        }
+    }
+
+    /**
+     * Convert a value to the type of the column it is copied into. Only the
+     * array columns differ between the databases, other values are copied
+     * unchanged.
+     *
+     * @param to         Connection to copy into
+     * @param column     Column, as table.column
+     * @param value      Value read from the database copied from
+     * @param targetType SQL type of the column copied into
+     * @return Value to insert
+     * @throws SQLException if the value is not an array Hibernate wrote
+     */
+    private static Object convert(Connection to, String column, Object value, int targetType) throws SQLException {
+        boolean serialized = SERIALIZED_ARRAYS.contains(column);
+        if (value == null || (!serialized && !ORDINAL_ARRAYS.contains(column)))
+            return value;
+        Integer[] elements = readArray(column, value, serialized);
+        if (targetType == Types.ARRAY)
+            return to.createArrayOf(serialized ? "INTEGER" : "TINYINT", elements);
+        if (serialized)
+            return serialize(elements, column);
+        byte[] ordinals = new byte[elements.length];
+        for (int i = 0; i < elements.length; i++)
+            ordinals[i] = elements[i] == null ? -1 : elements[i].byteValue();
+        return ordinals;
+    }
+
+    /**
+     * Elements of an array column, read from an array or from the binary
+     * Hibernate writes on MariaDB
+     *
+     * @param column     Column, as table.column
+     * @param value      Value read
+     * @param serialized Whether the binary is a serialized Java array, else
+     *                   one ordinal byte per element
+     * @return Elements, null where the array holds null
+     * @throws SQLException if the value is not an array Hibernate wrote
+     */
+    private static Integer[] readArray(String column, Object value, boolean serialized) throws SQLException {
+        if (value instanceof Array array) {
+            Object[] elements = (Object[]) array.getArray();
+            return Arrays.stream(elements).map(element -> element == null ? null : ((Number) element).intValue())
+                    .toArray(Integer[]::new);
+        }
+        byte[] bytes = (byte[]) value;
+        if (!serialized) {
+            Integer[] elements = new Integer[bytes.length];
+            for (int i = 0; i < bytes.length; i++)
+                elements[i] = bytes[i] == -1 ? null : (int) bytes[i];
+            return elements;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(SERIALIZED_FILTER);
+            return Arrays.stream((int[]) in.readObject()).boxed().toArray(Integer[]::new);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            throw new SQLException("Cannot read " + column + " as an int array", e);
+        }
+    }
+
+    /**
+     * Serialize an int array the way Hibernate writes it on MariaDB
+     *
+     * @param elements Elements, which must not be null
+     * @param column   Column, as table.column
+     * @return Serialized array
+     * @throws SQLException if an element is null
+     */
+    private static byte[] serialize(Integer[] elements, String column) throws SQLException {
+        if (Arrays.asList(elements).contains(null))
+            throw new SQLException(column + " holds a null element, which an int array cannot");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(Arrays.stream(elements).mapToInt(Integer::intValue).toArray());
+        } catch (IOException e) {
+            throw new SQLException("Cannot write " + column, e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Move a sequence past the ids of its table, allowing for the block of ids
+     * Hibernate takes below the value it reads
+     *
+     * @param connection Connection
+     * @param sequence   Sequence
+     * @param maxId      Highest id of the table
+     * @throws SQLException if the database fails
+     */
+    private static void restartSequence(Connection connection, String sequence, long maxId) throws SQLException {
+        if (maxId > 0)
+            execute(connection, "ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + ALLOCATION_SIZE));
+    }
+
+    /**
+     * Columns of a table
+     *
+     * @param connection Connection
+     * @param table      Table
+     * @return SQL types, by lower case column name
+     * @throws SQLException if the database fails
+     */
+    private static Map<String, Integer> columns(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT * FROM " + table + " WHERE 1 = 0")) {
+            Map<String, Integer> types = new LinkedHashMap<>();
+            for (int i = 1; i <= rows.getMetaData().getColumnCount(); i++)
+                types.put(rows.getMetaData().getColumnLabel(i).toLowerCase(Locale.ROOT),
+                        rows.getMetaData().getColumnType(i));
+            return types;
+        }
+    }
+
+    /**
+     * Whether a database has a table, in either case
+     *
+     * @param connection Connection
+     * @param table      Lower case table name
+     * @return Whether the table exists
+     * @throws SQLException if the database fails
+     */
+    private static boolean hasTable(Connection connection, String table) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        for (String name : List.of(table, table.toUpperCase(Locale.ROOT))) {
+            try (ResultSet tables = meta.getTables(connection.getCatalog(), null, name, null)) {
+                if (tables.next())
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rows of a table
+     *
+     * @param connection Connection
+     * @param table      Table
+     * @return Row count
+     * @throws SQLException if the database fails
+     */
+    private static long count(Connection connection, String table) throws SQLException {
+        return single(connection, "SELECT COUNT(*) FROM " + table);
+    }
+
+    /**
+     * Highest id of a table
+     *
+     * @param connection Connection
+     * @param table      Table
+     * @return Highest id, 0 if the table is empty
+     * @throws SQLException if the database fails
+     */
+    private static long maxId(Connection connection, String table) throws SQLException {
+        return single(connection, "SELECT COALESCE(MAX(id), 0) FROM " + table);
+    }
+
+    /**
+     * Run a query returning a single number
+     *
+     * @param connection Connection
+     * @param sql        Query
+     * @return Number
+     * @throws SQLException if the database fails
+     */
+    private static long single(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    /**
+     * Run a statement
+     *
+     * @param connection Connection
+     * @param sql        Statement
+     * @throws SQLException if the database fails
+     */
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+-- Indexes backing the ScoreRepository score-sheet lookups and the daily score /
+-- time bucket joins, named as in the @Table(indexes) mappings.
+
+CREATE INDEX idx_score_dog_day_time ON score (dog_number, day, time);
+CREATE INDEX idx_score_judge_day_time ON score (judge_number, day, time);
+CREATE INDEX idx_score_day_time ON score (day, time);
+
+CREATE INDEX idx_daily_score_dog_day ON daily_score (dog_number, day_day);
+CREATE INDEX idx_daily_score_day ON daily_score (day_day);
+
+CREATE INDEX idx_time_bucket_score_daily_bucket ON time_bucket_score (daily_score_id, time_bucket);
+CREATE INDEX idx_time_bucket_score_score ON time_bucket_score (score_id);
+
+CREATE INDEX idx_highest_score_daily_bucket ON highest_score (daily_score_id, time_bucket);
+CREATE INDEX idx_highest_score_score ON highest_score (score_id);
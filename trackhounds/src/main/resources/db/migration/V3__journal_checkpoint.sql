@@ -0,0 +1,7 @@
+-- Checkpoint of the write-behind score journal.
+
+CREATE TABLE journal_checkpoint (
+    id INT NOT NULL,
+    seq BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
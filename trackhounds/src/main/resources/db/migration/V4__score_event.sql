@@ -0,0 +1,18 @@
+-- Append-only score log the daily scores are projected from. The event type
+-- is the ENUM Hibernate maps the column to, which MariaDB and H2 both read.
+
+CREATE SEQUENCE score_event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE score_event (
+    id BIGINT NOT NULL,
+    type ENUM('CROSS_ADDED', 'CROSS_REMOVED', 'DOG_SCRATCHED', 'INTERVAL_CHANGED'),
+    dog_number INT NOT NULL,
+    score_id BIGINT,
+    day INT NOT NULL,
+    points INT NOT NULL,
+    time TIME(6),
+    start_time TIME(6),
+    judge_number INT NOT NULL,
+    hunt_interval INT NOT NULL,
+    PRIMARY KEY (id)
+);
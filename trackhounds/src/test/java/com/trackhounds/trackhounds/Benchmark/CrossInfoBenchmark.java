@@ -0,0 +1,155 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.trackhounds.trackhounds.Dto.DogStakeView;
+import com.trackhounds.trackhounds.Dto.HuntConfig;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.DogRepository;
+import com.trackhounds.trackhounds.Service.DogService;
+import com.trackhounds.trackhounds.Service.HuntConfigService;
+
+/**
+ * DogService.getCrossInfo on a dual stake hunt, including the stake range
+ * resolution for dogs missing from the entry list. The repository and hunt
+ * configuration are in-memory stand-ins so only the service logic is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CrossInfoBenchmark {
+
+        /**
+         * Number of dogs in the hunt
+         */
+        @Param({ "100", "500", "2000" })
+        public int dogs;
+
+        /**
+         * Dogs per cross
+         */
+        private static final int CROSS_SIZE = 10;
+
+        /**
+         * Service under test
+         */
+        private DogService dogService;
+
+        /**
+         * Crosses to resolve, cycled through
+         */
+        private List<int[]> crosses;
+
+        /**
+         * Position in {@link #crosses}
+         */
+        private int next;
+
+        /**
+         * Build the service and crosses
+         */
+        @Setup
+        public void setUp() {
+                int quarter = dogs / 4;
+                HuntConfig hunt = new HuntConfig(1L, "Benchmark", null, StakeType.DUAL, 10,
+                                new StakeType[] { StakeType.ALL_AGE, StakeType.DERBY, StakeType.ALL_AGE,
+                                                StakeType.DERBY },
+                                new int[] { 1, quarter + 1, quarter * 2 + 1, quarter * 3 + 1 }, 1);
+                HuntConfigService huntConfigService = new HuntConfigService() {
+                        @Override
+                        public Optional<HuntConfig> get() {
+                                return Optional.of(hunt);
+                        }
+                };
+                dogService = new DogService(dogRepository(hunt), null, null, null, null, null, huntConfigService,
+                                null, null, null, null, null, null, null, null);
+
+                // One in ten numbers is not entered, which takes the stake range path
+                Random random = new Random(42);
+                crosses = new ArrayList<>();
+                for (int c = 0; c < 256; c++) {
+                        int[] numbers = new int[CROSS_SIZE];
+                        for (int d = 0; d < CROSS_SIZE; d++)
+                                numbers[d] = random.nextInt(dogs + dogs / 10) + 1;
+                        crosses.add(numbers);
+                }
+        }
+
+        /**
+         * Resolve the points of one cross
+         *
+         * @return Cross info rows
+         */
+        @Benchmark
+        public List<Map<String, Object>> dualStakeCross() {
+                return dogService.getCrossInfo(crosses.get(next++ & 255), 50, 5, StakeType.DUAL);
+        }
+
+        /**
+         * In-memory DogRepository answering the stake lookups of the entered dogs
+         *
+         * @param hunt Hunt whose ranges decide each dog's stake
+         * @return Repository stand-in
+         */
+        private DogRepository dogRepository(HuntConfig hunt) {
+                return (DogRepository) Proxy.newProxyInstance(DogRepository.class.getClassLoader(),
+                                new Class<?>[] { DogRepository.class }, (proxy, method, args) -> {
+                                        if (!method.getName().equals("findStakesByNumberIn"))
+                                                throw new UnsupportedOperationException(method.getName());
+                                        List<DogStakeView> found = new ArrayList<>();
+                                        for (Object n : (Collection<?>) args[0]) {
+                                                int number = (Integer) n;
+                                                if (number <= dogs)
+                                                        found.add(stake(number, hunt));
+                                        }
+                                        return found;
+                                });
+        }
+
+        /**
+         * Stake view of an entered dog
+         *
+         * @param number Dog number
+         * @param hunt   Hunt whose ranges decide the stake
+         * @return Stake view
+         */
+        private static DogStakeView stake(int number, HuntConfig hunt) {
+                int range = 0;
+                while (range < 3 && number >= hunt.getStakeRange()[range + 1])
+                        range++;
+                StakeType stake = hunt.getStakeTypeRange()[range];
+                return new DogStakeView() {
+                        @Override
+                        public int getNumber() {
+                                return number;
+                        }
+
+                        @Override
+                        public StakeType getStake() {
+                                return stake;
+                        }
+                };
+        }
+}
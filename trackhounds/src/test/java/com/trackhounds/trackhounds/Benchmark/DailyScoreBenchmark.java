@@ -0,0 +1,121 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.trackhounds.trackhounds.Entity.DailyScore;
+import com.trackhounds.trackhounds.Entity.Days;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.Score;
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+/**
+ * DailyScore.addScore/removeScore at realistic bucket counts. A 240 minute
+ * day split into the given number of buckets, already holding a few crosses
+ * per bucket.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DailyScoreBenchmark {
+
+        /**
+         * Number of time buckets in the day
+         */
+        @Param({ "12", "48" })
+        public int buckets;
+
+        /**
+         * Crosses already recorded per bucket
+         */
+        @Param({ "4" })
+        public int crossesPerBucket;
+
+        /**
+         * Daily score under test
+         */
+        private DailyScore dailyScore;
+
+        /**
+         * Hunt interval giving the requested bucket count
+         */
+        private int interval;
+
+        /**
+         * Scores added by the benchmarks, cycled through
+         */
+        private List<Score> incoming;
+
+        /**
+         * Position in {@link #incoming}
+         */
+        private int next;
+
+        /**
+         * Fill the daily score
+         */
+        @Setup
+        public void setUp() {
+                interval = HuntFixture.DAY_MINUTES / buckets;
+                Random random = new Random(42);
+                DogEntity dog = new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner", "Sire", "Dam");
+                dailyScore = new DailyScore(new Days(1, HuntFixture.START), dog);
+                long id = 1;
+                for (int i = 0; i < buckets * crossesPerBucket; i++) {
+                        Score score = HuntFixture.score(random, 1, 1);
+                        score.setId(id++);
+                        dailyScore.addScore(score, HuntFixture.START, interval);
+                }
+                // Incoming crosses beat the best of their bucket, so removing one
+                // restores the previous best and the daily score stays the same size
+                incoming = new ArrayList<>();
+                for (int i = 0; i < 1024; i++) {
+                        Score score = HuntFixture.score(random, 1, 1);
+                        score.setId(id++);
+                        score.setPoints(55);
+                        incoming.add(score);
+                }
+        }
+
+        /**
+         * Add a cross and take it back out, leaving the daily score unchanged
+         *
+         * @return Removed score
+         */
+        @Benchmark
+        public Score addThenRemove() {
+                Score score = incoming.get(next++ & 1023);
+                dailyScore.addScore(score, HuntFixture.START, interval);
+                return dailyScore.removeScore(score);
+        }
+
+        /**
+         * Record a full day of crosses into an empty daily score
+         *
+         * @return Filled daily score
+         */
+        @Benchmark
+        public DailyScore fillDay() {
+                DailyScore day = new DailyScore(dailyScore.getDay(), dailyScore.getDog());
+                for (int i = 0; i < buckets * crossesPerBucket; i++)
+                        day.addScore(incoming.get(i & 1023), HuntFixture.START, interval);
+                return day;
+        }
+}
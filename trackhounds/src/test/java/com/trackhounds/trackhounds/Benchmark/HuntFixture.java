@@ -0,0 +1,95 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.trackhounds.trackhounds.Entity.DailyScore;
+import com.trackhounds.trackhounds.Entity.Days;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.Score;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Service.DogService;
+
+/**
+ * Builds synthetic, fully scored hunts in memory for the JMH benchmarks. The
+ * same seed always produces the same hunt.
+ */
+public final class HuntFixture {
+
+        /**
+         * Start time of every day
+         */
+        public static final LocalTime START = LocalTime.of(6, 0);
+
+        /**
+         * Length of a hunt day in minutes
+         */
+        public static final int DAY_MINUTES = 240;
+
+        private HuntFixture() {
+        }
+
+        /**
+         * Build the days of a hunt
+         *
+         * @param count Number of days
+         * @return Days, all starting at {@link #START}
+         */
+        public static List<Days> days(int count) {
+                List<Days> days = new ArrayList<>();
+                for (int i = 1; i <= count; i++)
+                        days.add(new Days(i, START));
+                return days;
+        }
+
+        /**
+         * Build a hunt of scored dogs. Stakes alternate between all age and
+         * derby, and each dog is crossed a random number of times per day.
+         *
+         * @param dogCount       Number of dogs
+         * @param dayCount       Number of days
+         * @param crossesPerDay  Average number of crosses per dog and day
+         * @param interval       Hunt interval in minutes
+         * @param seed           Random seed
+         * @return Dogs with their daily scores and points filled in
+         */
+        public static List<DogEntity> dogs(int dogCount, int dayCount, int crossesPerDay, int interval, long seed) {
+                Random random = new Random(seed);
+                List<Days> days = days(dayCount);
+                List<DogEntity> dogs = new ArrayList<>();
+                long scoreId = 1;
+                for (int n = 1; n <= dogCount; n++) {
+                        DogEntity dog = new DogEntity(n, "Dog" + n, n % 2 == 0 ? StakeType.DERBY : StakeType.ALL_AGE,
+                                        "Owner" + n, "Sire" + n, "Dam" + n);
+                        for (Days day : days) {
+                                DailyScore dailyScore = new DailyScore(day, dog);
+                                int crosses = random.nextInt(crossesPerDay * 2 + 1);
+                                for (int c = 0; c < crosses; c++) {
+                                        Score score = score(random, day.getDay(), n);
+                                        score.setId(scoreId++);
+                                        dailyScore.addScore(score, START, interval);
+                                }
+                                dog.getScores().add(dailyScore);
+                        }
+                        dog.setPoints(DogService.calculateTotalPoints(dog));
+                        dogs.add(dog);
+                }
+                return dogs;
+        }
+
+        /**
+         * Build a random cross score
+         *
+         * @param random    Random source
+         * @param day       Day of the score
+         * @param dogNumber Dog scored
+         * @return Unsaved score
+         */
+        public static Score score(Random random, int day, int dogNumber) {
+                LocalTime time = START.plusMinutes(random.nextInt(DAY_MINUTES)).plusSeconds(random.nextInt(60));
+                int points = 50 - random.nextInt(10) * 5;
+                return new Score(points, time, false, 1, dogNumber, day);
+        }
+}
@@ -0,0 +1,548 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Enums.StakeType;
+
+/**
+ * Generates a synthetic hunt and drives it through the REST API: the hunt,
+ * judges and dogs are created, then judges post crosses at a steady rate
+ * while spectators poll the hunt, dog lists and leaderboards. The same seed
+ * always produces the same hunt and the same crosses. Latency and throughput
+ * are recorded per endpoint.
+ * <p>
+ * Run against a running server with
+ * {@code mvn test -Pload -Dload.url=http://localhost:8080 [-Dload.dogs=600 ...]},
+ * or against an embedded server with {@code mvn test -Pbenchmark}. The target
+ * hunt is replaced, so never point it at a live hunt.
+ */
+public class HuntLoadGenerator {
+
+        /**
+         * Points given to the dogs of a cross, in the order they crossed
+         */
+        private static final int[] PLACEMENTS = { 50, 45, 40, 35, 30 };
+
+        /**
+         * Format of the start and cross times sent by the judges
+         */
+        private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+        /**
+         * Size of the load, read from load.* system properties
+         */
+        public static class Settings {
+
+                /**
+                 * Server to drive
+                 */
+                public String url = System.getProperty("load.url", "http://localhost:8080");
+
+                /**
+                 * Dogs entered in the hunt
+                 */
+                public int dogs = Integer.getInteger("load.dogs", 300);
+
+                /**
+                 * Judges posting crosses
+                 */
+                public int judges = Integer.getInteger("load.judges", 20);
+
+                /**
+                 * Days of the hunt
+                 */
+                public int days = Integer.getInteger("load.days", 2);
+
+                /**
+                 * Crosses posted by each judge per day
+                 */
+                public int crossesPerJudge = Integer.getInteger("load.crosses", 30);
+
+                /**
+                 * Crosses posted by each judge per second, 0 posts as fast as possible
+                 */
+                public double crossRate = Double.parseDouble(System.getProperty("load.rate", "2"));
+
+                /**
+                 * Spectators polling the hunt while the judges post
+                 */
+                public int readers = Integer.getInteger("load.readers", 8);
+
+                /**
+                 * Hunt interval in minutes
+                 */
+                public int interval = Integer.getInteger("load.interval", 10);
+
+                /**
+                 * Random seed of the hunt
+                 */
+                public long seed = Long.getLong("load.seed", 42);
+
+                /**
+                 * Concurrent leaderboard pollers of {@link HuntLoadGenerator#poll()}
+                 */
+                public int pollers = Integer.getInteger("load.pollers", 300);
+
+                /**
+                 * Seconds {@link HuntLoadGenerator#poll()} runs for
+                 */
+                public int pollSeconds = Integer.getInteger("load.poll.seconds", 15);
+        }
+
+        /**
+         * Latencies of one endpoint
+         */
+        private static class EndpointStats {
+
+                /**
+                 * Request latencies in nanoseconds
+                 */
+                private long[] latencies = new long[1024];
+
+                /**
+                 * Number of requests recorded
+                 */
+                private int count;
+
+                /**
+                 * Requests that failed or returned an error status
+                 */
+                private int errors;
+
+                /**
+                 * Start of the first request
+                 */
+                private long first = Long.MAX_VALUE;
+
+                /**
+                 * End of the last request
+                 */
+                private long last;
+
+                /**
+                 * Record a request
+                 *
+                 * @param start   Start of the request
+                 * @param end     End of the request
+                 * @param success Whether the request succeeded
+                 */
+                synchronized void record(long start, long end, boolean success) {
+                        if (count == latencies.length)
+                                latencies = Arrays.copyOf(latencies, count * 2);
+                        latencies[count++] = end - start;
+                        if (!success)
+                                errors++;
+                        first = Math.min(first, start);
+                        last = Math.max(last, end);
+                }
+        }
+
+        /**
+         * Load settings
+         */
+        private final Settings settings;
+
+        /**
+         * Server base URL, without a trailing slash
+         */
+        private final String baseUrl;
+
+        /**
+         * HTTP client shared by every simulated user
+         */
+        private final HttpClient http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .build();
+
+        /**
+         * JSON mapper for request bodies
+         */
+        private final ObjectMapper json = new ObjectMapper();
+
+        /**
+         * Stats per endpoint, in first use order
+         */
+        private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+        /**
+         * Dogs scored by the crosses that were accepted
+         */
+        private final AtomicInteger scoresAccepted = new AtomicInteger();
+
+        /**
+         * Create a generator
+         *
+         * @param settings Load settings
+         */
+        public HuntLoadGenerator(Settings settings) {
+                this.settings = settings;
+                this.baseUrl = settings.url.replaceAll("/+$", "");
+        }
+
+        /**
+         * Run against the server given by load.url and print the report
+         *
+         * @param args Unused, settings are read from system properties
+         * @throws Exception if the hunt cannot be set up
+         */
+        public static void main(String[] args) throws Exception {
+                HuntLoadGenerator generator = new HuntLoadGenerator(new Settings());
+                generator.setUp();
+                generator.run();
+                System.out.println(generator.report());
+        }
+
+        /**
+         * Create the hunt, its judges and its dogs. Stakes are split evenly over
+         * all age and derby by number.
+         *
+         * @throws IOException if any of them is rejected
+         */
+        public void setUp() throws IOException {
+                int half = settings.dogs / 2 + 1;
+                Map<String, Object> hunt = new LinkedHashMap<>();
+                hunt.put("title", "Load Test Hunt");
+                hunt.put("dates", "Synthetic");
+                hunt.put("stake", StakeType.DUAL);
+                hunt.put("huntInterval", settings.interval);
+                hunt.put("stakeTypeRange", new StakeType[] { StakeType.ALL_AGE, StakeType.DERBY,
+                                StakeType.DERBY, StakeType.DERBY });
+                hunt.put("stakeRange", new int[] { 1, half, half, half });
+                require(send("POST", "/hunt", "/hunt", hunt), "POST /hunt");
+
+                for (int j = 1; j <= settings.judges; j++) {
+                        Map<String, Object> judge = Map.of("number", j, "memberPin", "PIN" + j, "name", "Judge " + j);
+                        // Judges outlive a hunt, so update the ones left from a previous run
+                        if (send("POST", "/judges", "/judges", judge) != 200)
+                                require(send("PUT", "/judges", "/judges", judge), "PUT /judges");
+                }
+
+                List<Map<String, Object>> dogs = new ArrayList<>();
+                for (int n = 1; n <= settings.dogs; n++)
+                        dogs.add(Map.of("number", n, "name", "Dog" + n,
+                                        "stake", n < half ? StakeType.ALL_AGE : StakeType.DERBY,
+                                        "owner", "Owner" + n, "sire", "Sire" + n, "dam", "Dam" + n));
+                for (int from = 0; from < dogs.size(); from += 500)
+                        require(send("POST", "/dogs", "/dogs", dogs.subList(from, Math.min(from + 500, dogs.size()))),
+                                        "POST /dogs");
+        }
+
+        /**
+         * Run the hunt day by day. Every judge posts its crosses of the day on
+         * its own thread while the spectators poll, until the last judge is done.
+         *
+         * @throws InterruptedException if interrupted while waiting for the day
+         */
+        public void run() throws InterruptedException {
+                ExecutorService pool = Executors.newFixedThreadPool(settings.judges + settings.readers);
+                try {
+                        for (int day = 1; day <= settings.days; day++) {
+                                final int today = day;
+                                AtomicBoolean judging = new AtomicBoolean(true);
+                                List<Future<?>> judges = new ArrayList<>();
+                                List<Future<?>> readers = new ArrayList<>();
+                                for (int j = 1; j <= settings.judges; j++) {
+                                        List<ScoreDto> crosses = crosses(today, j);
+                                        judges.add(pool.submit(() -> judge(crosses)));
+                                }
+                                for (int r = 0; r < settings.readers; r++) {
+                                        Random random = new Random(settings.seed * 31 + today * 1009 + r);
+                                        readers.add(pool.submit(() -> spectate(today, random, judging)));
+                                }
+                                await(judges);
+                                judging.set(false);
+                                await(readers);
+                        }
+                } finally {
+                        pool.shutdownNow();
+                        pool.awaitTermination(30, TimeUnit.SECONDS);
+                }
+        }
+
+        /**
+         * Poll the /dogs/scores read endpoints of the first day from many
+         * clients at once, with no judges posting. Every poller runs on a virtual
+         * thread so the client side is never the bottleneck.
+         *
+         * @throws InterruptedException if interrupted while polling
+         */
+        public void poll() throws InterruptedException {
+                long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.pollSeconds);
+                try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+                        List<Future<?>> pollers = new ArrayList<>();
+                        for (int p = 0; p < settings.pollers; p++) {
+                                Random random = new Random(settings.seed * 37 + p);
+                                pollers.add(pool.submit(() -> pollScores(random, end)));
+                        }
+                        await(pollers);
+                }
+        }
+
+        /**
+         * Poll the score endpoints until the end of the run. Leaderboards come
+         * from memory, the full score list from the database.
+         *
+         * @param random Source of the request mix
+         * @param end    End of the run, in {@link System#nanoTime()} units
+         */
+        private void pollScores(Random random, long end) {
+                while (System.nanoTime() < end) {
+                        int pick = random.nextInt(100);
+                        if (pick < 35)
+                                send("GET", "/dogs/scores/top10/overall", "/dogs/scores/top10/overall", null);
+                        else if (pick < 60)
+                                send("GET", "/dogs/scores/day/1/top10", "/dogs/scores/day/{day}/top10", null);
+                        else if (pick < 75)
+                                send("GET", "/dogs/scores/stake/DERBY/top10", "/dogs/scores/stake/{stakeType}/top10",
+                                                null);
+                        else if (pick < 90)
+                                send("GET", "/dogs/scores/day/1", "/dogs/scores/day/{day}", null);
+                        else
+                                send("GET", "/dogs/scores", "/dogs/scores", null);
+                }
+        }
+
+        /**
+         * Build the crosses a judge posts on a day, spread evenly over the
+         * morning. Each cross holds one to five distinct dogs.
+         *
+         * @param day   Day of the crosses
+         * @param judge Judge posting them
+         * @return Crosses in posting order
+         */
+        List<ScoreDto> crosses(int day, int judge) {
+                Random random = new Random(settings.seed ^ (day * 7919L + judge * 104729L));
+                List<ScoreDto> crosses = new ArrayList<>();
+                int spacing = HuntFixture.DAY_MINUTES * 60 / settings.crossesPerJudge;
+                for (int c = 0; c < settings.crossesPerJudge; c++) {
+                        int size = Math.min(settings.dogs, 1 + random.nextInt(PLACEMENTS.length));
+                        int[] numbers = random.ints(1, settings.dogs + 1).distinct().limit(size).toArray();
+                        int second = c * spacing + random.nextInt(spacing);
+                        crosses.add(new ScoreDto(day, HuntFixture.START.format(TIME), judge,
+                                        HuntFixture.START.plusSeconds(second).format(TIME), numbers,
+                                        Arrays.copyOf(PLACEMENTS, size), settings.interval));
+                }
+                return crosses;
+        }
+
+        /**
+         * Post crosses at the configured rate
+         *
+         * @param crosses Crosses to post
+         */
+        private void judge(List<ScoreDto> crosses) {
+                long start = System.nanoTime();
+                long spacing = settings.crossRate > 0 ? (long) (1e9 / settings.crossRate) : 0;
+                for (int c = 0; c < crosses.size(); c++) {
+                        long wait = start + c * spacing - System.nanoTime();
+                        if (wait > 0)
+                                LockSupport.parkNanos(wait);
+                        ScoreDto cross = crosses.get(c);
+                        if (send("POST", "/dogs/scores", "/dogs/scores", cross) == 200)
+                                scoresAccepted.addAndGet(cross.getDogNumbers().length);
+                }
+        }
+
+        /**
+         * Poll the read endpoints until the judges are done. Leaderboards are
+         * polled the most, like the spectators' screens do.
+         *
+         * @param day     Day being judged
+         * @param random  Source of the request mix
+         * @param judging Cleared once the judges are done
+         */
+        private void spectate(int day, Random random, AtomicBoolean judging) {
+                while (judging.get()) {
+                        int pick = random.nextInt(100);
+                        if (pick < 40)
+                                send("GET", "/dogs/scores/top10/overall", "/dogs/scores/top10/overall", null);
+                        else if (pick < 60)
+                                send("GET", "/dogs/scores/day/" + day + "/top10", "/dogs/scores/day/{day}/top10", null);
+                        else if (pick < 75)
+                                send("GET", "/hunt", "/hunt", null);
+                        else if (pick < 85)
+                                send("GET", "/dogs", "/dogs", null);
+                        else if (pick < 95)
+                                send("GET", "/judges", "/judges", null);
+                        else
+                                send("GET", "/dogs/scores", "/dogs/scores", null);
+                }
+        }
+
+        /**
+         * Send a request and record its latency under the endpoint name
+         *
+         * @param method   HTTP method
+         * @param path     Request path
+         * @param endpoint Path template the latency is recorded under
+         * @param body     Request body, serialized as JSON, or null
+         * @return Response status, or -1 if the request failed
+         */
+        private int send(String method, String path, String endpoint, Object body) {
+                EndpointStats endpointStats;
+                synchronized (stats) {
+                        endpointStats = stats.computeIfAbsent(method + " " + endpoint, key -> new EndpointStats());
+                }
+                int status = -1;
+                long start = System.nanoTime();
+                try {
+                        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                                        .timeout(Duration.ofSeconds(60));
+                        if (body == null)
+                                request.method(method, HttpRequest.BodyPublishers.noBody());
+                        else
+                                request.header("Content-Type", "application/json")
+                                                .method(method, HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)));
+                        status = http.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                } catch (IOException e) {
+                        status = -1;
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                }
+                endpointStats.record(start, System.nanoTime(), status >= 200 && status < 300);
+                return status;
+        }
+
+        /**
+         * Fail the setup on an error status
+         *
+         * @param status  Response status
+         * @param request Request description
+         * @throws IOException if the status is not 200
+         */
+        private static void require(int status, String request) throws IOException {
+                if (status != 200)
+                        throw new IOException(request + " failed with status " + status);
+        }
+
+        /**
+         * Wait for tasks, rethrowing their failures
+         *
+         * @param tasks Tasks to wait for
+         * @throws InterruptedException if interrupted
+         */
+        private static void await(List<Future<?>> tasks) throws InterruptedException {
+                for (Future<?> task : tasks) {
+                        try {
+                                task.get();
+                        } catch (ExecutionException e) {
+                                throw new IllegalStateException(e.getCause());
+                        }
+                }
+        }
+
+        /**
+         * Forget the requests recorded so far, so a report covers only what
+         * follows
+         */
+        public void resetStats() {
+                synchronized (stats) {
+                        stats.clear();
+                }
+        }
+
+        /**
+         * Requests per second over every endpoint, measured between the first
+         * and last request recorded
+         *
+         * @return Overall throughput
+         */
+        public double getThroughput() {
+                synchronized (stats) {
+                        long first = Long.MAX_VALUE;
+                        long last = 0;
+                        int count = 0;
+                        for (EndpointStats s : stats.values()) {
+                                synchronized (s) {
+                                        first = Math.min(first, s.first);
+                                        last = Math.max(last, s.last);
+                                        count += s.count;
+                                }
+                        }
+                        return count == 0 ? 0 : count / (Math.max(last - first, 1) / 1e9);
+                }
+        }
+
+        /**
+         * Total number of requests that failed or returned an error status
+         *
+         * @return Error count
+         */
+        public int getErrors() {
+                synchronized (stats) {
+                        return stats.values().stream().mapToInt(s -> s.errors).sum();
+                }
+        }
+
+        /**
+         * Number of dog scores in the crosses the server accepted
+         *
+         * @return Accepted dog scores
+         */
+        public int getScoresAccepted() {
+                return scoresAccepted.get();
+        }
+
+        /**
+         * Latency and throughput of every endpoint. Throughput is measured over
+         * the span between the first and last request of the endpoint.
+         *
+         * @return Report table
+         */
+        public String report() {
+                StringBuilder report = new StringBuilder();
+                report.append(String.format("Hunt load: %d dogs, %d judges, %d days, %d crosses per judge and day, "
+                                + "%.1f crosses/s per judge, %d spectators%n", settings.dogs, settings.judges,
+                                settings.days, settings.crossesPerJudge, settings.crossRate, settings.readers));
+                report.append(String.format("%-36s %7s %7s %9s %9s %9s %9s%n", "Endpoint", "Count", "Errors",
+                                "Req/s", "p50 ms", "p99 ms", "Max ms"));
+                synchronized (stats) {
+                        stats.forEach((endpoint, s) -> {
+                                synchronized (s) {
+                                        long[] sorted = Arrays.copyOf(s.latencies, s.count);
+                                        Arrays.sort(sorted);
+                                        double seconds = Math.max(s.last - s.first, 1) / 1e9;
+                                        report.append(String.format("%-36s %7d %7d %9.1f %9.2f %9.2f %9.2f%n", endpoint,
+                                                        s.count, s.errors, s.count / seconds, percentile(sorted, 50) / 1e6,
+                                                        percentile(sorted, 99) / 1e6, sorted[sorted.length - 1] / 1e6));
+                                }
+                        });
+                }
+                return report.toString();
+        }
+
+        /**
+         * Nearest rank percentile
+         *
+         * @param sorted     Sorted values, not empty
+         * @param percentile Percentile, 0 to 100
+         * @return Value at the percentile
+         */
+        private static long percentile(long[] sorted, double percentile) {
+                int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+                return sorted[Math.max(rank, 1) - 1];
+        }
+}
@@ -0,0 +1,124 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.trackhounds.trackhounds.Repository.ScoreRepository;
+import com.trackhounds.trackhounds.Service.HuntConfigService;
+import com.trackhounds.trackhounds.Service.StandingsService;
+
+/**
+ * Runs the synthetic hunt load against an embedded server on the test
+ * database and reports latency and throughput per endpoint. Excluded from the
+ * default build, run with {@code mvn test -Pbenchmark}. The size of the hunt
+ * is set with the load.* properties of {@link HuntLoadGenerator.Settings}.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Tag("benchmark")
+public class HuntLoadTest {
+
+        /**
+         * Tables emptied around the run, children first
+         */
+        private static final String[] TABLES = { "highest_score", "time_bucket_score", "daily_score", "score",
+                        "score_event", "scratch", "dogs", "days", "judge_entity", "hunt_entity" };
+
+        /**
+         * Port of the embedded server
+         */
+        @LocalServerPort
+        private int port;
+
+        /**
+         * JDBC Template
+         */
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        /**
+         * Standings Service
+         */
+        @Autowired
+        private StandingsService standingsService;
+
+        /**
+         * Hunt Config Service
+         */
+        @Autowired
+        private HuntConfigService huntConfigService;
+
+        /**
+         * Score Repository
+         */
+        @Autowired
+        private ScoreRepository scoreRepository;
+
+        /**
+         * Start from an empty database
+         */
+        @BeforeEach
+        void setUp() {
+                clear();
+        }
+
+        /**
+         * Leave an empty database for the other tests
+         */
+        @AfterEach
+        void tearDown() {
+                clear();
+        }
+
+        /**
+         * Drive a full hunt through the API. Every request must succeed and every
+         * accepted cross must be stored.
+         *
+         * @throws Exception if the hunt cannot be set up
+         */
+        @Test
+        void loadHunt() throws Exception {
+                HuntLoadGenerator.Settings settings = new HuntLoadGenerator.Settings();
+                settings.url = "http://localhost:" + port;
+                HuntLoadGenerator generator = new HuntLoadGenerator(settings);
+                generator.setUp();
+                generator.run();
+                System.out.println(generator.report());
+
+                assertEquals(0, generator.getErrors());
+                assertEquals(generator.getScoresAccepted(), scoreRepository.count());
+        }
+
+        /**
+         * Remove the hunt, dogs, scores and judges
+         */
+        private void clear() {
+                clear(jdbcTemplate, standingsService, huntConfigService);
+        }
+
+        /**
+         * Remove the hunt, dogs, scores and judges of an application. Plain SQL
+         * is used so a large run is emptied without loading its entities.
+         *
+         * @param jdbcTemplate      JDBC Template of the application
+         * @param standingsService  Standings Service of the application
+         * @param huntConfigService Hunt Config Service of the application
+         */
+        static void clear(JdbcTemplate jdbcTemplate, StandingsService standingsService,
+                        HuntConfigService huntConfigService) {
+                for (String table : TABLES)
+                        jdbcTemplate.update("DELETE FROM " + table);
+                standingsService.reset();
+                huntConfigService.invalidate();
+        }
+}
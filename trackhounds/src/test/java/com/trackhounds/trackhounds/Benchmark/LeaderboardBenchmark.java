@@ -0,0 +1,131 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.trackhounds.trackhounds.Dto.DailyLeaderboardEntry;
+import com.trackhounds.trackhounds.Dto.DogStanding;
+import com.trackhounds.trackhounds.Dto.LeaderboardRow;
+import com.trackhounds.trackhounds.Dto.OverallLeaderboardEntry;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Service.DogService;
+import com.trackhounds.trackhounds.Service.Leaderboard;
+
+/**
+ * Point totals and leaderboard ranking over synthetic hunts, the work behind
+ * every score write and every getTopScoring* request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LeaderboardBenchmark {
+
+        /**
+         * Number of dogs in the hunt
+         */
+        @Param({ "100", "500", "2000" })
+        public int dogs;
+
+        /**
+         * Hunt interval in minutes
+         */
+        private static final int INTERVAL = 10;
+
+        /**
+         * Scored dogs
+         */
+        private List<DogEntity> hunt;
+
+        /**
+         * Standings of the dogs, as held by the StandingsService
+         */
+        private List<DogStanding> standings;
+
+        /**
+         * Build the hunt
+         */
+        @Setup
+        public void setUp() {
+                hunt = HuntFixture.dogs(dogs, 4, 6, INTERVAL, 42);
+                standings = new ArrayList<>();
+                for (DogEntity dog : hunt)
+                        standings.add(DogStanding.of(dog));
+        }
+
+        /**
+         * Recompute the weighted total of every dog
+         *
+         * @return Sum of the totals
+         */
+        @Benchmark
+        public long calculateTotalPoints() {
+                long sum = 0;
+                for (DogEntity dog : hunt)
+                        sum += DogService.calculateTotalPoints(dog);
+                return sum;
+        }
+
+        /**
+         * Top 10 overall, as served by getTop10ScoringDogsOverall
+         *
+         * @return Top rows
+         */
+        @Benchmark
+        public List<OverallLeaderboardEntry> topTenOverall() {
+                List<LeaderboardRow> rows = new ArrayList<>(standings.size());
+                for (DogStanding dog : standings)
+                        rows.add(LeaderboardRow.ofOverall(dog, day -> HuntFixture.START, INTERVAL));
+                return Leaderboard.top(rows, LeaderboardRow.OVERALL_ORDER, 10).stream()
+                                .map(LeaderboardRow::toOverallEntry)
+                                .collect(Collectors.toList());
+        }
+
+        /**
+         * Full overall ranking, as served when the limit covers every dog
+         *
+         * @return All rows, ranked
+         */
+        @Benchmark
+        public List<OverallLeaderboardEntry> fullOverall() {
+                List<LeaderboardRow> rows = new ArrayList<>(standings.size());
+                for (DogStanding dog : standings)
+                        rows.add(LeaderboardRow.ofOverall(dog, day -> HuntFixture.START, INTERVAL));
+                return Leaderboard.top(rows, LeaderboardRow.OVERALL_ORDER, rows.size()).stream()
+                                .map(LeaderboardRow::toOverallEntry)
+                                .collect(Collectors.toList());
+        }
+
+        /**
+         * Top 10 of a day, as served by getTop10ScoringDogsByDay
+         *
+         * @return Top rows
+         */
+        @Benchmark
+        public List<DailyLeaderboardEntry> topTenDay() {
+                LocalTime start = HuntFixture.START;
+                List<LeaderboardRow> rows = new ArrayList<>(standings.size());
+                for (DogStanding dog : standings)
+                        rows.add(LeaderboardRow.ofDay(dog, dog.getDays().get(1), start, INTERVAL));
+                return Leaderboard.top(rows, LeaderboardRow.DAILY_ORDER, 10).stream()
+                                .map(LeaderboardRow::toDailyEntry)
+                                .collect(Collectors.toList());
+        }
+}
@@ -0,0 +1,123 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+import com.trackhounds.trackhounds.Repository.ScoreRepository;
+import com.trackhounds.trackhounds.Service.DogService;
+
+/**
+ * Measures the score insert rate of the batch ingestion path. Excluded from
+ * the default build, run with {@code mvn test -Pbenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+public class ScoreIngestionBenchmarkTest {
+
+        /**
+         * Number of dogs entered in the hunt
+         */
+        private static final int DOGS = 200;
+
+        /**
+         * Dogs per cross
+         */
+        private static final int CROSS_SIZE = 10;
+
+        /**
+         * Crosses posted per batch
+         */
+        private static final int BATCH = 30;
+
+        /**
+         * Batches posted per measured run
+         */
+        private static final int RUNS = 20;
+
+        /**
+         * Dog Service
+         */
+        @Autowired
+        private DogService dogService;
+
+        /**
+         * Judge Repository
+         */
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        /**
+         * Score Repository
+         */
+        @Autowired
+        private ScoreRepository scoreRepository;
+
+        /**
+         * Setup for the benchmark
+         */
+        @BeforeEach
+        void setUp() {
+                dogService.clear();
+                judgeRepository.save(new JudgeEntity(1, "PIN", "Judgy Judge"));
+                List<DogEntity> dogs = new ArrayList<>();
+                for (int i = 1; i <= DOGS; i++)
+                        dogs.add(new DogEntity(i, "Dog" + i, i % 2 == 0 ? StakeType.DERBY : StakeType.ALL_AGE,
+                                        "Owner", "Sire", "Dam"));
+                dogService.createDogs(dogs);
+        }
+
+        /**
+         * Post batches of crosses and report the score insert rate
+         */
+        @Test
+        void benchmarkBatchIngestion() {
+                // Warm up the persistence layer before measuring
+                dogService.createScores(crosses(0));
+                long before = scoreRepository.count();
+                long start = System.nanoTime();
+                for (int run = 1; run <= RUNS; run++)
+                        dogService.createScores(crosses(run));
+                long elapsed = System.nanoTime() - start;
+                long inserted = scoreRepository.count() - before;
+                System.out.printf("Score ingestion: %d scores in %d ms (%.0f scores/s, %.1f ms per %d-cross batch)%n",
+                                inserted, elapsed / 1_000_000, inserted / (elapsed / 1e9),
+                                elapsed / 1e6 / RUNS, BATCH);
+                dogService.clear();
+        }
+
+        /**
+         * Build a batch of crosses spread over the hunt morning
+         *
+         * @param run Run number, used to vary dogs and times
+         * @return Batch of crosses
+         */
+        private List<ScoreDto> crosses(int run) {
+                List<ScoreDto> crosses = new ArrayList<>();
+                for (int c = 0; c < BATCH; c++) {
+                        int minute = (run * BATCH + c) % 600;
+                        int[] numbers = new int[CROSS_SIZE];
+                        int[] points = new int[CROSS_SIZE];
+                        for (int d = 0; d < CROSS_SIZE; d++) {
+                                numbers[d] = (run * 31 + c * CROSS_SIZE + d) % DOGS + 1;
+                                points[d] = 50 - d * 5;
+                        }
+                        crosses.add(new ScoreDto(1, "05:00:00", 1,
+                                        String.format("%02d:%02d:00", 5 + minute / 60, minute % 60),
+                                        numbers, points, 10));
+                }
+                return crosses;
+        }
+}
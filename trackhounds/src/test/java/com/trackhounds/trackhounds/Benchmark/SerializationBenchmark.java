@@ -0,0 +1,149 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.trackhounds.trackhounds.GsonUtil;
+import com.trackhounds.trackhounds.Dto.DogStanding;
+import com.trackhounds.trackhounds.Dto.LeaderboardRow;
+import com.trackhounds.trackhounds.Dto.OverallLeaderboardEntry;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+
+/**
+ * JSON serialization of the dog trees served by GET /dogs/{number} and of
+ * leaderboard rows. Gson cannot follow the dog/daily score back references,
+ * so it is only measured on the rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerializationBenchmark {
+
+        /**
+         * Number of dogs in the hunt
+         */
+        @Param({ "100", "500", "2000" })
+        public int dogs;
+
+        /**
+         * Jackson mapper configured like the Spring Boot one
+         */
+        private final ObjectMapper jackson = JsonMapper.builder()
+                        .findAndAddModules()
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .build();
+
+        /**
+         * Scored dogs
+         */
+        private List<DogEntity> hunt;
+
+        /**
+         * Overall leaderboard rows of every dog
+         */
+        private List<OverallLeaderboardEntry> rows;
+
+        /**
+         * Build the hunt
+         */
+        @Setup
+        public void setUp() {
+                hunt = HuntFixture.dogs(dogs, 4, 6, 10, 42);
+                rows = new ArrayList<>();
+                for (DogEntity dog : hunt)
+                        rows.add(LeaderboardRow.ofOverall(DogStanding.of(dog), day -> HuntFixture.START, 10)
+                                        .toOverallEntry());
+        }
+
+        /**
+         * Jackson, full dog trees
+         *
+         * @return JSON
+         * @throws JsonProcessingException never
+         */
+        @Benchmark
+        public String jacksonDogTrees() throws JsonProcessingException {
+                return jackson.writeValueAsString(hunt);
+        }
+
+        /**
+         * Jackson, leaderboard rows
+         *
+         * @return JSON
+         * @throws JsonProcessingException never
+         */
+        @Benchmark
+        public String jacksonRows() throws JsonProcessingException {
+                return jackson.writeValueAsString(rows);
+        }
+
+        /**
+         * Jackson, leaderboard rows written one at a time to a stream, as the
+         * large list endpoints do
+         *
+         * @return Bytes written
+         * @throws IOException never
+         */
+        @Benchmark
+        public long jacksonRowsStreamed() throws IOException {
+                CountingStream out = new CountingStream();
+                try (SequenceWriter writer = jackson.writer().writeValuesAsArray(out)) {
+                        for (OverallLeaderboardEntry row : rows)
+                                writer.write(row);
+                }
+                return out.count;
+        }
+
+        /**
+         * Gson, leaderboard rows
+         *
+         * @return JSON
+         */
+        @Benchmark
+        public String gsonRows() {
+                return GsonUtil.GSON.toJson(rows);
+        }
+
+        /**
+         * Output stream that only counts the bytes written to it
+         */
+        private static class CountingStream extends OutputStream {
+                /**
+                 * Bytes written
+                 */
+                private long count;
+
+                @Override
+                public void write(int b) {
+                        count++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                        count += len;
+                }
+        }
+}
@@ -0,0 +1,224 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the time from launching the packaged jar to its first answered
+ * request, as clubs see it when restarting the app. The jar is started in a
+ * child JVM on the embedded database, plainly, with the Spring AOT
+ * initializers and with the AOT initializers and a class data sharing
+ * archive, the way the container starts it. Excluded from the default build,
+ * package the jar first, with -Pproduction for the AOT modes, then run
+ * {@code mvn test -Pbenchmark -Dtest=StartupBenchmarkTest}. The number of
+ * measured starts per mode is set with startup.runs.
+ */
+@Tag("benchmark")
+public class StartupBenchmarkTest {
+
+        /**
+         * Packaged application
+         */
+        private static final Path JAR = Path.of("target/trackhounds-0.0.1-SNAPSHOT.jar");
+
+        /**
+         * Working directory of the benchmark
+         */
+        private static final Path WORK = Path.of("target/startup-benchmark");
+
+        /**
+         * Longest a start may take before the run fails
+         */
+        private static final Duration TIMEOUT = Duration.ofMinutes(3);
+
+        /**
+         * HTTP client polling the application
+         */
+        private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+        /**
+         * Start the jar in every mode it supports and print the reports
+         *
+         * @throws Exception if the jar cannot be started
+         */
+        @Test
+        void compareStartup() throws Exception {
+                assumeTrue(Files.exists(JAR), "Package the application first");
+                int runs = Integer.getInteger("startup.runs", 5);
+                clean();
+                Files.createDirectories(WORK);
+
+                List<String> reports = new ArrayList<>();
+                reports.add(measure("Plain jar", runs, List.of(), JAR));
+                if (isAotProcessed()) {
+                        reports.add(measure("Spring AOT", runs, List.of("-Dspring.aot.enabled=true"), JAR));
+
+                        Path extracted = WORK.resolve("extracted");
+                        assertEquals(0, launch(List.of("-Djarmode=tools"), JAR, "extract", "--destination",
+                                        extracted.toString()).waitFor());
+                        Path jar = extracted.resolve(JAR.getFileName());
+                        Path archive = extracted.resolve("app.jsa");
+                        Path training = WORK.resolve("training/trackhounds").toAbsolutePath();
+                        assertEquals(0, launch(List.of("-XX:ArchiveClassesAtExit=" + archive,
+                                        "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh"), jar,
+                                        "--spring.profiles.active=embedded", "--TRACKHOUNDS_DB_PATH=" + training)
+                                        .waitFor());
+                        reports.add(measure("Spring AOT and CDS", runs,
+                                        List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true"), jar));
+                } else {
+                        reports.add("Spring AOT: skipped, package with -Pproduction");
+                }
+                reports.forEach(System.out::println);
+        }
+
+        /**
+         * Start the jar repeatedly in a mode, on its own database. The first
+         * start creates the database and is not measured.
+         *
+         * @param mode    Name of the mode
+         * @param runs    Measured starts
+         * @param jvmArgs JVM options of the mode
+         * @param jar     Jar to start
+         * @return Report of the starts
+         * @throws Exception if the jar cannot be started
+         */
+        private String measure(String mode, int runs, List<String> jvmArgs, Path jar) throws Exception {
+                Path database = WORK.resolve(mode.replace(' ', '-').toLowerCase() + "/trackhounds")
+                                .toAbsolutePath();
+                timeToFirstRequest(jvmArgs, jar, database);
+                long[] millis = new long[runs];
+                for (int i = 0; i < runs; i++)
+                        millis[i] = timeToFirstRequest(jvmArgs, jar, database);
+                Arrays.sort(millis);
+                return String.format("%s: time to first request min %d ms, median %d ms, max %d ms over %d starts",
+                                mode, millis[0], millis[runs / 2], millis[runs - 1], runs);
+        }
+
+        /**
+         * Start the jar and poll it until it answers a request
+         *
+         * @param jvmArgs  JVM options
+         * @param jar      Jar to start
+         * @param database Embedded database of the run
+         * @return Milliseconds from launch to the first answered request
+         * @throws Exception if the jar exits or does not answer in time
+         */
+        private long timeToFirstRequest(List<String> jvmArgs, Path jar, Path database) throws Exception {
+                int port = freePort();
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/dogs/total"))
+                                .timeout(Duration.ofSeconds(5)).build();
+                long start = System.nanoTime();
+                Process app = launch(jvmArgs, jar, "--spring.profiles.active=embedded", "--server.port=" + port,
+                                "--TRACKHOUNDS_DB_PATH=" + database);
+                try {
+                        while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                                if (!app.isAlive())
+                                        fail("Application exited with " + app.exitValue() + ", see " + log());
+                                try {
+                                        if (client.send(request, HttpResponse.BodyHandlers.discarding())
+                                                        .statusCode() == 200)
+                                                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                                } catch (ConnectException e) {
+                                        // Not listening yet
+                                }
+                                Thread.sleep(10);
+                        }
+                        return fail("Application did not answer within " + TIMEOUT + ", see " + log());
+                } finally {
+                        app.destroy();
+                        if (!app.waitFor(30, TimeUnit.SECONDS))
+                                app.destroyForcibly().waitFor();
+                }
+        }
+
+        /**
+         * Launch a jar in a child JVM of the running Java, logging to the
+         * working directory
+         *
+         * @param jvmArgs JVM options
+         * @param jar     Jar
+         * @param args    Application arguments
+         * @return Process
+         * @throws IOException if the JVM cannot be launched
+         */
+        private static Process launch(List<String> jvmArgs, Path jar, String... args) throws IOException {
+                List<String> command = new ArrayList<>();
+                command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+                command.addAll(jvmArgs);
+                command.add("-jar");
+                command.add(jar.toString());
+                command.addAll(List.of(args));
+                return new ProcessBuilder(command).redirectErrorStream(true)
+                                .redirectOutput(log().toFile()).start();
+        }
+
+        /**
+         * Whether the jar holds the initializers generated by Spring AOT
+         *
+         * @return Whether it was packaged with -Pproduction
+         * @throws IOException if the jar cannot be read
+         */
+        private static boolean isAotProcessed() throws IOException {
+                try (JarFile jar = new JarFile(JAR.toFile())) {
+                        return jar.getEntry("BOOT-INF/classes/com/trackhounds/trackhounds/"
+                                        + "TrackhoundsApplication__ApplicationContextInitializer.class") != null;
+                }
+        }
+
+        /**
+         * Free local port for the next start
+         *
+         * @return Port
+         * @throws IOException if no port is free
+         */
+        private static int freePort() throws IOException {
+                try (ServerSocket socket = new ServerSocket(0)) {
+                        return socket.getLocalPort();
+                }
+        }
+
+        /**
+         * Output of the last launched JVM
+         *
+         * @return Log file
+         */
+        private static Path log() {
+                return WORK.resolve("app.log");
+        }
+
+        /**
+         * Delete the databases and archive of an earlier run
+         *
+         * @throws IOException if a file cannot be deleted
+         */
+        private static void clean() throws IOException {
+                if (!Files.exists(WORK))
+                        return;
+                try (Stream<Path> files = Files.walk(WORK)) {
+                        for (Path file : files.sorted(Comparator.reverseOrder()).toList())
+                                Files.delete(file);
+                }
+        }
+}
@@ -0,0 +1,94 @@
+package com.trackhounds.trackhounds.Benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.trackhounds.trackhounds.TrackhoundsApplication;
+import com.trackhounds.trackhounds.Service.HuntConfigService;
+import com.trackhounds.trackhounds.Service.StandingsService;
+
+/**
+ * Compares the throughput of the /dogs/scores reads under hundreds of
+ * concurrent pollers with requests served by the Tomcat thread pool and by
+ * virtual threads. The application is started once per mode on the test
+ * database. Excluded from the default build, run with
+ * {@code mvn test -Pbenchmark -Dtest=VirtualThreadsBenchmarkTest}, the poller
+ * count and duration are set with load.pollers and load.poll.seconds.
+ */
+@Tag("benchmark")
+public class VirtualThreadsBenchmarkTest {
+
+        /**
+         * Length of the unmeasured polling round before each measurement
+         */
+        private static final int WARM_UP_SECONDS = 5;
+
+        /**
+         * Poll the same hunt in both modes and print the reports side by side
+         *
+         * @throws Exception if the hunt cannot be set up
+         */
+        @Test
+        void compareReadThroughput() throws Exception {
+                String platform = poll(false);
+                String virtual = poll(true);
+                System.out.println("Platform threads\n" + platform);
+                System.out.println("Virtual threads\n" + virtual);
+        }
+
+        /**
+         * Start the application in a mode, score a one day hunt and poll it
+         *
+         * @param virtualThreads Whether requests run on virtual threads
+         * @return Report of the polling
+         * @throws Exception if the hunt cannot be set up
+         */
+        private String poll(boolean virtualThreads) throws Exception {
+                try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TrackhoundsApplication.class)
+                                .profiles("test")
+                                .run("--server.port=0", "--spring.threads.virtual.enabled=" + virtualThreads)) {
+                        TomcatWebServer server = (TomcatWebServer) ((ServletWebServerApplicationContext) context)
+                                        .getWebServer();
+                        assertEquals(virtualThreads, server.getTomcat().getConnector().getProtocolHandler()
+                                        .getExecutor() instanceof VirtualThreadExecutor);
+                        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+                        StandingsService standingsService = context.getBean(StandingsService.class);
+                        HuntConfigService huntConfigService = context.getBean(HuntConfigService.class);
+                        HuntLoadTest.clear(jdbcTemplate, standingsService, huntConfigService);
+                        try {
+                                HuntLoadGenerator.Settings settings = new HuntLoadGenerator.Settings();
+                                settings.url = "http://localhost:" + server.getPort();
+                                settings.judges = 5;
+                                settings.days = 1;
+                                settings.crossesPerJudge = 20;
+                                settings.crossRate = 0;
+                                settings.readers = 0;
+                                HuntLoadGenerator generator = new HuntLoadGenerator(settings);
+                                generator.setUp();
+                                generator.run();
+
+                                // Short unmeasured round so both modes are measured warm
+                                int seconds = settings.pollSeconds;
+                                settings.pollSeconds = WARM_UP_SECONDS;
+                                generator.poll();
+                                settings.pollSeconds = seconds;
+                                generator.resetStats();
+
+                                generator.poll();
+                                assertEquals(0, generator.getErrors());
+                                return String.format("%d pollers, %.1f req/s overall%n%s", settings.pollers,
+                                                generator.getThroughput(), generator.report());
+                        } finally {
+                                HuntLoadTest.clear(jdbcTemplate, standingsService, huntConfigService);
+                        }
+                }
+        }
+}
@@ -116,7 +116,9 @@ public class DogControllerTest {
 
                 mvc.perform(get("/dogs").accept(MediaType.APPLICATION_JSON))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$.length()").value(2));
+                                .andExpect(jsonPath("$.length()").value(2))
+                                .andExpect(jsonPath("$[0].name").value("Dog1"))
+                                .andExpect(jsonPath("$[0].scores").doesNotExist());
         }
 
         /**
@@ -162,6 +164,71 @@ public class DogControllerTest {
                 assertEquals(1, dogRepository.count());
         }
 
+        /**
+         * Tests importing an entry list from a CSV and a JSON array.
+         */
+        @Test
+        @Transactional
+        void testImportDogs() throws Exception {
+                String csv = "﻿Number,Name,Stake,Owner,Sire,Dam\r\n"
+                                + "1,Dog1,All Age,\"Smith, J\",Sire1,Dam1\r\n"
+                                + "\r\n"
+                                + "2,\"Dog \"\"Two\"\"\",derby,,,\r\n";
+
+                mvc.perform(post("/dogs/import").contentType("text/csv").content(csv))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string("2"));
+
+                DogEntity first = dogRepository.findById(1).orElseThrow();
+                assertEquals("Smith, J", first.getOwner());
+                assertEquals(StakeType.ALL_AGE, first.getStake());
+                assertEquals("Dog \"Two\"", dogRepository.findById(2).orElseThrow().getName());
+                assertEquals(2, dogService.getDogSummaries().size());
+
+                mvc.perform(post("/dogs/import").contentType(MediaType.APPLICATION_JSON)
+                                .content(gson.toJson(List.of(new DogEntity(3, "Dog3", StakeType.DERBY, "", "", "")))))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string("1"));
+
+                assertEquals(3, dogRepository.count());
+        }
+
+        /**
+         * Tests that an entry list with invalid rows reports every row and
+         * creates no dogs.
+         */
+        @Test
+        @Transactional
+        void testImportDogsInvalid() throws Exception {
+                dogRepository.save(new DogEntity(1, "Dog1", StakeType.ALL_AGE, "", "", ""));
+                String csv = "number,name,stake\n"
+                                + "1,Again,ALL_AGE\n"
+                                + "x,Dog2,ALL_AGE\n"
+                                + "3,,PUPPY\n"
+                                + "4,Dog4,DERBY\n"
+                                + "4,Dog4 Again,DERBY\n";
+
+                mvc.perform(post("/dogs/import").contentType("text/csv").content(csv))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.fields.number1").value("Existing dog with matching number."))
+                                .andExpect(jsonPath("$.fields.number2").value("Dog number must be a whole number."))
+                                .andExpect(jsonPath("$.fields.name3").value("Name cannot be empty."))
+                                .andExpect(jsonPath("$.fields.stake3").value("Unknown stake type."))
+                                .andExpect(jsonPath("$.fields.number4").doesNotExist())
+                                .andExpect(jsonPath("$.fields.number5").value("Dog number entered twice."));
+
+                mvc.perform(post("/dogs/import").contentType(MediaType.APPLICATION_JSON)
+                                .content("[{\"number\":5,\"name\":\"Dog5\",\"stake\":\"PUPPY\"}]"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.fields.stake1").exists());
+
+                mvc.perform(post("/dogs/import").contentType("text/csv").content("number,name\n5,Dog5\n"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.fields.header").exists());
+
+                assertEquals(1, dogRepository.count());
+        }
+
         /**
          * Tests updating an existing dog using the PUT endpoint.
          */
@@ -206,6 +273,36 @@ public class DogControllerTest {
                 assertEquals(27, dog3.getPoints());
         }
 
+        /**
+         * Tests creating a batch of scores using the POST /dogs/scores/batch endpoint.
+         */
+        @Test
+        @Transactional
+        void testPostScoresBatch() throws Exception {
+                dogRepository.save(new DogEntity(1, "TestDog", StakeType.ALL_AGE, "", "", ""));
+                dogRepository.save(new DogEntity(2, "TestDog2", StakeType.ALL_AGE, "", "", ""));
+                List<ScoreDto> crosses = List.of(
+                                new ScoreDto(1, "05:30:00", 1, "05:45:00", new int[] { 1, 2 },
+                                                new int[] { 35, 30 }, 10),
+                                new ScoreDto(1, "05:30:00", 1, "05:55:00", new int[] { 2, 1 },
+                                                new int[] { 35, 30 }, 10));
+                mvc.perform(post("/dogs/scores/batch").contentType(MediaType.APPLICATION_JSON)
+                                .content(gson.toJson(crosses)))
+                                .andExpect(status().isOk());
+                assertEquals(71, dogRepository.findById(1).get().getPoints());
+                assertEquals(71, dogRepository.findById(2).get().getPoints());
+
+                List<ScoreDto> invalid = List.of(
+                                new ScoreDto(1, "05:30:00", 1, "06:05:00", new int[] { 1 }, new int[] { 35 }, 10),
+                                new ScoreDto(1, "05:30:00", 99, "05:15:00", new int[] { 1 }, new int[] { 35 }, 10));
+                mvc.perform(post("/dogs/scores/batch").contentType(MediaType.APPLICATION_JSON)
+                                .content(gson.toJson(invalid)))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.fields['cross2.judge']").exists())
+                                .andExpect(jsonPath("$.fields['cross2.crossTime']").exists());
+                assertEquals(71, dogRepository.findById(1).get().getPoints());
+        }
+
         /**
          * Tests deleting a score using the DELETE /dogs/{dogNumber}/scores/{scoreId}
          * endpoint.
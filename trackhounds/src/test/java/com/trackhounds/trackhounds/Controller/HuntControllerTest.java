@@ -19,10 +19,13 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.trackhounds.trackhounds.Dto.RebucketProgress;
+import com.trackhounds.trackhounds.Dto.RebucketProgress.Phase;
 import com.trackhounds.trackhounds.Entity.HuntEntity;
 import com.trackhounds.trackhounds.Enums.StakeType;
 import com.trackhounds.trackhounds.Exception.GlobalExceptionHandler;
 import com.trackhounds.trackhounds.Service.HuntService;
+import com.trackhounds.trackhounds.Service.RebucketService;
 
 /**
  * Test class for Hunt Controller
@@ -44,6 +47,13 @@ public class HuntControllerTest {
     @MockitoBean
     private HuntService huntService;
 
+    /**
+     * Rebucket Service
+     */
+    @Autowired
+    @MockitoBean
+    private RebucketService rebucketService;
+
     /**
      * Hunt Controller
      */
@@ -105,4 +115,19 @@ public class HuntControllerTest {
                 .content("{\"title\":\"New Title\",\"dates\":\"Edited\"}"))
                 .andExpect(status().isOk());
     }
+
+    /**
+     * Test rebucketing the scores
+     * 
+     * @throws Exception
+     */
+    @Test
+    void testRebucket() throws Exception {
+        when(rebucketService.rebucket()).thenReturn(new RebucketProgress(Phase.DONE, 30, 2, 2, 2, 5));
+
+        mockMvc.perform(put("/hunt/rebucket"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/hunt/rebucket"))
+                .andExpect(status().isOk());
+    }
 }
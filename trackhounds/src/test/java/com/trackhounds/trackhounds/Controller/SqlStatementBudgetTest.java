@@ -0,0 +1,182 @@
+package com.trackhounds.trackhounds.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.google.gson.Gson;
+import com.trackhounds.trackhounds.GsonUtil;
+import com.trackhounds.trackhounds.Config.SqlStatementFilter;
+import com.trackhounds.trackhounds.Dto.CrossInfoRequest;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.HuntRepository;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+import com.trackhounds.trackhounds.Service.DogService;
+import com.trackhounds.trackhounds.Service.HuntConfigService;
+import com.trackhounds.trackhounds.Service.HuntService;
+
+/**
+ * SQL statement budgets of the busiest endpoints. The budgets do not depend on
+ * the number of dogs, so an N+1 pattern fails them. Requests run outside of a
+ * test transaction, as they do in production.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class SqlStatementBudgetTest {
+
+        /**
+         * Number of dogs in the hunt, large enough for an N+1 pattern to stand out
+         */
+        private static final int DOGS = 40;
+
+        @Autowired
+        private MockMvc mvc;
+
+        @Autowired
+        private DogService dogService;
+
+        @Autowired
+        private HuntService huntService;
+
+        @Autowired
+        private HuntConfigService huntConfigService;
+
+        @Autowired
+        private HuntRepository huntRepository;
+
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        private final Gson gson = GsonUtil.GSON;
+
+        /**
+         * Create a hunt with a judge and scored dogs
+         */
+        @BeforeEach
+        void setUp() {
+                huntRepository.deleteAll();
+                huntConfigService.invalidate();
+                dogService.clear();
+                judgeRepository.deleteAll();
+                judgeRepository.save(new JudgeEntity(1, "PIN", "Judgy Judge"));
+                huntService.createHunt(new HuntEntity("Title", null, StakeType.ALL_AGE, 10));
+                dogService.createDogs(dogs(1, DOGS));
+                dogService.createScore(new ScoreDto(1, "06:00:00", 1, "06:05:00", new int[] { 1, 2, 3 },
+                                new int[] { 50, 45, 40 }, 10));
+        }
+
+        /**
+         * Leave an empty database for the other tests
+         */
+        @AfterEach
+        void tearDown() {
+                dogService.clear();
+                judgeRepository.deleteAll();
+                huntRepository.deleteAll();
+                huntConfigService.invalidate();
+        }
+
+        /**
+         * Test the budgets of the dog list and the leaderboards, which are served
+         * from memory once the standings are loaded, and of the full daily
+         * standings, which are ranked in one query
+         *
+         * @throws Exception
+         */
+        @Test
+        void testReadBudgets() throws Exception {
+                mvc.perform(get("/dogs"))
+                                .andExpect(status().isOk())
+                                .andExpect(statements(1));
+                mvc.perform(get("/dogs/scores/top10/overall"))
+                                .andExpect(status().isOk())
+                                .andExpect(statements(3));
+                mvc.perform(get("/dogs/scores/top10/overall"))
+                                .andExpect(status().isOk())
+                                .andExpect(statements(0));
+                mvc.perform(get("/dogs/scores/day/1/top10"))
+                                .andExpect(status().isOk())
+                                .andExpect(statements(0));
+                mvc.perform(get("/dogs/scores/day/1"))
+                                .andExpect(status().isOk())
+                                .andExpect(statements(1));
+        }
+
+        /**
+         * Test the budgets of the write paths
+         *
+         * @throws Exception
+         */
+        @Test
+        void testWriteBudgets() throws Exception {
+                mvc.perform(post("/dogs")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(gson.toJson(dogs(DOGS + 1, DOGS))))
+                                .andExpect(status().isOk())
+                                .andExpect(statements(2));
+                mvc.perform(post("/dogs/scores")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(gson.toJson(new ScoreDto(1, "06:00:00", 1, "06:15:00",
+                                                new int[] { 1, 2, 3, 4, 5 }, new int[] { 50, 45, 40, 35, 30 }, 10))))
+                                .andExpect(status().isOk())
+                                .andExpect(statements(15));
+                mvc.perform(post("/dogs/cross-info")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(gson.toJson(new CrossInfoRequest(new int[] { 1, 2, 3, 4, 5, 6, 7, 8 }, 50,
+                                                5, StakeType.ALL_AGE))))
+                                .andExpect(status().isOk())
+                                .andExpect(statements(1));
+        }
+
+        /**
+         * Expect a request to run at most the given number of SQL statements
+         *
+         * @param budget Maximum statement count
+         * @return Result matcher
+         */
+        static ResultMatcher statements(int budget) {
+                return result -> {
+                        String header = result.getResponse().getHeader(SqlStatementFilter.HEADER);
+                        assertNotNull(header, "Missing " + SqlStatementFilter.HEADER + " header");
+                        int statements = Integer.parseInt(header);
+                        assertTrue(statements <= budget, String.format("%s %s ran %d SQL statements, budget is %d",
+                                        result.getRequest().getMethod(), result.getRequest().getRequestURI(),
+                                        statements, budget));
+                };
+        }
+
+        /**
+         * Build numbered dogs
+         *
+         * @param first First number
+         * @param count Number of dogs
+         * @return Dogs
+         */
+        private static List<DogEntity> dogs(int first, int count) {
+                List<DogEntity> dogs = new ArrayList<>();
+                for (int n = first; n < first + count; n++)
+                        dogs.add(new DogEntity(n, "Dog" + n, StakeType.ALL_AGE, "Owner", "Sire", "Dam"));
+                return dogs;
+        }
+}
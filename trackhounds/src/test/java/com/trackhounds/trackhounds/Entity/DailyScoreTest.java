@@ -0,0 +1,200 @@
+package com.trackhounds.trackhounds.Entity;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Adding and removing crosses of a daily score, on a 10 minute interval day
+ * started at 06:00 unless stated
+ */
+public class DailyScoreTest {
+
+        /**
+         * Start time of the day
+         */
+        private static final LocalTime START = LocalTime.of(6, 0);
+
+        /**
+         * Daily score under test
+         */
+        private DailyScore dailyScore;
+
+        /**
+         * Ids of the scores created
+         */
+        private long ids;
+
+        /**
+         * Start an empty daily score
+         */
+        @BeforeEach
+        void setUp() {
+                dailyScore = new DailyScore(new Days(1, START), new DogEntity());
+                ids = 0;
+        }
+
+        /**
+         * The next highest score of the bucket is counted, the earliest added
+         * one among equal points
+         */
+        @Test
+        void testRemoveHighestCountsNextHighest() {
+                Score first = add(50, "06:02");
+                Score second = add(40, "06:04");
+                Score third = add(40, "06:06");
+                Score other = add(20, "06:15");
+
+                assertEquals(first, dailyScore.removeScore(first));
+                assertAll("Removed",
+                                () -> assertFalse(first.isCounted()),
+                                () -> assertTrue(second.isCounted()),
+                                () -> assertFalse(third.isCounted()),
+                                () -> assertEquals(List.of(other, second), counted()),
+                                () -> assertEquals(3, dailyScore.getTimeBucketScores().size()));
+        }
+
+        /**
+         * The last cross is taken from the counted scores left before the
+         * next highest score of the bucket is counted, so the replacement
+         * does not move it even when it is later
+         */
+        @Test
+        void testRemoveLastCrossBeforeReplacement() {
+                add(30, "06:01");
+                add(20, "06:05");
+                Score last = add(40, "06:12");
+                Score replacement = add(10, "06:18");
+                assertEquals(LocalTime.of(6, 12), dailyScore.getLastCross());
+
+                dailyScore.removeScore(last);
+                assertAll("Removed",
+                                () -> assertTrue(replacement.isCounted()),
+                                () -> assertEquals(LocalTime.of(6, 1), dailyScore.getLastCross()),
+                                () -> assertEquals(30, dailyScore.getAssociatedPoints()));
+        }
+
+        /**
+         * Among counted scores at the latest time, the one counted first
+         * gives the associated points
+         */
+        @Test
+        void testRemoveLastCrossTie() {
+                add(30, "06:05");
+                add(20, "06:15");
+                // Entered with an earlier start time, in a bucket of its own
+                dailyScore.addScore(score(40, "06:15"), LocalTime.of(5, 50), 10);
+                Score latest = add(50, "06:35");
+
+                dailyScore.removeScore(latest);
+                assertAll("Removed",
+                                () -> assertEquals(3, counted().size()),
+                                () -> assertEquals(LocalTime.of(6, 15), dailyScore.getLastCross()),
+                                () -> assertEquals(20, dailyScore.getAssociatedPoints()));
+        }
+
+        /**
+         * Removing a score that did not count leaves the highest score of its
+         * bucket counted once
+         */
+        @Test
+        void testRemoveUncounted() {
+                Score highest = add(50, "06:02");
+                Score lower = add(30, "06:08");
+
+                dailyScore.removeScore(lower);
+                assertAll("Removed",
+                                () -> assertTrue(highest.isCounted()),
+                                () -> assertEquals(List.of(highest), counted()),
+                                () -> assertEquals(LocalTime.of(6, 2), dailyScore.getLastCross()),
+                                () -> assertEquals(50, dailyScore.getAssociatedPoints()));
+        }
+
+        /**
+         * On a 0 interval day every score counts and none replaces a removed
+         * one
+         */
+        @Test
+        void testRemoveZeroInterval() {
+                Score first = score(50, "06:02");
+                Score second = score(30, "06:08");
+                dailyScore.addScore(first, START, 0);
+                dailyScore.addScore(second, START, 0);
+
+                dailyScore.removeScore(second);
+                assertAll("Removed",
+                                () -> assertEquals(List.of(first), counted()),
+                                () -> assertEquals(LocalTime.of(6, 2), dailyScore.getLastCross()),
+                                () -> assertEquals(50, dailyScore.getAssociatedPoints()));
+        }
+
+        /**
+         * A daily score loaded from the database is indexed from its stored
+         * lists, a highest score stored twice counting once
+         */
+        @Test
+        void testRemoveLoaded() {
+                Score highest = score(50, "06:02");
+                highest.setCounted(true);
+                Score lower = score(40, "06:04");
+                Score other = score(20, "06:15");
+                other.setCounted(true);
+                dailyScore.getTimeBucketScores().addAll(List.of(new TimeBucketScore(1L, 0, highest, dailyScore),
+                                new TimeBucketScore(2L, 0, lower, dailyScore),
+                                new TimeBucketScore(3L, 1, other, dailyScore)));
+                dailyScore.getHighestScores().addAll(List.of(new HighestScore(1L, 0, highest, dailyScore),
+                                new HighestScore(2L, 1, other, dailyScore),
+                                new HighestScore(3L, 0, highest, dailyScore)));
+                dailyScore.setLastCross(LocalTime.of(6, 15));
+                dailyScore.setAssociatedPoints(20);
+
+                assertTrue(dailyScore.contains(lower));
+                dailyScore.removeScore(highest);
+                assertAll("Removed",
+                                () -> assertTrue(lower.isCounted()),
+                                () -> assertEquals(List.of(other, lower), counted()),
+                                () -> assertNull(dailyScore.removeScore(highest)),
+                                () -> assertFalse(dailyScore.contains(highest)));
+        }
+
+        /**
+         * Add a cross on the 10 minute interval day
+         *
+         * @param points Points
+         * @param time   Cross time, HH:mm
+         * @return Added score
+         */
+        private Score add(int points, String time) {
+                Score score = score(points, time);
+                dailyScore.addScore(score, START, 10);
+                return score;
+        }
+
+        /**
+         * Create a score of dog 1 by judge 1
+         *
+         * @param points Points
+         * @param time   Cross time, HH:mm
+         * @return Score
+         */
+        private Score score(int points, String time) {
+                return new Score(++ids, points, LocalTime.parse(time), false, 1, 1, 1);
+        }
+
+        /**
+         * Counted scores, in the order they were counted
+         *
+         * @return Scores of the highest scores
+         */
+        private List<Score> counted() {
+                return dailyScore.getHighestScores().stream().map(HighestScore::getScore).toList();
+        }
+}
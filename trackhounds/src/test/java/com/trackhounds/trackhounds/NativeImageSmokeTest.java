@@ -0,0 +1,336 @@
+package com.trackhounds.trackhounds;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Smoke tests of the native executable. It is started on the embedded
+ * database with the score journal on, a hunt is scored through the API and
+ * the executable is restarted to replay the journal, which covers the
+ * reflection, proxies and resources the image needs. Time to first request
+ * and resident memory are printed. Excluded from the default build, build the
+ * executable with {@code mvn -Pnative native:compile -DskipTests}, then run
+ * {@code mvn test -Pnative-smoke}. native.executable may also point at the
+ * jar, to compare with the JVM.
+ */
+@Tag("native")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class NativeImageSmokeTest {
+
+        /**
+         * Executable under test
+         */
+        private static final Path EXECUTABLE = Path.of(System.getProperty("native.executable", "target/trackhounds"));
+
+        /**
+         * Working directory of the tests, holding the database and journal
+         */
+        private static final Path WORK = Path.of("target/native-smoke").toAbsolutePath();
+
+        /**
+         * Longest a start or a write behind may take
+         */
+        private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+        /**
+         * HTTP client
+         */
+        private static final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1))
+                        .build();
+
+        /**
+         * JSON mapper
+         */
+        private static final ObjectMapper mapper = new ObjectMapper();
+
+        /**
+         * Running executable
+         */
+        private static Process app;
+
+        /**
+         * Port it listens on
+         */
+        private static int port;
+
+        /**
+         * Start the executable on an empty database
+         *
+         * @throws Exception if it does not start
+         */
+        @BeforeAll
+        static void start() throws Exception {
+                assumeTrue(Files.isRegularFile(EXECUTABLE), "Build the native executable first");
+                clean();
+                Files.createDirectories(WORK);
+                launch();
+        }
+
+        /**
+         * Stop the executable
+         *
+         * @throws Exception if it does not stop
+         */
+        @AfterAll
+        static void stop() throws Exception {
+                if (app != null)
+                        shutdown();
+        }
+
+        /**
+         * The executable is up, with its migrations applied
+         *
+         * @throws Exception if a request fails
+         */
+        @Test
+        @Order(1)
+        void testHealth() throws Exception {
+                assertEquals("UP", get("/actuator/health").get("status").asText());
+                assertEquals(0, get("/dogs/total").asInt());
+        }
+
+        /**
+         * A hunt is set up, scored and read back through the leaderboards
+         *
+         * @throws Exception if a request fails
+         */
+        @Test
+        @Order(2)
+        void testScoreHunt() throws Exception {
+                send("POST", "/hunt", "application/json",
+                                "{\"title\":\"Smoke Hunt\",\"dates\":\"2025-10-12 to 2025-10-13\",\"stake\":\"ALL_AGE\","
+                                                + "\"huntInterval\":10}");
+                send("POST", "/judges", "application/json", "{\"number\":1,\"memberPin\":\"PIN\",\"name\":\"Judge\"}");
+                assertEquals(2, mapper.readTree(send("POST", "/dogs/import", "text/csv",
+                                "number,name,stake,owner\n1,Dog1,All Age,Owner\n2,Dog2,Derby,Owner\n")).asInt());
+                send("POST", "/dogs/scores", "application/json", cross("06:05:00", "[1,2]", "[50,20]"));
+                send("POST", "/dogs/scores/batch", "application/json", "[" + cross("06:15:00", "[1]", "[40]") + "]");
+
+                JsonNode overall = get("/dogs/scores/top10/overall");
+                JsonNode day = get("/dogs/scores/day/1/top10");
+                JsonNode hunt = get("/hunt");
+                assertAll("Scored",
+                                () -> assertEquals(1, overall.get(0).get("dogNumber").asInt()),
+                                () -> assertEquals(99, overall.get(0).get("totalPoints").asInt()),
+                                () -> assertEquals(1, day.get(0).get("dogNumber").asInt()),
+                                () -> assertEquals("Smoke Hunt", hunt.get("title").asText()),
+                                () -> assertEquals(2, get("/dogs/total").asInt()));
+                System.out.println("Resident memory after scoring " + residentKb() + " kB");
+        }
+
+        /**
+         * Crosses journaled before a restart reach the database after it
+         *
+         * @throws Exception if a request fails
+         */
+        @Test
+        @Order(3)
+        void testRestartReplaysJournal() throws Exception {
+                shutdown();
+                launch();
+                JsonNode dog = await("/dogs/1", node -> node.get("points").asInt() == 99);
+                JsonNode scores = await("/dogs/scores", node -> node.size() == 3);
+                assertAll("Replayed",
+                                () -> assertEquals("Dog1", dog.get("name").asText()),
+                                () -> assertEquals(22, get("/dogs/2").get("points").asInt()),
+                                () -> assertEquals(3, scores.size()),
+                                () -> assertEquals(0, get("/dogs/scores/verify").size()),
+                                () -> assertEquals(2, get("/dogs/scores/day/1").size()));
+        }
+
+        /**
+         * Cross by judge 1 on day 1 of a 10 minute interval hunt started at
+         * 06:00
+         *
+         * @param time   Cross time
+         * @param dogs   JSON array of dog numbers
+         * @param points JSON array of the points of each dog
+         * @return JSON cross
+         */
+        private static String cross(String time, String dogs, String points) {
+                return String.format("{\"day\":1,\"startTime\":\"06:00:00\",\"judge\":1,\"crossTime\":\"%s\","
+                                + "\"dogNumbers\":%s,\"scores\":%s,\"interval\":10}", time, dogs, points);
+        }
+
+        /**
+         * Poll a resource until it matches
+         *
+         * @param path    Path of the resource
+         * @param matches Condition on its JSON
+         * @return Matching JSON
+         * @throws Exception if a request fails or it does not match in time
+         */
+        private static JsonNode await(String path, Predicate<JsonNode> matches) throws Exception {
+                long deadline = System.nanoTime() + TIMEOUT.toNanos();
+                JsonNode node = get(path);
+                while (!matches.test(node)) {
+                        if (System.nanoTime() > deadline)
+                                fail(path + " is still " + node);
+                        Thread.sleep(100);
+                        node = get(path);
+                }
+                return node;
+        }
+
+        /**
+         * Read a resource
+         *
+         * @param path Path of the resource
+         * @return JSON body
+         * @throws Exception if the request fails
+         */
+        private static JsonNode get(String path) throws Exception {
+                return mapper.readTree(send("GET", path, null, null));
+        }
+
+        /**
+         * Send a request that must succeed
+         *
+         * @param method      HTTP method
+         * @param path        Path
+         * @param contentType Content type of the body, null without a body
+         * @param body        Body, null without a body
+         * @return Response body
+         * @throws Exception if the request fails
+         */
+        private static String send(String method, String path, String contentType, String body) throws Exception {
+                HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                                .timeout(Duration.ofSeconds(30));
+                if (body == null) {
+                        request.method(method, HttpRequest.BodyPublishers.noBody());
+                } else {
+                        request.header("Content-Type", contentType)
+                                        .method(method, HttpRequest.BodyPublishers.ofString(body));
+                }
+                HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                assertEquals(200, response.statusCode(), method + " " + path + ": " + response.body());
+                return response.body();
+        }
+
+        /**
+         * Launch the executable and wait until it answers, printing how long
+         * that took
+         *
+         * @throws Exception if it exits or does not answer in time
+         */
+        private static void launch() throws Exception {
+                port = freePort();
+                List<String> command = new ArrayList<>();
+                if (EXECUTABLE.toString().endsWith(".jar")) {
+                        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+                        command.add("-jar");
+                }
+                command.add(EXECUTABLE.toString());
+                command.addAll(List.of("--spring.profiles.active=embedded", "--server.port=" + port,
+                                "--TRACKHOUNDS_DB_PATH=" + WORK.resolve("trackhounds"),
+                                "--trackhounds.journal.enabled=true",
+                                "--trackhounds.journal.path=" + WORK.resolve("score-journal.log")));
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/dogs/total"))
+                                .timeout(Duration.ofSeconds(5)).build();
+                long start = System.nanoTime();
+                app = new ProcessBuilder(command).redirectErrorStream(true)
+                                .redirectOutput(ProcessBuilder.Redirect.appendTo(WORK.resolve("app.log").toFile()))
+                                .start();
+                while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                        if (!app.isAlive())
+                                fail("Executable exited with " + app.exitValue() + ", see " + WORK.resolve("app.log"));
+                        try {
+                                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                                        System.out.printf("Time to first request %d ms, resident memory %d kB%n",
+                                                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                                                        residentKb());
+                                        return;
+                                }
+                        } catch (ConnectException e) {
+                                // Not listening yet
+                        }
+                        Thread.sleep(10);
+                }
+                fail("Executable did not answer within " + TIMEOUT);
+        }
+
+        /**
+         * Stop the executable gracefully, so the journal is closed
+         *
+         * @throws Exception if it does not stop
+         */
+        private static void shutdown() throws Exception {
+                app.destroy();
+                if (!app.waitFor(30, TimeUnit.SECONDS))
+                        app.destroyForcibly().waitFor();
+                app = null;
+        }
+
+        /**
+         * Resident memory of the executable, on Linux
+         *
+         * @return Resident set size in kB, -1 where it cannot be read
+         * @throws IOException if the process status cannot be read
+         */
+        private static long residentKb() throws IOException {
+                Path status = Path.of("/proc", String.valueOf(app.pid()), "status");
+                if (!Files.exists(status))
+                        return -1;
+                try (Stream<String> lines = Files.lines(status)) {
+                        return lines.filter(line -> line.startsWith("VmRSS:"))
+                                        .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                                        .findFirst().orElse(-1);
+                }
+        }
+
+        /**
+         * Free local port for the next start
+         *
+         * @return Port
+         * @throws IOException if no port is free
+         */
+        private static int freePort() throws IOException {
+                try (ServerSocket socket = new ServerSocket(0)) {
+                        return socket.getLocalPort();
+                }
+        }
+
+        /**
+         * Delete the database and journal of an earlier run
+         *
+         * @throws IOException if a file cannot be deleted
+         */
+        private static void clean() throws IOException {
+                if (!Files.exists(WORK))
+                        return;
+                try (Stream<Path> files = Files.walk(WORK)) {
+                        for (Path file : files.sorted(Comparator.reverseOrder()).toList())
+                                Files.delete(file);
+                }
+        }
+}
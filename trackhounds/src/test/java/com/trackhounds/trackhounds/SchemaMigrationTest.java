@@ -0,0 +1,241 @@
+package com.trackhounds.trackhounds;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.trackhounds.trackhounds.Dto.RebucketProgress;
+import com.trackhounds.trackhounds.Dto.RebucketProgress.Phase;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Entity.Scratch;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Service.DogService;
+import com.trackhounds.trackhounds.Service.HuntService;
+import com.trackhounds.trackhounds.Service.RebucketService;
+
+/**
+ * Upgrading a MariaDB database holding a hunt scored by an earlier version of
+ * the app. The schema the app created then and the hunt are loaded into a
+ * database of its own on the test server, without migration history, and the
+ * app is started on it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SchemaMigrationTest {
+
+        /**
+         * Database the upgrades run on, next to the test database
+         */
+        private static final String DATABASE = "trackhounds_upgrade";
+
+        /**
+         * URL of the test database
+         */
+        @Value("${spring.datasource.url}")
+        private String testUrl;
+
+        /**
+         * Database user
+         */
+        @Value("${spring.datasource.username}")
+        private String username;
+
+        /**
+         * Database password
+         */
+        @Value("${spring.datasource.password}")
+        private String password;
+
+        /**
+         * Test database
+         */
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        /**
+         * URL of the upgraded database
+         */
+        private String url;
+
+        /**
+         * Start from an empty upgrade database
+         */
+        @BeforeEach
+        void setUp() {
+                assumeTrue(testUrl.startsWith("jdbc:mariadb:"), "The legacy hunt is stored as MariaDB stored it");
+                url = testUrl.replaceFirst("^(jdbc:mariadb://[^/]+/)[^?]*", "$1" + DATABASE);
+                jdbcTemplate.execute("DROP DATABASE IF EXISTS " + DATABASE);
+        }
+
+        /**
+         * Drop the upgrade database
+         */
+        @AfterEach
+        void tearDown() {
+                if (url != null)
+                        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + DATABASE);
+        }
+
+        /**
+         * The database is baselined at V1 and migrated from V1.1 on, which
+         * leaves the schema the entities validate against
+         */
+        @Test
+        void testBaselinesLegacySchema() {
+                loadLegacyHunt();
+                try (ConfigurableApplicationContext app = start()) {
+                        JdbcTemplate jdbc = app.getBean(JdbcTemplate.class);
+                        List<String> versions = jdbc.queryForList(
+                                        "SELECT CONCAT(version, ' ', type) FROM flyway_schema_history"
+                                                        + " WHERE version IS NOT NULL ORDER BY installed_rank",
+                                        String.class);
+                        assertAll("Baselined",
+                                        () -> assertEquals("1 BASELINE", versions.get(0)),
+                                        () -> assertEquals("1.1 SQL", versions.get(1)),
+                                        () -> assertEquals(0, jdbc.queryForObject("SELECT COUNT(*) FROM"
+                                                        + " information_schema.columns WHERE table_schema = DATABASE()"
+                                                        + " AND table_name = 'score' AND extra LIKE '%auto_increment%'",
+                                                        Integer.class)),
+                                        () -> assertEquals(13, jdbc.queryForObject("SELECT COUNT(*) FROM score",
+                                                        Integer.class)));
+                }
+        }
+
+        /**
+         * Ids handed out after the upgrade follow the ids of the existing
+         * rows instead of clashing with them
+         */
+        @Test
+        void testSequencesStartAfterExistingRows() {
+                loadLegacyHunt();
+                try (ConfigurableApplicationContext app = start()) {
+                        DogService dogService = app.getBean(DogService.class);
+                        JdbcTemplate jdbc = app.getBean(JdbcTemplate.class);
+                        dogService.createScore(new ScoreDto(3, "07:00:00", 1, "07:05:00", new int[] { 1, 3 },
+                                        new int[] { 50, 40 }, 10));
+                        dogService.scratchDog(new Scratch(null, 3, null, LocalTime.of(7, 30), 2, "Lame"));
+                        assertAll("Upgraded",
+                                        () -> assertEquals(List.of(14L, 15L), ids(jdbc, "score", "id > 13")),
+                                        () -> assertEquals(List.of(9L, 10L), ids(jdbc, "daily_score", "id > 8")),
+                                        () -> assertEquals(List.of(14L, 15L),
+                                                        ids(jdbc, "time_bucket_score", "id > 13")),
+                                        () -> assertEquals(List.of(13L, 14L), ids(jdbc, "highest_score", "id > 12")),
+                                        () -> assertEquals(List.of(2L), ids(jdbc, "scratch", "id > 1")),
+                                        () -> assertEquals(260, dogService.getDogByNumber(1).getPoints()),
+                                        () -> assertEquals(178, dogService.getDogByNumber(3).getPoints()),
+                                        () -> assertEquals(123, dogService.getDogByNumber(2).getPoints()));
+                }
+        }
+
+        /**
+         * Scores entered before the score log are logged at startup, so they
+         * verify, rebuild and are removed like the scores entered after
+         */
+        @Test
+        void testPreLogScoresReplay() {
+                loadLegacyHunt();
+                try (ConfigurableApplicationContext app = start()) {
+                        DogService dogService = app.getBean(DogService.class);
+                        assertEquals(List.of(), dogService.verifyScores());
+                        assertEquals(14, dogService.rebuildScores());
+                        assertAll("Rebuilt",
+                                        () -> assertEquals(195, dogService.getDogByNumber(1).getPoints()),
+                                        () -> assertEquals(123, dogService.getDogByNumber(2).getPoints()),
+                                        () -> assertEquals(126, dogService.getDogByNumber(3).getPoints()),
+                                        () -> assertEquals(81, dogService.getDogByNumber(4).getPoints()),
+                                        () -> assertTrue(dogService.getDogByNumber(4).isScratched()));
+
+                        // Judge 2's 30 takes over the bucket of the removed 50
+                        dogService.removeScore(1, 1L);
+                        assertAll("Removed",
+                                        () -> assertEquals(173, dogService.getDogByNumber(1).getPoints()),
+                                        () -> assertEquals(List.of(), dogService.verifyScores()));
+                }
+        }
+
+        /**
+         * A hunt scored before the score log is bucketed again once its
+         * interval is edited
+         */
+        @Test
+        void testRebucketPreLogHunt() {
+                loadLegacyHunt();
+
+                try (ConfigurableApplicationContext app = start()) {
+                        DogService dogService = app.getBean(DogService.class);
+                        app.getBean(HuntService.class).editHunt(
+                                        new HuntEntity("Legacy Hunt", "2025-10-12 to 2025-10-13", StakeType.ALL_AGE, 20));
+                        RebucketProgress progress = app.getBean(RebucketService.class).rebucket();
+                        // Dog 1 keeps its 50 of each day, the later crosses share its bucket
+                        assertAll("Rebucketed",
+                                        () -> assertEquals(Phase.DONE, progress.getPhase()),
+                                        () -> assertEquals(4, progress.getWritten()),
+                                        () -> assertEquals(115, dogService.getDogByNumber(1).getPoints()),
+                                        () -> assertEquals(List.of(), dogService.verifyScores()));
+                }
+        }
+
+        /**
+         * Create the schema the app had before the pooled sequences and store
+         * the legacy hunt in it
+         */
+        private void loadLegacyHunt() {
+                jdbcTemplate.execute("CREATE DATABASE " + DATABASE);
+                populate("db/legacy/schema.sql");
+                populate("db/legacy/hunt.sql");
+        }
+
+        /**
+         * Run a script of the test resources against the upgrade database
+         *
+         * @param script Path of the script
+         */
+        private void populate(String script) {
+                new ResourceDatabasePopulator(new ClassPathResource(script))
+                                .execute(new DriverManagerDataSource(url, username, password));
+        }
+
+        /**
+         * Start the app on the upgrade database, which migrates it
+         *
+         * @return Started app
+         */
+        private ConfigurableApplicationContext start() {
+                return new SpringApplicationBuilder(TrackhoundsApplication.class)
+                                .web(WebApplicationType.NONE)
+                                .run("--spring.profiles.active=test", "--spring.datasource.url=" + url,
+                                                "--spring.docker.compose.enabled=false");
+        }
+
+        /**
+         * Ids of the rows of a table
+         *
+         * @param jdbc  Upgraded database
+         * @param table Table
+         * @param where Rows to read
+         * @return Ids in order
+         */
+        private static List<Long> ids(JdbcTemplate jdbc, String table, String where) {
+                return jdbc.queryForList("SELECT id FROM " + table + " WHERE " + where + " ORDER BY id", Long.class);
+        }
+}
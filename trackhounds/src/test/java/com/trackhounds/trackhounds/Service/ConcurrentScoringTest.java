@@ -0,0 +1,228 @@
+package com.trackhounds.trackhounds.Service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.trackhounds.trackhounds.Dto.DogStanding;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.DailyScoreRepository;
+import com.trackhounds.trackhounds.Repository.DaysRepository;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+import com.trackhounds.trackhounds.Repository.ScoreRepository;
+
+/**
+ * Judges posting crosses at the same time. Runs outside of a test transaction
+ * so every cross commits on its own, as it does in production.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ConcurrentScoringTest {
+
+        /**
+         * Number of judges posting at once
+         */
+        private static final int JUDGES = 8;
+
+        /**
+         * Crosses posted by each judge
+         */
+        private static final int CROSSES = 10;
+
+        /**
+         * Dog Service
+         */
+        @Autowired
+        private DogService dogService;
+
+        /**
+         * Standings Service
+         */
+        @Autowired
+        private StandingsService standingsService;
+
+        /**
+         * Dog locks
+         */
+        @Autowired
+        private DogLocks dogLocks;
+
+        /**
+         * Judge Repository
+         */
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        /**
+         * Score Repository
+         */
+        @Autowired
+        private ScoreRepository scoreRepository;
+
+        /**
+         * Daily Score Repository
+         */
+        @Autowired
+        private DailyScoreRepository dailyScoreRepository;
+
+        /**
+         * Days Repository
+         */
+        @Autowired
+        private DaysRepository daysRepository;
+
+        /**
+         * Create the judges and dogs. Dog 1 is crossed by every judge, dogs 2 and
+         * up by a single judge each.
+         */
+        @BeforeEach
+        void setUp() {
+                dogService.clear();
+                judgeRepository.deleteAll();
+                List<DogEntity> dogs = new ArrayList<>();
+                for (int n = 1; n <= JUDGES + 1; n++)
+                        dogs.add(new DogEntity(n, "Dog" + n, StakeType.ALL_AGE, "Owner", "Sire", "Dam"));
+                dogService.createDogs(dogs);
+                for (int j = 1; j <= JUDGES; j++)
+                        judgeRepository.save(new JudgeEntity(j, "PIN" + j, "Judge" + j));
+        }
+
+        /**
+         * Leave an empty database for the other tests
+         */
+        @AfterEach
+        void tearDown() {
+                dogService.clear();
+                judgeRepository.deleteAll();
+        }
+
+        /**
+         * Every judge opens a day nobody has started yet with their own dog, then
+         * crosses the shared dog and their own dog at once. No cross may be lost
+         * or counted twice.
+         *
+         * @throws Exception
+         */
+        @Test
+        void testConcurrentCrosses() throws Exception {
+                CountDownLatch start = new CountDownLatch(1);
+                ExecutorService judges = Executors.newFixedThreadPool(JUDGES);
+                List<Future<?>> posted = new ArrayList<>();
+                for (int j = 0; j < JUDGES; j++) {
+                        final int judge = j;
+                        posted.add(judges.submit(() -> {
+                                start.await();
+                                dogService.createScore(new ScoreDto(3, "06:00:00", judge + 1, "06:05:00",
+                                                new int[] { judge + 2 }, new int[] { 10 }, 10));
+                                for (int c = 0; c < CROSSES; c++) {
+                                        // Every cross lands in a bucket of its own, so all of them count
+                                        LocalTime time = LocalTime.of(6, 5).plusMinutes(10L * (judge * CROSSES + c));
+                                        dogService.createScore(new ScoreDto(judge % 2 + 1, "06:00:00", judge + 1,
+                                                        time.toString(), new int[] { 1, judge + 2 },
+                                                        new int[] { 10, 10 }, 10));
+                                }
+                                return null;
+                        }));
+                }
+                start.countDown();
+                for (Future<?> post : posted)
+                        post.get(60, TimeUnit.SECONDS);
+                judges.shutdown();
+
+                // Four judges put 400 points on each day, weighted by 1.1 and 1.2
+                DogEntity shared = dogService.getDogByNumber(1);
+                DogStanding standing = standingsService.getStandings().get(0);
+                assertAll("Concurrent crosses",
+                                () -> assertEquals(2L * JUDGES * CROSSES + JUDGES, scoreRepository.count()),
+                                () -> assertEquals(3L, daysRepository.count()),
+                                () -> assertEquals(920, shared.getPoints()),
+                                () -> assertEquals(920, standing.getPoints()),
+                                // Two days for the shared dog, three for the others
+                                () -> assertEquals(2 + 3 * JUDGES, dailyScoreRepository.count()));
+        }
+
+        /**
+         * Locks of different dogs are held at the same time, the lock of a held
+         * dog waits for it to be released
+         *
+         * @throws Exception
+         */
+        @Test
+        void testDogLocks() throws Exception {
+                CountDownLatch held = new CountDownLatch(1);
+                CountDownLatch release = new CountDownLatch(1);
+                ExecutorService threads = Executors.newFixedThreadPool(3);
+                Future<?> holder = threads.submit(() -> dogLocks.withDogs(List.of(1), () -> {
+                        held.countDown();
+                        try {
+                                return release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                                throw new IllegalStateException(e);
+                        }
+                }));
+                assertTrue(held.await(5, TimeUnit.SECONDS));
+
+                Future<Boolean> other = threads.submit(() -> dogLocks.withDogs(List.of(2, 3), () -> true));
+                Future<Boolean> same = threads.submit(() -> dogLocks.withDogs(List.of(3, 1), () -> true));
+                assertTrue(other.get(5, TimeUnit.SECONDS));
+                Thread.sleep(200);
+                assertFalse(same.isDone());
+
+                release.countDown();
+                holder.get(5, TimeUnit.SECONDS);
+                assertTrue(same.get(5, TimeUnit.SECONDS));
+                threads.shutdown();
+        }
+
+        /**
+         * Deleting a dog waits for the writes holding its lock, so it cannot
+         * interleave with a cross being saved to it
+         *
+         * @throws Exception
+         */
+        @Test
+        void testDeleteTakesDogLock() throws Exception {
+                CountDownLatch held = new CountDownLatch(1);
+                CountDownLatch release = new CountDownLatch(1);
+                ExecutorService threads = Executors.newFixedThreadPool(2);
+                Future<?> holder = threads.submit(() -> dogLocks.withDogs(List.of(2), () -> {
+                        held.countDown();
+                        try {
+                                return release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                                throw new IllegalStateException(e);
+                        }
+                }));
+                assertTrue(held.await(5, TimeUnit.SECONDS));
+
+                Future<?> delete = threads.submit(() -> dogService.deleteDog(2));
+                Thread.sleep(200);
+                assertFalse(delete.isDone());
+
+                release.countDown();
+                holder.get(5, TimeUnit.SECONDS);
+                delete.get(5, TimeUnit.SECONDS);
+                assertFalse(standingsService.getStandings().stream().anyMatch(dog -> dog.getNumber() == 2));
+                threads.shutdown();
+        }
+}
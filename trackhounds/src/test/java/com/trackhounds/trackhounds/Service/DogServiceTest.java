@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +22,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.trackhounds.trackhounds.Dto.DailyLeaderboardEntry;
+import com.trackhounds.trackhounds.Dto.DogSummary;
+import com.trackhounds.trackhounds.Dto.OverallLeaderboardEntry;
 import com.trackhounds.trackhounds.Dto.ScoreDto;
 import com.trackhounds.trackhounds.Entity.DailyScore;
 import com.trackhounds.trackhounds.Entity.DogEntity;
@@ -105,7 +110,36 @@ public class DogServiceTest {
                                 () -> assertThrows(TrackHoundsAPIException.class,
                                                 () -> dogService.createDogs(List.of(emptyName))),
                                 () -> assertThrows(TrackHoundsAPIException.class,
-                                                () -> dogService.createDogs(List.of(emptyStake))));
+                                                () -> dogService.createDogs(List.of(emptyStake))),
+                                () -> assertThrows(TrackHoundsAPIException.class,
+                                                () -> dogService.createDogs(List.of(
+                                                                new DogEntity(5, "Dog5", StakeType.DERBY, "o", "s", "d"),
+                                                                new DogEntity(5, "Dog5", StakeType.DERBY, "o", "s", "d")))));
+        }
+
+        /**
+         * Test creating more dogs than are persisted per flush, every field
+         * is read back as it was entered
+         */
+        @Test
+        void testCreateDogsInBatches() {
+                List<DogEntity> dogs = new ArrayList<>();
+                for (int n = 1; n <= 1201; n++)
+                        dogs.add(new DogEntity(n, "Dog" + n, n % 2 == 0 ? StakeType.DERBY : StakeType.ALL_AGE,
+                                        "Owner" + n, "Sire" + n, "Dam" + n));
+                assertEquals(1201, dogService.createDogs(dogs, new HashMap<>()));
+
+                DogEntity dog = dogService.getDogByNumber(1200);
+                assertAll("Created",
+                                () -> assertEquals(1201, dogService.getDogTotal()),
+                                () -> assertEquals("Dog1200", dog.getName()),
+                                () -> assertEquals(StakeType.DERBY, dog.getStake()),
+                                () -> assertEquals("Owner1200", dog.getOwner()),
+                                () -> assertEquals("Sire1200", dog.getSire()),
+                                () -> assertEquals("Dam1200", dog.getDam()),
+                                () -> assertFalse(dog.isScratched()),
+                                () -> assertEquals(0, dog.getPoints()),
+                                () -> assertEquals(StakeType.ALL_AGE, dogService.getDogByNumber(1201).getStake()));
         }
 
         /**
@@ -205,9 +239,10 @@ public class DogServiceTest {
                                 () -> assertNotEquals(dog2.hashCode(), dog3.hashCode()),
                                 () -> assertFalse(dog2.equals(dog3)));
 
-                List<DogEntity> dogs = dogService.getDogs();
+                List<DogSummary> dogs = dogService.getDogSummaries();
                 assertAll("Got all dogs", () -> assertEquals(3, dogs.size()),
-                                () -> assertTrue(dogs.contains(dog1)));
+                                () -> assertEquals(List.of(1, 2, 3), dogs.stream().map(DogSummary::getNumber).toList()),
+                                () -> assertEquals("Dog1", dogs.get(0).getName()));
 
         }
 
@@ -326,6 +361,49 @@ public class DogServiceTest {
 
         }
 
+        /**
+         * Test creating a batch of scores
+         */
+        @Test
+        @Transactional
+        void testCreateScores() {
+                DogEntity dog1 = new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner1", "Sire", "Dam");
+                DogEntity dog2 = new DogEntity(2, "Dog2", StakeType.ALL_AGE, "Owner2", "Sire", "Dam");
+                dogService.createDogs(List.of(dog1, dog2));
+
+                List<ScoreDto> crosses = List.of(
+                                new ScoreDto(1, "05:30:00", 1, "05:45:00", new int[] { 1, 2 },
+                                                new int[] { 35, 30 }, 10),
+                                new ScoreDto(1, "05:30:00", 1, "05:42:00", new int[] { 2, 1 },
+                                                new int[] { 35, 30 }, 10),
+                                new ScoreDto(2, "06:00:00", 1, "06:05:00", new int[] { 1, 999 },
+                                                new int[] { 25, 20 }, 10));
+                assertDoesNotThrow(() -> dogService.createScores(crosses));
+                DogEntity d1 = dogService.getDogByNumber(1);
+                DogEntity d2 = dogService.getDogByNumber(2);
+                assertAll("Batch applied",
+                                () -> assertEquals(2, d1.getScores().size()),
+                                () -> assertEquals(2, d1.getScores().get(0).getTimeBucketScores().size()),
+                                () -> assertEquals(1, d1.getScores().get(0).getHighestScores().size()),
+                                () -> assertEquals(35, d1.getScores().get(0).getDailyScore()),
+                                () -> assertEquals(25, d1.getScores().get(1).getDailyScore()),
+                                () -> assertEquals(68, d1.getPoints()),
+                                () -> assertEquals(1, d2.getScores().size()),
+                                () -> assertEquals(38, d2.getPoints()),
+                                () -> assertEquals("06:00", daysRepository.findById(2).get().getStartTime().toString()));
+
+                List<ScoreDto> invalid = List.of(
+                                new ScoreDto(1, "05:30:00", 1, "05:50:00", new int[] { 1 }, new int[] { 40 }, 10),
+                                new ScoreDto(1, "05:30:00", 1, "05:50:00", new int[] { 1, 2 }, new int[] { -1 }, 10));
+                TrackHoundsAPIException exception = assertThrows(TrackHoundsAPIException.class,
+                                () -> dogService.createScores(invalid));
+                assertAll("Invalid batch",
+                                () -> assertTrue(exception.getFields().containsKey("cross2.scores")),
+                                () -> assertTrue(exception.getFields().containsKey("cross2.scores0")),
+                                () -> assertEquals(68, dogService.getDogByNumber(1).getPoints()));
+                assertDoesNotThrow(() -> dogService.createScores(List.of()));
+        }
+
         /**
          * Test removing a score
          */
@@ -418,6 +496,17 @@ public class DogServiceTest {
                         assertEquals(1, dogService.getDogByNumber(1).getScores().get(0).getHighestScores().size());
                         assertEquals(27, dogService.getDogByNumber(1).getPoints());
                 });
+
+                dogService.createScore(new ScoreDto(1, "05:30:00", 1, "05:38:00", new int[] { 1 }, new int[] { 40 },
+                                10));
+                Long lowerScoreId = dogService.getDogByNumber(1).getScores().get(0).getTimeBucketScores().get(0)
+                                .getScore().getId();
+                assertAll("Remove Lower Score", () -> {
+                        assertDoesNotThrow(() -> dogService.removeScore(1, lowerScoreId));
+                        assertEquals(1, dogService.getDogByNumber(1).getScores().get(0).getTimeBucketScores().size());
+                        assertEquals(1, dogService.getDogByNumber(1).getScores().get(0).getHighestScores().size());
+                        assertEquals(44, dogService.getDogByNumber(1).getPoints());
+                });
         }
 
         /**
@@ -579,76 +668,80 @@ public class DogServiceTest {
                 dogService.createScore(score2Day1);
 
                 // Test getDogScoresByDay
-                List<Map<String, Object>> day1Scores = dogService.getDogScoresByDay(1);
-                List<Map<String, Object>> day2Scores = dogService.getDogScoresByDay(2);
+                List<DailyLeaderboardEntry> day1Scores = dogService.getDogScoresByDay(1);
+                List<DailyLeaderboardEntry> day2Scores = dogService.getDogScoresByDay(2);
 
                 assertAll("getDogScoresByDay",
                                 () -> assertEquals(3, day1Scores.size()),
                                 () -> assertEquals(3, day2Scores.size()),
+                                () -> assertEquals(List.of(1, 3, 2), day1Scores.stream()
+                                                .map(score -> score.dogNumber()).toList()),
+                                () -> assertEquals(List.of(2, 1, 3), day2Scores.stream()
+                                                .map(score -> score.dogNumber()).toList()),
                                 () -> assertTrue(day1Scores.stream()
-                                                .anyMatch(score -> score.get("dogNumber").equals(1)
-                                                                && score.get("totalPoints").equals(70))),
+                                                .anyMatch(score -> score.dogNumber() == 1
+                                                                && score.totalPoints() == 70)),
                                 () -> assertTrue(day1Scores.stream()
-                                                .anyMatch(score -> score.get("dogNumber").equals(2)
-                                                                && score.get("totalPoints").equals(45))),
+                                                .anyMatch(score -> score.dogNumber() == 2
+                                                                && score.totalPoints() == 45)),
                                 () -> assertTrue(day1Scores.stream()
-                                                .anyMatch(score -> score.get("dogNumber").equals(3)
-                                                                && score.get("totalPoints").equals(65))),
+                                                .anyMatch(score -> score.dogNumber() == 3
+                                                                && score.totalPoints() == 65)),
                                 () -> assertTrue(day2Scores.stream()
-                                                .anyMatch(score -> score.get("dogNumber").equals(1)
-                                                                && score.get("totalPoints").equals(25))),
+                                                .anyMatch(score -> score.dogNumber() == 1
+                                                                && score.totalPoints() == 25)),
                                 () -> assertTrue(day2Scores.stream()
-                                                .anyMatch(score -> score.get("dogNumber").equals(2)
-                                                                && score.get("totalPoints").equals(35))),
+                                                .anyMatch(score -> score.dogNumber() == 2
+                                                                && score.totalPoints() == 35)),
                                 () -> assertTrue(day2Scores.stream()
-                                                .anyMatch(score -> score.get("dogNumber").equals(3)
-                                                                && score.get("totalPoints").equals(15))));
+                                                .anyMatch(score -> score.dogNumber() == 3
+                                                                && score.totalPoints() == 15)));
 
                 // Test getTopScoringDogsByDay
-                List<Map<String, Object>> top2DogsDay1 = dogService.getTopScoringDogsByDay(1, 2);
+                List<DailyLeaderboardEntry> top2DogsDay1 = dogService.getTopScoringDogsByDay(1, 2);
 
                 assertAll("getTopScoringDogsByDay",
                                 () -> assertEquals(2, top2DogsDay1.size()),
-                                () -> assertEquals(1, top2DogsDay1.get(0).get("dogNumber")), // Dog1 should be first
+                                () -> assertEquals(1, top2DogsDay1.get(0).dogNumber()), // Dog1 should be first
                                                                                              // with 70 points
-                                () -> assertEquals(3, top2DogsDay1.get(1).get("dogNumber")) // Dog3 should be second
+                                () -> assertEquals(3, top2DogsDay1.get(1).dogNumber()) // Dog3 should be second
                                                                                             // with 45 points
                 );
 
                 // Test getTop10ScoringDogsByDay
-                List<Map<String, Object>> top10DogsDay1 = dogService.getTop10ScoringDogsByDay(1);
+                List<DailyLeaderboardEntry> top10DogsDay1 = dogService.getTop10ScoringDogsByDay(1);
 
                 assertAll("getTop10ScoringDogsByDay",
                                 () -> assertEquals(3, top10DogsDay1.size()), // Only 3 dogs total
-                                () -> assertEquals(1, top10DogsDay1.get(0).get("dogNumber")), // Dog1 first
-                                () -> assertEquals(3, top10DogsDay1.get(1).get("dogNumber")), // Dog3 second
-                                () -> assertEquals(2, top10DogsDay1.get(2).get("dogNumber")) // Dog2 third
+                                () -> assertEquals(1, top10DogsDay1.get(0).dogNumber()), // Dog1 first
+                                () -> assertEquals(3, top10DogsDay1.get(1).dogNumber()), // Dog3 second
+                                () -> assertEquals(2, top10DogsDay1.get(2).dogNumber()) // Dog2 third
                 );
 
                 // Test getTop10ScoringDogsOverall
-                List<Map<String, Object>> top10DogsOverall = dogService.getTop10ScoringDogsOverall();
+                List<OverallLeaderboardEntry> top10DogsOverall = dogService.getTop10ScoringDogsOverall();
 
                 assertAll("getTop10ScoringDogsOverall",
                                 () -> assertEquals(3, top10DogsOverall.size()), // Only 3 dogs total
-                                () -> assertEquals(1, top10DogsOverall.get(0).get("dogNumber")), // Dog1 should be first
+                                () -> assertEquals(1, top10DogsOverall.get(0).dogNumber()), // Dog1 should be first
                                                                                                  // with 70+25=95
                                                                                                  // points
-                                () -> assertEquals(2, top10DogsOverall.get(1).get("dogNumber")), // Dog3 should be
+                                () -> assertEquals(2, top10DogsOverall.get(1).dogNumber()), // Dog3 should be
                                                                                                  // second with 45+15=60
                                                                                                  // points
-                                () -> assertEquals(3, top10DogsOverall.get(2).get("dogNumber")) // Dog2 should be third
+                                () -> assertEquals(3, top10DogsOverall.get(2).dogNumber()) // Dog2 should be third
                                                                                                 // with 30+35=65
                                                                                                 // points
                 );
 
                 // Test with a day that has no scores
-                List<Map<String, Object>> day3Scores = dogService.getDogScoresByDay(3);
+                List<DailyLeaderboardEntry> day3Scores = dogService.getDogScoresByDay(3);
 
                 assertAll("Empty day scores",
                                 () -> assertEquals(0, day3Scores.size()));
 
                 // Test with limit higher than available dogs
-                List<Map<String, Object>> allDogsWithHighLimit = dogService.getTopScoringDogsByDay(1, 10);
+                List<DailyLeaderboardEntry> allDogsWithHighLimit = dogService.getTopScoringDogsByDay(1, 10);
 
                 assertAll("High limit test",
                                 () -> assertEquals(3, allDogsWithHighLimit.size()) // Still only 3 dogs
@@ -668,18 +761,18 @@ public class DogServiceTest {
                 dogService.createDogs(List.of(dogWithNoScores));
 
                 // Test getDogScoresByDay with a dog that has no scores
-                List<Map<String, Object>> noScores = dogService.getDogScoresByDay(1);
+                List<DailyLeaderboardEntry> noScores = dogService.getDogScoresByDay(1);
 
                 assertAll("No scores test",
                                 () -> assertEquals(0, noScores.size()));
 
                 // Test getTop10ScoringDogsOverall with no scored dogs
-                List<Map<String, Object>> noTopDogs = dogService.getTop10ScoringDogsOverall();
+                List<OverallLeaderboardEntry> noTopDogs = dogService.getTop10ScoringDogsOverall();
 
                 assertAll("No top dogs test",
                                 () -> assertEquals(1, noTopDogs.size()),
-                                () -> assertEquals(10, noTopDogs.get(0).get("dogNumber")),
-                                () -> assertEquals(0, noTopDogs.get(0).get("totalPoints")));
+                                () -> assertEquals(10, noTopDogs.get(0).dogNumber()),
+                                () -> assertEquals(0, noTopDogs.get(0).totalPoints()));
 
                 // Create multiple dogs with same score to test sorting stability
                 DogEntity dog1 = new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner1", "Sire1", "Dam1");
@@ -697,12 +790,12 @@ public class DogServiceTest {
                 dogService.createScore(sameScore);
 
                 // Check that they are sorted correctly with same scores
-                List<Map<String, Object>> sameScoreDogs = dogService.getTop10ScoringDogsByDay(1);
+                List<DailyLeaderboardEntry> sameScoreDogs = dogService.getTop10ScoringDogsByDay(1);
 
                 assertAll("Same score test",
                                 () -> assertEquals(2, sameScoreDogs.size()),
-                                () -> assertEquals(50, sameScoreDogs.get(0).get("totalPoints")),
-                                () -> assertEquals(50, sameScoreDogs.get(1).get("totalPoints")));
+                                () -> assertEquals(50, sameScoreDogs.get(0).totalPoints()),
+                                () -> assertEquals(50, sameScoreDogs.get(1).totalPoints()));
         }
 
         /**
@@ -739,45 +832,45 @@ public class DogServiceTest {
                 dogService.createScore(score1Day2);
 
                 // Test getTopScoringDogsByStakeType
-                List<Map<String, Object>> topAllAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE, 2);
-                List<Map<String, Object>> topDerbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 2);
+                List<OverallLeaderboardEntry> topAllAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE, 2);
+                List<OverallLeaderboardEntry> topDerbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 2);
 
                 assertAll("getTopScoringDogsByStakeType",
                                 () -> assertEquals(2, topAllAgeDogs.size()),
                                 () -> assertEquals(2, topDerbyDogs.size()),
-                                () -> assertEquals(2, topAllAgeDogs.get(0).get("dogNumber")), // AllAgeDog2 has 65
+                                () -> assertEquals(2, topAllAgeDogs.get(0).dogNumber()), // AllAgeDog2 has 65
                                                                                               // points
-                                () -> assertEquals(1, topAllAgeDogs.get(1).get("dogNumber")), // AllAgeDog1 has 65
+                                () -> assertEquals(1, topAllAgeDogs.get(1).dogNumber()), // AllAgeDog1 has 65
                                                                                               // points
-                                () -> assertEquals(4, topDerbyDogs.get(0).get("dogNumber")), // DerbyDog1 has 65 points
-                                () -> assertEquals(3, topDerbyDogs.get(1).get("dogNumber")), // DerbyDog2 has 65 points
-                                () -> assertEquals(75, topAllAgeDogs.get(0).get("totalPoints")),
-                                () -> assertEquals(76, topDerbyDogs.get(0).get("totalPoints")));
+                                () -> assertEquals(4, topDerbyDogs.get(0).dogNumber()), // DerbyDog1 has 65 points
+                                () -> assertEquals(3, topDerbyDogs.get(1).dogNumber()), // DerbyDog2 has 65 points
+                                () -> assertEquals(75, topAllAgeDogs.get(0).totalPoints()),
+                                () -> assertEquals(76, topDerbyDogs.get(0).totalPoints()));
 
                 // Test getTop10ScoringDogsByStakeType
-                List<Map<String, Object>> top10AllAgeDogs = dogService
+                List<OverallLeaderboardEntry> top10AllAgeDogs = dogService
                                 .getTop10ScoringDogsByStakeType(StakeType.ALL_AGE);
-                List<Map<String, Object>> top10DerbyDogs = dogService.getTop10ScoringDogsByStakeType(StakeType.DERBY);
+                List<OverallLeaderboardEntry> top10DerbyDogs = dogService.getTop10ScoringDogsByStakeType(StakeType.DERBY);
 
                 assertAll("getTop10ScoringDogsByStakeType",
                                 () -> assertEquals(2, top10AllAgeDogs.size()),
                                 () -> assertEquals(2, top10DerbyDogs.size()),
-                                () -> assertTrue(top10AllAgeDogs.stream().anyMatch(d -> d.get("dogNumber").equals(1))),
-                                () -> assertTrue(top10AllAgeDogs.stream().anyMatch(d -> d.get("dogNumber").equals(2))),
-                                () -> assertTrue(top10DerbyDogs.stream().anyMatch(d -> d.get("dogNumber").equals(3))),
-                                () -> assertTrue(top10DerbyDogs.stream().anyMatch(d -> d.get("dogNumber").equals(4))));
+                                () -> assertTrue(top10AllAgeDogs.stream().anyMatch(d -> d.dogNumber() == 1)),
+                                () -> assertTrue(top10AllAgeDogs.stream().anyMatch(d -> d.dogNumber() == 2)),
+                                () -> assertTrue(top10DerbyDogs.stream().anyMatch(d -> d.dogNumber() == 3)),
+                                () -> assertTrue(top10DerbyDogs.stream().anyMatch(d -> d.dogNumber() == 4)));
 
                 // Test getTopScoringDogsByDayAndStakeType
-                List<Map<String, Object>> topAllAgeDogsDay1 = dogService.getTopScoringDogsByDayAndStakeType(1,
+                List<DailyLeaderboardEntry> topAllAgeDogsDay1 = dogService.getTopScoringDogsByDayAndStakeType(1,
                                 StakeType.ALL_AGE,
                                 2);
-                List<Map<String, Object>> topDerbyDogsDay1 = dogService.getTopScoringDogsByDayAndStakeType(1,
+                List<DailyLeaderboardEntry> topDerbyDogsDay1 = dogService.getTopScoringDogsByDayAndStakeType(1,
                                 StakeType.DERBY,
                                 2);
-                List<Map<String, Object>> topAllAgeDogsDay2 = dogService.getTopScoringDogsByDayAndStakeType(2,
+                List<DailyLeaderboardEntry> topAllAgeDogsDay2 = dogService.getTopScoringDogsByDayAndStakeType(2,
                                 StakeType.ALL_AGE,
                                 2);
-                List<Map<String, Object>> topDerbyDogsDay2 = dogService.getTopScoringDogsByDayAndStakeType(2,
+                List<DailyLeaderboardEntry> topDerbyDogsDay2 = dogService.getTopScoringDogsByDayAndStakeType(2,
                                 StakeType.DERBY,
                                 2);
 
@@ -786,37 +879,37 @@ public class DogServiceTest {
                                 () -> assertEquals(2, topDerbyDogsDay1.size()),
                                 () -> assertEquals(2, topAllAgeDogsDay2.size()),
                                 () -> assertEquals(2, topDerbyDogsDay2.size()),
-                                () -> assertEquals(1, topAllAgeDogsDay1.get(0).get("dogNumber")), // Dog1 has 40 points
+                                () -> assertEquals(1, topAllAgeDogsDay1.get(0).dogNumber()), // Dog1 has 40 points
                                                                                                   // on day 1
-                                () -> assertEquals(2, topAllAgeDogsDay1.get(1).get("dogNumber")), // Dog2 has 30 points
+                                () -> assertEquals(2, topAllAgeDogsDay1.get(1).dogNumber()), // Dog2 has 30 points
                                                                                                   // on day 1
-                                () -> assertEquals(3, topDerbyDogsDay1.get(0).get("dogNumber")), // Dog3 has 50 points
+                                () -> assertEquals(3, topDerbyDogsDay1.get(0).dogNumber()), // Dog3 has 50 points
                                                                                                  // on day 1
-                                () -> assertEquals(4, topDerbyDogsDay1.get(1).get("dogNumber")), // Dog4 has 20 points
+                                () -> assertEquals(4, topDerbyDogsDay1.get(1).dogNumber()), // Dog4 has 20 points
                                                                                                  // on day 1
-                                () -> assertEquals(2, topAllAgeDogsDay2.get(0).get("dogNumber")), // Dog2 has 35 points
+                                () -> assertEquals(2, topAllAgeDogsDay2.get(0).dogNumber()), // Dog2 has 35 points
                                                                                                   // on day 2
-                                () -> assertEquals(1, topAllAgeDogsDay2.get(1).get("dogNumber")), // Dog1 has 25 points
+                                () -> assertEquals(1, topAllAgeDogsDay2.get(1).dogNumber()), // Dog1 has 25 points
                                                                                                   // on day 2
-                                () -> assertEquals(4, topDerbyDogsDay2.get(0).get("dogNumber")), // Dog4 has 45 points
+                                () -> assertEquals(4, topDerbyDogsDay2.get(0).dogNumber()), // Dog4 has 45 points
                                                                                                  // on day 2
-                                () -> assertEquals(3, topDerbyDogsDay2.get(1).get("dogNumber")) // Dog3 has 15 points on
+                                () -> assertEquals(3, topDerbyDogsDay2.get(1).dogNumber()) // Dog3 has 15 points on
                                                                                                 // day 2
                 );
 
                 // Test getTop10ScoringDogsByDayAndStakeType
-                List<Map<String, Object>> top10AllAgeDogsDay1 = dogService.getTop10ScoringDogsByDayAndStakeType(1,
+                List<DailyLeaderboardEntry> top10AllAgeDogsDay1 = dogService.getTop10ScoringDogsByDayAndStakeType(1,
                                 StakeType.ALL_AGE);
-                List<Map<String, Object>> top10DerbyDogsDay1 = dogService.getTop10ScoringDogsByDayAndStakeType(1,
+                List<DailyLeaderboardEntry> top10DerbyDogsDay1 = dogService.getTop10ScoringDogsByDayAndStakeType(1,
                                 StakeType.DERBY);
 
                 assertAll("getTop10ScoringDogsByDayAndStakeType",
                                 () -> assertEquals(2, top10AllAgeDogsDay1.size()),
                                 () -> assertEquals(2, top10DerbyDogsDay1.size()),
-                                () -> assertEquals(1, top10AllAgeDogsDay1.get(0).get("dogNumber")),
-                                () -> assertEquals(2, top10AllAgeDogsDay1.get(1).get("dogNumber")),
-                                () -> assertEquals(3, top10DerbyDogsDay1.get(0).get("dogNumber")),
-                                () -> assertEquals(4, top10DerbyDogsDay1.get(1).get("dogNumber")));
+                                () -> assertEquals(1, top10AllAgeDogsDay1.get(0).dogNumber()),
+                                () -> assertEquals(2, top10AllAgeDogsDay1.get(1).dogNumber()),
+                                () -> assertEquals(3, top10DerbyDogsDay1.get(0).dogNumber()),
+                                () -> assertEquals(4, top10DerbyDogsDay1.get(1).dogNumber()));
         }
 
         /**
@@ -827,9 +920,9 @@ public class DogServiceTest {
         void testDogScoresByStakeTypeEdgeCases() {
                 // Test with empty database
                 huntRepository.save(new HuntEntity("Title", null, StakeType.ALL_AGE, 10));
-                List<Map<String, Object>> emptyAllAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE,
+                List<OverallLeaderboardEntry> emptyAllAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE,
                                 5);
-                List<Map<String, Object>> emptyDerbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 5);
+                List<OverallLeaderboardEntry> emptyDerbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 5);
 
                 assertAll("Empty database tests",
                                 () -> assertTrue(emptyAllAgeDogs.isEmpty()),
@@ -841,21 +934,21 @@ public class DogServiceTest {
                 dogService.createDogs(List.of(allAgeDog, derbyDog));
 
                 // Test with dogs that have no scores
-                List<Map<String, Object>> noScoreAllAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE,
+                List<OverallLeaderboardEntry> noScoreAllAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE,
                                 5);
-                List<Map<String, Object>> noScoreDerbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY,
+                List<OverallLeaderboardEntry> noScoreDerbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY,
                                 5);
 
                 assertAll("Dogs with no scores tests",
                                 () -> assertEquals(1, noScoreAllAgeDogs.size()),
                                 () -> assertEquals(1, noScoreDerbyDogs.size()),
-                                () -> assertEquals(1, noScoreAllAgeDogs.get(0).get("dogNumber")),
-                                () -> assertEquals(2, noScoreDerbyDogs.get(0).get("dogNumber")),
-                                () -> assertEquals(0, noScoreAllAgeDogs.get(0).get("totalPoints")),
-                                () -> assertEquals(0, noScoreDerbyDogs.get(0).get("totalPoints")));
+                                () -> assertEquals(1, noScoreAllAgeDogs.get(0).dogNumber()),
+                                () -> assertEquals(2, noScoreDerbyDogs.get(0).dogNumber()),
+                                () -> assertEquals(0, noScoreAllAgeDogs.get(0).totalPoints()),
+                                () -> assertEquals(0, noScoreDerbyDogs.get(0).totalPoints()));
 
                 // Test with non-existent day and stake type combination
-                List<Map<String, Object>> nonExistentDay = dogService.getTopScoringDogsByDayAndStakeType(99,
+                List<DailyLeaderboardEntry> nonExistentDay = dogService.getTopScoringDogsByDayAndStakeType(99,
                                 StakeType.ALL_AGE,
                                 5);
 
@@ -863,7 +956,7 @@ public class DogServiceTest {
                                 () -> assertTrue(nonExistentDay.isEmpty()));
 
                 // Test with limit = 0
-                List<Map<String, Object>> zeroLimit = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE, 0);
+                List<OverallLeaderboardEntry> zeroLimit = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE, 0);
 
                 assertAll("Zero limit test",
                                 () -> assertTrue(zeroLimit.isEmpty()));
@@ -1039,67 +1132,99 @@ public class DogServiceTest {
                 dogService.createScore(day2Score);
 
                 // Test tie-breaking for getTopScoringDogsByDay
-                List<Map<String, Object>> topDogsDay1 = dogService.getTopScoringDogsByDay(1, 4);
+                List<DailyLeaderboardEntry> topDogsDay1 = dogService.getTopScoringDogsByDay(1, 4);
 
                 assertAll("Tie-breaking in getTopScoringDogsByDay",
                                 () -> assertEquals(4, topDogsDay1.size()),
-                                () -> assertEquals(40, topDogsDay1.get(0).get("totalPoints")),
-                                () -> assertEquals(40, topDogsDay1.get(1).get("totalPoints")),
-                                () -> assertEquals(40, topDogsDay1.get(2).get("totalPoints")),
-                                () -> assertEquals(40, topDogsDay1.get(3).get("totalPoints")),
+                                () -> assertEquals(40, topDogsDay1.get(0).totalPoints()),
+                                () -> assertEquals(40, topDogsDay1.get(1).totalPoints()),
+                                () -> assertEquals(40, topDogsDay1.get(2).totalPoints()),
+                                () -> assertEquals(40, topDogsDay1.get(3).totalPoints()),
                                 // Dogs with later score times should come first
-                                () -> assertEquals(2, topDogsDay1.get(0).get("dogNumber")), // Later score time
-                                () -> assertEquals(4, topDogsDay1.get(1).get("dogNumber")), // Later score time
-                                () -> assertEquals(1, topDogsDay1.get(2).get("dogNumber")), // Earlier score time
-                                () -> assertEquals(3, topDogsDay1.get(3).get("dogNumber")) // Earlier score time
+                                () -> assertEquals(2, topDogsDay1.get(0).dogNumber()), // Later score time
+                                () -> assertEquals(4, topDogsDay1.get(1).dogNumber()), // Later score time
+                                () -> assertEquals(1, topDogsDay1.get(2).dogNumber()), // Earlier score time
+                                () -> assertEquals(3, topDogsDay1.get(3).dogNumber()) // Earlier score time
                 );
 
                 // Test tie-breaking for getTopScoringDogsOverall
-                List<Map<String, Object>> topDogsOverall = dogService.getTopScoringDogsOverall(4);
+                List<OverallLeaderboardEntry> topDogsOverall = dogService.getTopScoringDogsOverall(4);
 
                 assertAll("Tie-breaking in getTopScoringDogsOverall",
                                 () -> assertEquals(4, topDogsOverall.size()),
                                 // Dogs with scores on day 2 should be ranked higher in case of tie
-                                () -> assertEquals(2, topDogsOverall.get(0).get("dogNumber")), // Has score on day 2
-                                () -> assertEquals(3, topDogsOverall.get(1).get("dogNumber")), // Has score on day 2
+                                () -> assertEquals(2, topDogsOverall.get(0).dogNumber()), // Has score on day 2
+                                () -> assertEquals(3, topDogsOverall.get(1).dogNumber()), // Has score on day 2
                                 // Then the later time on day 1 should break the tie
-                                () -> assertEquals(4, topDogsOverall.get(2).get("dogNumber")), // Later score time on
+                                () -> assertEquals(4, topDogsOverall.get(2).dogNumber()), // Later score time on
                                                                                                // day 1
-                                () -> assertEquals(1, topDogsOverall.get(3).get("dogNumber")) // Earlier score time on
+                                () -> assertEquals(1, topDogsOverall.get(3).dogNumber()) // Earlier score time on
                                                                                               // day 1
                 );
 
                 // Test tie-breaking for getTopScoringDogsByStakeType
-                List<Map<String, Object>> topAllAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE, 2);
-                List<Map<String, Object>> topDerbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 2);
+                List<OverallLeaderboardEntry> topAllAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE, 2);
+                List<OverallLeaderboardEntry> topDerbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 2);
 
                 assertAll("Tie-breaking in getTopScoringDogsByStakeType",
                                 () -> assertEquals(2, topAllAgeDogs.size()),
                                 () -> assertEquals(2, topDerbyDogs.size()),
                                 // Dog2 has score on day 2 (later than Dog1)
-                                () -> assertEquals(2, topAllAgeDogs.get(0).get("dogNumber")),
-                                () -> assertEquals(1, topAllAgeDogs.get(1).get("dogNumber")),
+                                () -> assertEquals(2, topAllAgeDogs.get(0).dogNumber()),
+                                () -> assertEquals(1, topAllAgeDogs.get(1).dogNumber()),
                                 // Dog3 has score on day 2 (later than Dog4)
-                                () -> assertEquals(3, topDerbyDogs.get(0).get("dogNumber")),
-                                () -> assertEquals(4, topDerbyDogs.get(1).get("dogNumber")));
+                                () -> assertEquals(3, topDerbyDogs.get(0).dogNumber()),
+                                () -> assertEquals(4, topDerbyDogs.get(1).dogNumber()));
 
                 // Test tie-breaking for getTopScoringDogsByDayAndStakeType
-                List<Map<String, Object>> topAllAgeDogsDay1 = dogService.getTopScoringDogsByDayAndStakeType(1,
+                List<DailyLeaderboardEntry> topAllAgeDogsDay1 = dogService.getTopScoringDogsByDayAndStakeType(1,
                                 StakeType.ALL_AGE, 2);
-                List<Map<String, Object>> topDerbyDogsDay1 = dogService.getTopScoringDogsByDayAndStakeType(1,
+                List<DailyLeaderboardEntry> topDerbyDogsDay1 = dogService.getTopScoringDogsByDayAndStakeType(1,
                                 StakeType.DERBY, 2);
 
                 assertAll("Tie-breaking in getTopScoringDogsByDayAndStakeType",
                                 () -> assertEquals(2, topAllAgeDogsDay1.size()),
                                 () -> assertEquals(2, topDerbyDogsDay1.size()),
                                 // Within a single day, later score time should win
-                                () -> assertEquals(2, topAllAgeDogsDay1.get(0).get("dogNumber")), // Later score
-                                () -> assertEquals(1, topAllAgeDogsDay1.get(1).get("dogNumber")), // Earlier score
-                                () -> assertEquals(4, topDerbyDogsDay1.get(0).get("dogNumber")), // Later score
-                                () -> assertEquals(3, topDerbyDogsDay1.get(1).get("dogNumber")) // Earlier score
+                                () -> assertEquals(2, topAllAgeDogsDay1.get(0).dogNumber()), // Later score
+                                () -> assertEquals(1, topAllAgeDogsDay1.get(1).dogNumber()), // Earlier score
+                                () -> assertEquals(4, topDerbyDogsDay1.get(0).dogNumber()), // Later score
+                                () -> assertEquals(3, topDerbyDogsDay1.get(1).dogNumber()) // Earlier score
                 );
         }
 
+        /**
+         * Test that a bounded top-K selection matches the head of the full ranking
+         */
+        @Test
+        @Transactional
+        void testTopKMatchesFullRanking() {
+                huntRepository.save(new HuntEntity("Title", null, StakeType.ALL_AGE, 10));
+                List<DogEntity> dogs = new java.util.ArrayList<>();
+                for (int i = 1; i <= 30; i++)
+                        dogs.add(new DogEntity(i, "Dog" + i, i % 2 == 0 ? StakeType.DERBY : StakeType.ALL_AGE,
+                                        "Owner", "Sire", "Dam"));
+                dogService.createDogs(dogs);
+
+                // Several ties on points, split across time buckets and cross times
+                for (int i = 1; i <= 30; i++) {
+                        String time = LocalTime.of(6, 0).plusMinutes(i % 7 * 4).toString() + ":00";
+                        dogService.createScore(new ScoreDto(1, "06:00:00", 1, time, new int[] { i },
+                                        new int[] { 10 + (i % 3) * 10 }, 10));
+                }
+
+                List<DailyLeaderboardEntry> fullDay = dogService.getTopScoringDogsByDay(1, 100);
+                List<OverallLeaderboardEntry> fullOverall = dogService.getTopScoringDogsOverall(100);
+                List<OverallLeaderboardEntry> fullDerby = dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 100);
+                assertAll("Top-K is the head of the full ranking",
+                                () -> assertEquals(30, fullDay.size()),
+                                () -> assertEquals(fullDay.subList(0, 10), dogService.getTop10ScoringDogsByDay(1)),
+                                () -> assertEquals(fullOverall.subList(0, 10), dogService.getTop10ScoringDogsOverall()),
+                                () -> assertEquals(fullDerby.subList(0, 3),
+                                                dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 3)),
+                                () -> assertTrue(dogService.getTopScoringDogsOverall(0).isEmpty()));
+        }
+
         /**
          * Comprehensive test for tie-breaking logic across all ranking methods
          */
@@ -1198,117 +1323,117 @@ public class DogServiceTest {
                 dogService.createScore(score6Day1Additional);
 
                 // TEST 1: getTopScoringDogsOverall
-                List<Map<String, Object>> allDogs = dogService.getTopScoringDogsOverall(8);
+                List<OverallLeaderboardEntry> allDogs = dogService.getTopScoringDogsOverall(8);
 
                 assertAll("Overall ranking tie-breaking tests",
                                 // First, check the expected order of dogs
                                 () -> assertEquals(8, allDogs.size()),
 
                                 // Scenario 1: Dog2 should win tie with Dog1 due to later day
-                                () -> assertEquals(2, allDogs.get(0).get("dogNumber")), // Dog2 has score on day 2
-                                () -> assertEquals(1, allDogs.get(1).get("dogNumber")), // Dog1 only has score on day 1
+                                () -> assertEquals(2, allDogs.get(0).dogNumber()), // Dog2 has score on day 2
+                                () -> assertEquals(1, allDogs.get(1).dogNumber()), // Dog1 only has score on day 1
 
                                 // Scenario 2: Dog3 should win tie with Dog4 due to later time bucket
-                                () -> assertEquals(3, allDogs.get(2).get("dogNumber")), // Dog3 has score in later
+                                () -> assertEquals(3, allDogs.get(2).dogNumber()), // Dog3 has score in later
                                 // bucket
-                                () -> assertEquals(4, allDogs.get(3).get("dogNumber")), // Dog4 has score in earlier
+                                () -> assertEquals(4, allDogs.get(3).dogNumber()), // Dog4 has score in earlier
                                 // bucket
 
                                 // Scenario 3: Dog6 should win tie with Dog5 due to later bucket score
-                                () -> assertEquals(6, allDogs.get(4).get("dogNumber")),
-                                () -> assertEquals(5, allDogs.get(5).get("dogNumber")),
+                                () -> assertEquals(6, allDogs.get(4).dogNumber()),
+                                () -> assertEquals(5, allDogs.get(5).dogNumber()),
 
                                 // Scenario 4: Dog7 and Dog8 should be sorted by dog number (ascending)
-                                () -> assertEquals(7, allDogs.get(6).get("dogNumber")), // Lower dog number
-                                () -> assertEquals(8, allDogs.get(7).get("dogNumber")), // Higher dog number
+                                () -> assertEquals(7, allDogs.get(6).dogNumber()), // Lower dog number
+                                () -> assertEquals(8, allDogs.get(7).dogNumber()), // Higher dog number
 
                                 // Verify tie scores are actually equal
-                                () -> assertEquals(allDogs.get(0).get("totalPoints"),
-                                                allDogs.get(1).get("totalPoints")), // Dog1 and Dog2
-                                () -> assertEquals(allDogs.get(2).get("totalPoints"),
-                                                allDogs.get(3).get("totalPoints")), // Dog3 and Dog4
-                                () -> assertEquals(allDogs.get(4).get("totalPoints"),
-                                                allDogs.get(5).get("totalPoints")), // Dog5 and Dog6
-                                () -> assertEquals(allDogs.get(6).get("totalPoints"), allDogs.get(7).get("totalPoints")) // Dog7
+                                () -> assertEquals(allDogs.get(0).totalPoints(),
+                                                allDogs.get(1).totalPoints()), // Dog1 and Dog2
+                                () -> assertEquals(allDogs.get(2).totalPoints(),
+                                                allDogs.get(3).totalPoints()), // Dog3 and Dog4
+                                () -> assertEquals(allDogs.get(4).totalPoints(),
+                                                allDogs.get(5).totalPoints()), // Dog5 and Dog6
+                                () -> assertEquals(allDogs.get(6).totalPoints(), allDogs.get(7).totalPoints()) // Dog7
                                                                                                                          // and
                                                                                                                          // Dog8
                 );
 
                 // TEST 2: getTopScoringDogsByDay (Day 1)
-                List<Map<String, Object>> day1Dogs = dogService.getTopScoringDogsByDay(1, 8);
+                List<DailyLeaderboardEntry> day1Dogs = dogService.getTopScoringDogsByDay(1, 8);
 
                 assertAll("Day 1 ranking tie-breaking tests",
                                 () -> assertEquals(6, day1Dogs.size()), // Only 6 dogs have scores on day 1
 
                                 // Check expected order for dogs with same points on day 1
                                 // All dogs with day 1 scores should be in descending order by points
-                                () -> assertEquals(1, day1Dogs.get(0).get("dogNumber")), // Dog1 has 50 points on day 1
+                                () -> assertEquals(1, day1Dogs.get(0).dogNumber()), // Dog1 has 50 points on day 1
 
                                 // Scenario 2: Dog3 and Dog4 both have 40 points
-                                () -> assertEquals(3, day1Dogs.get(1).get("dogNumber")), // Dog3 has score in later
+                                () -> assertEquals(3, day1Dogs.get(1).dogNumber()), // Dog3 has score in later
                                 // bucket
-                                () -> assertEquals(4, day1Dogs.get(2).get("dogNumber")), // Dog4 has score in earlier
+                                () -> assertEquals(4, day1Dogs.get(2).dogNumber()), // Dog4 has score in earlier
                                 // bucket
 
                                 // Scenario 3: Dog5 and Dog6 both have 30 points
-                                () -> assertEquals(6, day1Dogs.get(3).get("dogNumber")), // Dog5 has higher individual
+                                () -> assertEquals(6, day1Dogs.get(3).dogNumber()), // Dog5 has higher individual
                                 // score
-                                () -> assertEquals(5, day1Dogs.get(4).get("dogNumber")), // Dog6 has lower individual
+                                () -> assertEquals(5, day1Dogs.get(4).dogNumber()), // Dog6 has lower individual
                                 // score
 
                                 // Dog2 has lowest points on day 1
-                                () -> assertEquals(2, day1Dogs.get(5).get("dogNumber")) // Dog2 has 25 points on day 1
+                                () -> assertEquals(2, day1Dogs.get(5).dogNumber()) // Dog2 has 25 points on day 1
                 );
 
                 // TEST 3: getTopScoringDogsByStakeType (ALL_AGE)
-                List<Map<String, Object>> allAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE, 4);
+                List<OverallLeaderboardEntry> allAgeDogs = dogService.getTopScoringDogsByStakeType(StakeType.ALL_AGE, 4);
 
                 assertAll("ALL_AGE ranking tie-breaking tests",
                                 () -> assertEquals(4, allAgeDogs.size()),
 
                                 // Scenario 1: Dog2 should win tie with Dog1 due to later day
-                                () -> assertEquals(2, allAgeDogs.get(0).get("dogNumber")), // Dog2 has score on day 2
-                                () -> assertEquals(1, allAgeDogs.get(1).get("dogNumber")), // Dog1 only has score on day
+                                () -> assertEquals(2, allAgeDogs.get(0).dogNumber()), // Dog2 has score on day 2
+                                () -> assertEquals(1, allAgeDogs.get(1).dogNumber()), // Dog1 only has score on day
                                 // 1
 
                                 // Scenario 2: Dog3 should win tie with Dog4 due to later time bucket
-                                () -> assertEquals(3, allAgeDogs.get(2).get("dogNumber")), // Dog3 has score in later
+                                () -> assertEquals(3, allAgeDogs.get(2).dogNumber()), // Dog3 has score in later
                                 // bucket
-                                () -> assertEquals(4, allAgeDogs.get(3).get("dogNumber")) // Dog4 has score in earlier
+                                () -> assertEquals(4, allAgeDogs.get(3).dogNumber()) // Dog4 has score in earlier
                                                                                           // bucket
                 );
 
                 // TEST 4: getTopScoringDogsByStakeType (DERBY)
-                List<Map<String, Object>> derbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 4);
+                List<OverallLeaderboardEntry> derbyDogs = dogService.getTopScoringDogsByStakeType(StakeType.DERBY, 4);
 
                 assertAll("DERBY ranking tie-breaking tests",
                                 () -> assertEquals(4, derbyDogs.size()),
 
                                 // Scenario 3: Dog5 should win tie with Dog6 due to higher individual score
-                                () -> assertEquals(6, derbyDogs.get(0).get("dogNumber")), // Dog5 has higher individual
+                                () -> assertEquals(6, derbyDogs.get(0).dogNumber()), // Dog5 has higher individual
                                 // score
-                                () -> assertEquals(5, derbyDogs.get(1).get("dogNumber")), // Dog6 has lower individual
+                                () -> assertEquals(5, derbyDogs.get(1).dogNumber()), // Dog6 has lower individual
                                 // score
 
                                 // Scenario 4: Dog7 and Dog8 should be sorted by dog number (ascending)
-                                () -> assertEquals(7, derbyDogs.get(2).get("dogNumber")), // Lower dog number
-                                () -> assertEquals(8, derbyDogs.get(3).get("dogNumber")) // Higher dog number
+                                () -> assertEquals(7, derbyDogs.get(2).dogNumber()), // Lower dog number
+                                () -> assertEquals(8, derbyDogs.get(3).dogNumber()) // Higher dog number
                 );
 
                 // TEST 5: getTopScoringDogsByDayAndStakeType (Day 1, ALL_AGE)
-                List<Map<String, Object>> day1AllAgeDogs = dogService.getTopScoringDogsByDayAndStakeType(1,
+                List<DailyLeaderboardEntry> day1AllAgeDogs = dogService.getTopScoringDogsByDayAndStakeType(1,
                                 StakeType.ALL_AGE, 4);
 
                 assertAll("Day 1 ALL_AGE ranking tie-breaking tests",
                                 () -> assertEquals(4, day1AllAgeDogs.size()),
 
                                 // Check expected order for ALL_AGE dogs on day 1
-                                () -> assertEquals(1, day1AllAgeDogs.get(0).get("dogNumber")), // Dog1 has 50 points
-                                () -> assertEquals(3, day1AllAgeDogs.get(1).get("dogNumber")), // Dog3 has 40 points,
+                                () -> assertEquals(1, day1AllAgeDogs.get(0).dogNumber()), // Dog1 has 50 points
+                                () -> assertEquals(3, day1AllAgeDogs.get(1).dogNumber()), // Dog3 has 40 points,
                                 // later bucket
-                                () -> assertEquals(4, day1AllAgeDogs.get(2).get("dogNumber")), // Dog4 has 40 points,
+                                () -> assertEquals(4, day1AllAgeDogs.get(2).dogNumber()), // Dog4 has 40 points,
                                 // earlier bucket
-                                () -> assertEquals(2, day1AllAgeDogs.get(3).get("dogNumber")) // Dog2 has 25 points
+                                () -> assertEquals(2, day1AllAgeDogs.get(3).dogNumber()) // Dog2 has 25 points
                 );
 
                 // Add an additional test with multiple scores on the same day
@@ -1341,15 +1466,15 @@ public class DogServiceTest {
                 dogService.createScore(score2Day3);
 
                 // Test getTopScoringDogsByDay for day 3
-                List<Map<String, Object>> day3Dogs = dogService.getTopScoringDogsByDay(3, 8);
+                List<DailyLeaderboardEntry> day3Dogs = dogService.getTopScoringDogsByDay(3, 8);
 
                 assertAll("Day 3 ranking with multiple scores",
                                 () -> assertEquals(2, day3Dogs.size()), // Only 2 dogs have scores on day 3
 
                                 // On day 3, Dog1 has higher total (50) than Dog2 (also 50) but Dog1 has a score
                                 // in a later bucket
-                                () -> assertEquals(1, day3Dogs.get(0).get("dogNumber")), // Dog1 has score in bucket 4
-                                () -> assertEquals(2, day3Dogs.get(1).get("dogNumber")) // Dog2 has score in bucket 1
+                                () -> assertEquals(1, day3Dogs.get(0).dogNumber()), // Dog1 has score in bucket 4
+                                () -> assertEquals(2, day3Dogs.get(1).dogNumber()) // Dog2 has score in bucket 1
                 );
         }
 
@@ -0,0 +1,92 @@
+package com.trackhounds.trackhounds.Service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.trackhounds.trackhounds.Dto.HuntConfig;
+import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.HuntRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Test class for HuntConfigService.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class HuntConfigServiceTest {
+    /**
+     * The hunt configuration service.
+     */
+    @Autowired
+    private HuntConfigService huntConfigService;
+    /**
+     * The service for the hunts.
+     */
+    @Autowired
+    private HuntService huntService;
+    /**
+     * The repository for the hunts.
+     */
+    @Autowired
+    private HuntRepository huntRepository;
+
+    /**
+     * Set up the test.
+     */
+    @BeforeEach
+    public void setUp() {
+        huntRepository.deleteAll();
+    }
+
+    /**
+     * Test that create and edit replace the snapshot with a newer version.
+     */
+    @Test
+    @Transactional
+    void testCreateAndEditUpdateSnapshot() {
+        assertTrue(huntConfigService.get().isEmpty());
+        huntService.createHunt(new HuntEntity("Test Hunt", "Dates", StakeType.ALL_AGE, 10));
+        HuntConfig created = huntConfigService.get().orElseThrow();
+        assertAll("Created", () -> {
+            assertEquals("Test Hunt", created.getTitle());
+            assertEquals(10, created.getHuntInterval());
+            assertSame(created, huntConfigService.get().orElseThrow());
+        });
+
+        HuntEntity edit = new HuntEntity("New Title", "Dates", StakeType.ALL_AGE, 15);
+        huntService.editHunt(edit);
+        HuntConfig edited = huntConfigService.get().orElseThrow();
+        assertAll("Edited", () -> {
+            assertEquals("New Title", edited.getTitle());
+            assertEquals(15, edited.getHuntInterval());
+            assertTrue(edited.getVersion() > created.getVersion());
+        });
+    }
+
+    /**
+     * Test that hunts written directly through the repository are picked up.
+     */
+    @Test
+    @Transactional
+    void testRepositoryWritesInvalidate() {
+        huntService.createHunt(new HuntEntity("Test Hunt", "Dates", StakeType.ALL_AGE, 10));
+        HuntEntity hunt = huntRepository.findAll().get(0);
+        hunt.setHuntInterval(20);
+        huntRepository.saveAndFlush(hunt);
+        assertEquals(20, huntConfigService.get().orElseThrow().getHuntInterval());
+
+        huntRepository.deleteAll();
+        huntRepository.flush();
+        assertTrue(huntConfigService.get().isEmpty());
+    }
+}
@@ -0,0 +1,174 @@
+package com.trackhounds.trackhounds.Service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.trackhounds.trackhounds.Dto.RebucketProgress;
+import com.trackhounds.trackhounds.Dto.RebucketProgress.Phase;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Entity.Score;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Exception.TrackHoundsAPIException;
+import com.trackhounds.trackhounds.Repository.HuntRepository;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+import com.trackhounds.trackhounds.Repository.ScoreRepository;
+
+/**
+ * Bucketing the scores again after the hunt interval is edited
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class RebucketServiceTest {
+
+        /**
+         * Rebucket Service
+         */
+        @Autowired
+        private RebucketService rebucketService;
+
+        /**
+         * Hunt Service
+         */
+        @Autowired
+        private HuntService huntService;
+
+        /**
+         * Hunt Config Service
+         */
+        @Autowired
+        private HuntConfigService huntConfigService;
+
+        /**
+         * Dog Service
+         */
+        @Autowired
+        private DogService dogService;
+
+        /**
+         * Standings Service
+         */
+        @Autowired
+        private StandingsService standingsService;
+
+        /**
+         * Hunt Repository
+         */
+        @Autowired
+        private HuntRepository huntRepository;
+
+        /**
+         * Judge Repository
+         */
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        /**
+         * Score Repository
+         */
+        @Autowired
+        private ScoreRepository scoreRepository;
+
+        /**
+         * Create a 10 minute interval hunt with two dogs and a judge
+         */
+        @BeforeEach
+        void setUp() {
+                huntService.createHunt(new HuntEntity("Test Hunt", "2025-10-12 to 2025-10-13", StakeType.ALL_AGE, 10));
+                dogService.clear();
+                judgeRepository.deleteAll();
+                judgeRepository.save(new JudgeEntity(1, "PIN", "Judge"));
+                dogService.createDogs(List.of(new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner", "Sire", "Dam"),
+                                new DogEntity(2, "Dog2", StakeType.DERBY, "Owner", "Sire", "Dam")));
+        }
+
+        /**
+         * Leave an empty database for the other tests
+         */
+        @AfterEach
+        void tearDown() {
+                dogService.clear();
+                judgeRepository.deleteAll();
+                huntRepository.deleteAll();
+                huntConfigService.invalidate();
+        }
+
+        /**
+         * Crosses in three 10 minute buckets fall in one 30 minute bucket once
+         * the interval is edited and the scores are bucketed again
+         */
+        @Test
+        void testRebucket() {
+                dogService.createScore(cross("06:05:00", new int[] { 1, 2 }, new int[] { 50, 20 }));
+                dogService.createScore(cross("06:15:00", new int[] { 1 }, new int[] { 40 }));
+                dogService.createScore(cross("06:25:00", new int[] { 1 }, new int[] { 30 }));
+                dogService.createScore(cross("06:35:00", new int[] { 2 }, new int[] { 20 }));
+                assertEquals(132, dogService.getDogByNumber(1).getPoints());
+
+                huntService.editHunt(new HuntEntity("Test Hunt", "2025-10-12 to 2025-10-13", StakeType.ALL_AGE, 30));
+                assertEquals(132, dogService.getDogByNumber(1).getPoints());
+
+                RebucketProgress progress = rebucketService.rebucket();
+                assertAll("Rebucketed",
+                                () -> assertEquals(Phase.DONE, progress.getPhase()),
+                                () -> assertEquals(30, progress.getInterval()),
+                                () -> assertEquals(2, progress.getDogs()),
+                                () -> assertEquals(2, progress.getReplayed()),
+                                () -> assertEquals(2, progress.getWritten()),
+                                () -> assertEquals(55, dogService.getDogByNumber(1).getPoints()),
+                                () -> assertEquals(44, dogService.getDogByNumber(2).getPoints()),
+                                () -> assertEquals(55, standingsService.getStandings().get(0).getPoints()),
+                                () -> assertEquals(1, standingsService.getStandings().get(0).getDays().get(0)
+                                                .getBuckets().size()),
+                                () -> assertEquals(3, scoreRepository.findAll().stream()
+                                                .filter(Score::isCounted).count()),
+                                () -> assertEquals(List.of(), dogService.verifyScores()));
+
+                // Crosses after the job use the new interval, a rebuild keeps the result
+                dogService.createScore(cross("06:45:00", new int[] { 1 }, new int[] { 60 }));
+                dogService.rebuildScores();
+                assertAll("Rebuilt",
+                                () -> assertEquals(121, dogService.getDogByNumber(1).getPoints()),
+                                () -> assertEquals(44, dogService.getDogByNumber(2).getPoints()),
+                                () -> assertEquals(List.of(), dogService.verifyScores()));
+        }
+
+        /**
+         * Nothing to rebucket without a hunt
+         */
+        @Test
+        void testRebucketWithoutHunt() {
+                huntRepository.deleteAll();
+                huntConfigService.invalidate();
+                TrackHoundsAPIException e = assertThrows(TrackHoundsAPIException.class,
+                                () -> rebucketService.rebucket());
+                assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+        }
+
+        /**
+         * Cross by judge 1 on day 1 started at 06:00 under a 30 minute interval
+         * once edited, 10 before
+         *
+         * @param time   Cross time
+         * @param dogs   Dog numbers
+         * @param points Points of each dog
+         * @return Cross
+         */
+        private ScoreDto cross(String time, int[] dogs, int[] points) {
+                return new ScoreDto(1, "06:00:00", 1, time, dogs, points,
+                                huntRepository.findAll().get(0).getHuntInterval());
+        }
+}
@@ -0,0 +1,234 @@
+package com.trackhounds.trackhounds.Service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.JournalCheckpoint;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.JournalCheckpointRepository;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+import com.trackhounds.trackhounds.Repository.ScoreRepository;
+
+/**
+ * Write-behind scoring through the score journal
+ */
+@SpringBootTest(properties = { "trackhounds.journal.enabled=true",
+                "trackhounds.journal.path=target/journal-test/score-journal.log" })
+@ActiveProfiles("test")
+public class ScoreJournalTest {
+
+        /**
+         * Journal file of the test context
+         */
+        private static final Path JOURNAL = Path.of("target/journal-test/score-journal.log");
+
+        /**
+         * Dog Service
+         */
+        @Autowired
+        private DogService dogService;
+
+        /**
+         * Standings Service
+         */
+        @Autowired
+        private StandingsService standingsService;
+
+        /**
+         * Score Journal
+         */
+        @Autowired
+        private ScoreJournal scoreJournal;
+
+        /**
+         * Score Journal Writer
+         */
+        @Autowired
+        private ScoreJournalWriter scoreJournalWriter;
+
+        /**
+         * Judge Repository
+         */
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        /**
+         * Score Repository
+         */
+        @Autowired
+        private ScoreRepository scoreRepository;
+
+        /**
+         * Journal Checkpoint Repository
+         */
+        @Autowired
+        private JournalCheckpointRepository checkpointRepository;
+
+        /**
+         * Start from an empty database and journal with two dogs and a judge
+         *
+         * @throws Exception
+         */
+        @BeforeEach
+        void setUp() throws Exception {
+                reset();
+                dogService.createDogs(List.of(new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner", "Sire", "Dam"),
+                                new DogEntity(2, "Dog2", StakeType.DERBY, "Owner", "Sire", "Dam")));
+                judgeRepository.save(new JudgeEntity(1, "PIN", "Judge"));
+        }
+
+        /**
+         * Leave an empty database and journal for the other tests
+         *
+         * @throws Exception
+         */
+        @AfterEach
+        void tearDown() throws Exception {
+                reset();
+        }
+
+        /**
+         * A cross counts in the standings as soon as it is accepted and reaches
+         * the database once the writer runs
+         *
+         * @throws Exception
+         */
+        @Test
+        void testWriteBehind() throws Exception {
+                scoreJournalWriter.stop();
+                dogService.createScore(cross("06:05:00", 50, 25));
+                assertAll("Accepted",
+                                () -> assertEquals(0, scoreRepository.count()),
+                                () -> assertEquals(55, points(1)),
+                                () -> assertEquals(27, points(2)),
+                                () -> assertEquals(1, Files.readAllLines(JOURNAL).size()));
+
+                scoreJournalWriter.start();
+                awaitSaved(2);
+                assertAll("Saved",
+                                () -> assertEquals(55, dogService.getDogByNumber(1).getPoints()),
+                                () -> assertEquals(55, points(1)),
+                                () -> assertEquals(27, points(2)),
+                                () -> assertEquals(0, standingsService.getPendingCount()),
+                                () -> assertEquals(0, Files.size(JOURNAL)));
+        }
+
+        /**
+         * Crosses left in the journal are replayed once after a restart, a line
+         * torn by a crash is dropped
+         *
+         * @throws Exception
+         */
+        @Test
+        void testReplay() throws Exception {
+                dogService.createScore(cross("06:05:00", 50, 25));
+                awaitSaved(2);
+                scoreJournalWriter.stop();
+                // Same bucket, only the higher cross counts
+                dogService.createScores(List.of(cross("06:15:00", 60, 10), cross("06:18:00", 40, 30)));
+                Files.writeString(JOURNAL, "{\"seq\":4,\"cro", StandardOpenOption.APPEND);
+
+                scoreJournal.close();
+                assertEquals(55, points(1));
+                scoreJournal.open();
+                assertAll("Replayed",
+                                () -> assertEquals(2, scoreJournal.getBacklog()),
+                                () -> assertEquals(121, points(1)),
+                                () -> assertEquals(60, points(2)));
+
+                scoreJournalWriter.start();
+                awaitSaved(6);
+                scoreJournalWriter.stop();
+                scoreJournal.close();
+                scoreJournal.open();
+                assertAll("Saved once",
+                                () -> assertEquals(0, scoreJournal.getBacklog()),
+                                () -> assertEquals(3L, checkpointRepository.findById(JournalCheckpoint.ID)
+                                                .orElseThrow().getSeq()),
+                                () -> assertEquals(6, scoreRepository.count()),
+                                () -> assertEquals(121, dogService.getDogByNumber(1).getPoints()),
+                                () -> assertEquals(60, dogService.getDogByNumber(2).getPoints()),
+                                () -> assertEquals(121, points(1)));
+        }
+
+        /**
+         * Cross of both dogs by judge 1 on day 1 of a 10 minute interval hunt
+         *
+         * @param time   Cross time
+         * @param first  Points of dog 1
+         * @param second Points of dog 2
+         * @return Cross
+         */
+        private static ScoreDto cross(String time, int first, int second) {
+                return new ScoreDto(1, "06:00:00", 1, time, new int[] { 1, 2 }, new int[] { first, second }, 10);
+        }
+
+        /**
+         * Points of a dog in the standings
+         *
+         * @param number Dog number
+         * @return Weighted points
+         */
+        private int points(int number) {
+                return standingsService.getStandings().stream().filter(s -> s.getNumber() == number).findFirst()
+                                .orElseThrow().getPoints();
+        }
+
+        /**
+         * Wait for the writer to save a number of scores
+         *
+         * @param scores Expected score count
+         * @throws InterruptedException
+         */
+        private void awaitSaved(long scores) throws InterruptedException {
+                await(() -> scoreRepository.count() == scores && standingsService.getPendingCount() == 0);
+        }
+
+        /**
+         * Wait up to ten seconds for a condition
+         *
+         * @param condition Condition to wait for
+         * @throws InterruptedException
+         */
+        private static void await(BooleanSupplier condition) throws InterruptedException {
+                long end = System.currentTimeMillis() + 10_000;
+                while (!condition.getAsBoolean() && System.currentTimeMillis() < end)
+                        Thread.sleep(20);
+                assertTrue(condition.getAsBoolean());
+        }
+
+        /**
+         * Empty the database and the journal, then start writing again
+         *
+         * @throws Exception
+         */
+        private void reset() throws Exception {
+                scoreJournalWriter.stop();
+                scoreJournal.close();
+                Files.deleteIfExists(JOURNAL);
+                dogService.clear();
+                judgeRepository.deleteAll();
+                checkpointRepository.deleteAll();
+                scoreJournal.open();
+                scoreJournalWriter.start();
+                assertEquals(0, Files.readAllLines(JOURNAL, StandardCharsets.UTF_8).size());
+        }
+}
@@ -0,0 +1,170 @@
+package com.trackhounds.trackhounds.Service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Entity.Score;
+import com.trackhounds.trackhounds.Entity.Scratch;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Exception.TrackHoundsAPIException;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+import com.trackhounds.trackhounds.Repository.ScoreEventRepository;
+import com.trackhounds.trackhounds.Repository.ScoreRepository;
+
+/**
+ * Rebuilding the daily scores from the score log
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ScoreProjectionTest {
+
+        /**
+         * Dog Service
+         */
+        @Autowired
+        private DogService dogService;
+
+        /**
+         * Standings Service
+         */
+        @Autowired
+        private StandingsService standingsService;
+
+        /**
+         * Judge Repository
+         */
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        /**
+         * Score Repository
+         */
+        @Autowired
+        private ScoreRepository scoreRepository;
+
+        /**
+         * Score Event Repository
+         */
+        @Autowired
+        private ScoreEventRepository scoreEventRepository;
+
+        /**
+         * JDBC Template, used to damage the projections behind the service
+         */
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        /**
+         * Create three dogs and a judge
+         */
+        @BeforeEach
+        void setUp() {
+                dogService.clear();
+                judgeRepository.deleteAll();
+                judgeRepository.save(new JudgeEntity(1, "PIN", "Judge"));
+                dogService.createDogs(List.of(new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner", "Sire", "Dam"),
+                                new DogEntity(2, "Dog2", StakeType.ALL_AGE, "Owner", "Sire", "Dam"),
+                                new DogEntity(3, "Dog3", StakeType.DERBY, "Owner", "Sire", "Dam")));
+        }
+
+        /**
+         * Leave an empty database for the other tests
+         */
+        @AfterEach
+        void tearDown() {
+                dogService.clear();
+                judgeRepository.deleteAll();
+        }
+
+        /**
+         * Score a hunt with a removal and a scratch, damage the stored daily
+         * scores and totals, and rebuild them from the log
+         */
+        @Test
+        void testRebuild() {
+                dogService.createScore(cross(1, "06:05:00", new int[] { 1, 2 }, new int[] { 50, 25 }, 10));
+                dogService.createScore(cross(1, "06:08:00", new int[] { 1 }, new int[] { 60 }, 10));
+                dogService.createScore(cross(1, "06:15:00", new int[] { 1, 3 }, new int[] { 40, 30 }, 10));
+                dogService.createScore(cross(2, "06:05:00", new int[] { 2 }, new int[] { 100 }, 0));
+                Score higher = dogService.getScoresByDogNumber(1).stream().filter(s -> s.getPoints() == 60)
+                                .findFirst().orElseThrow();
+                dogService.removeScore(1, higher.getId());
+                Scratch scratch = new Scratch();
+                scratch.setDogNumber(3);
+                scratch.setJudgeNumber(1);
+                scratch.setTime(LocalTime.of(7, 0));
+                scratch.setReason("Quit");
+                dogService.scratchDog(scratch);
+
+                assertAll("Log",
+                                () -> assertEquals(8, scoreEventRepository.count()),
+                                () -> assertEquals(99, dogService.getDogByNumber(1).getPoints()),
+                                () -> assertEquals(147, dogService.getDogByNumber(2).getPoints()),
+                                () -> assertEquals(List.of(), dogService.verifyScores()));
+
+                jdbcTemplate.update("DELETE FROM highest_score");
+                jdbcTemplate.update("UPDATE dogs SET points = 0, scratched = false WHERE number IN (1, 3)");
+                jdbcTemplate.update("UPDATE score SET counted = false");
+                standingsService.reset();
+                assertEquals(List.of(1, 3), dogService.verifyScores());
+
+                assertEquals(8, dogService.rebuildScores());
+                DogEntity first = dogService.getDogByNumber(1);
+                assertAll("Rebuilt",
+                                () -> assertEquals(List.of(), dogService.verifyScores()),
+                                () -> assertEquals(99, first.getPoints()),
+                                () -> assertEquals(90, standingsService.getStandings().get(0).getDays().get(0)
+                                                .getDailyScore()),
+                                () -> assertEquals(2, standingsService.getStandings().get(0).getDays().get(0)
+                                                .getBuckets().size()),
+                                () -> assertEquals(147, dogService.getDogByNumber(2).getPoints()),
+                                () -> assertEquals(33, dogService.getDogByNumber(3).getPoints()),
+                                () -> assertTrue(dogService.getDogByNumber(3).isScratched()),
+                                () -> assertEquals(5, scoreRepository.findAll().stream()
+                                                .filter(Score::isCounted).count()),
+                                () -> assertEquals(99, standingsService.getStandings().get(0).getPoints()));
+        }
+
+        /**
+         * A score that never went through the log stops the rebuild
+         */
+        @Test
+        void testRebuildRejectsScoresOutsideLog() {
+                dogService.createScore(cross(1, "06:05:00", new int[] { 1 }, new int[] { 50 }, 10));
+                scoreRepository.save(new Score(70, LocalTime.of(6, 30), true, 1, 1, 1));
+                TrackHoundsAPIException e = assertThrows(TrackHoundsAPIException.class,
+                                () -> dogService.rebuildScores());
+                assertEquals(HttpStatus.CONFLICT, e.getStatus());
+        }
+
+        /**
+         * Cross by judge 1 on a day started at 06:00
+         *
+         * @param day      Day
+         * @param time     Cross time
+         * @param dogs     Dog numbers
+         * @param points   Points of each dog
+         * @param interval Hunt interval
+         * @return Cross
+         */
+        private static ScoreDto cross(int day, String time, int[] dogs, int[] points, int interval) {
+                return new ScoreDto(day, "06:00:00", 1, time, dogs, points, interval);
+        }
+}
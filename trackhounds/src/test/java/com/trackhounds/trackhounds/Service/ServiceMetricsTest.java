@@ -0,0 +1,166 @@
+package com.trackhounds.trackhounds.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Test class for the service, repository and standings metrics
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class ServiceMetricsTest {
+
+        /**
+         * Mock MVC for api calls
+         */
+        @Autowired
+        private MockMvc mockMvc;
+
+        /**
+         * Meter Registry
+         */
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        /**
+         * Dog Service
+         */
+        @Autowired
+        private DogService dogService;
+
+        /**
+         * Standings Service
+         */
+        @Autowired
+        private StandingsService standingsService;
+
+        /**
+         * Judge Repository
+         */
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        /**
+         * Setup for each test
+         */
+        @BeforeEach
+        void setUp() {
+                dogService.clear();
+                judgeRepository.save(new JudgeEntity(1, "PIN", "Judgy Judge"));
+                dogService.createDogs(List.of(
+                                new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner1", "Sire1", "Dam1"),
+                                new DogEntity(2, "Dog2", StakeType.DERBY, "Owner2", "Sire2", "Dam2")));
+        }
+
+        /**
+         * Test that scoring, ranking and listing are timed, and that created
+         * scores are counted
+         */
+        @Test
+        void testServiceMetrics() {
+                long creates = timerCount("trackhounds.scores.create", "createScore");
+                long boards = timerCount("trackhounds.leaderboard", "getTop10ScoringDogsOverall");
+                long lists = timerCount("trackhounds.dogs.list", "getDogSummaries");
+                long crossInfo = timerCount("trackhounds.cross.info", "getCrossInfo");
+                double created = counterCount("trackhounds.scores.created");
+
+                dogService.createScore(new ScoreDto(1, "06:00:00", 1, "06:05:00", new int[] { 1, 2 },
+                                new int[] { 50, 45 }, 10));
+                dogService.getTop10ScoringDogsOverall();
+                dogService.getDogSummaries();
+                dogService.getCrossInfo(new int[] { 1, 2 }, 50, 5, StakeType.ALL_AGE);
+
+                assertEquals(creates + 1, timerCount("trackhounds.scores.create", "createScore"));
+                assertEquals(boards + 1, timerCount("trackhounds.leaderboard", "getTop10ScoringDogsOverall"));
+                assertEquals(lists + 1, timerCount("trackhounds.dogs.list", "getDogSummaries"));
+                assertEquals(crossInfo + 1, timerCount("trackhounds.cross.info", "getCrossInfo"));
+                assertEquals(created + 2, counterCount("trackhounds.scores.created"));
+                dogService.clear();
+        }
+
+        /**
+         * Test that repository calls are timed per repository and method
+         */
+        @Test
+        void testRepositoryMetrics() {
+                dogService.getDogSummaries();
+                Timer timer = meterRegistry.find("spring.data.repository.invocations")
+                                .tag("repository", "DogRepository")
+                                .tag("method", "findSummariesByOrderByNumberAsc")
+                                .timer();
+                assertNotNull(timer);
+                dogService.clear();
+        }
+
+        /**
+         * Test that the standings gauges follow the engine and that everything is
+         * scraped by Prometheus
+         *
+         * @throws Exception
+         */
+        @Test
+        void testStandingsGaugesAndPrometheus() throws Exception {
+                dogService.createScore(new ScoreDto(1, "06:00:00", 1, "06:05:00", new int[] { 1 },
+                                new int[] { 50 }, 10));
+                standingsService.getStandings();
+                assertEquals(2, meterRegistry.get("trackhounds.standings.dogs").gauge().value());
+
+                mockMvc.perform(get("/actuator/prometheus"))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string(Matchers.containsString("trackhounds_standings_dogs")))
+                                .andExpect(content().string(Matchers.containsString("trackhounds_scores_create_seconds")))
+                                .andExpect(content().string(
+                                                Matchers.containsString("spring_data_repository_invocations_seconds")));
+                dogService.clear();
+        }
+
+        /**
+         * Number of calls recorded by a service timer
+         *
+         * @param name   Timer name
+         * @param method Timed method
+         * @return Call count, 0 if never called
+         */
+        private long timerCount(String name, String method) {
+                Timer timer = meterRegistry.find(name).tag("method", method).timer();
+                return timer == null ? 0 : timer.count();
+        }
+
+        /**
+         * Value of a counter
+         *
+         * @param name Counter name
+         * @return Count, 0 if never incremented
+         */
+        private double counterCount(String name) {
+                Counter counter = meterRegistry.find(name).counter();
+                return counter == null ? 0 : counter.count();
+        }
+}
@@ -0,0 +1,98 @@
+package com.trackhounds.trackhounds.Service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.HuntRepository;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * StandingsPublisher Test class
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class StandingsPublisherTest {
+
+        /**
+         * Standings Publisher
+         */
+        @Autowired
+        private StandingsPublisher standingsPublisher;
+
+        /**
+         * Dog Service
+         */
+        @Autowired
+        private DogService dogService;
+
+        /**
+         * Hunt Repository
+         */
+        @Autowired
+        private HuntRepository huntRepository;
+
+        /**
+         * Judge Repository
+         */
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        /**
+         * Setup for the tests
+         */
+        @BeforeEach
+        void setUp() {
+                dogService.clear();
+                judgeRepository.save(new JudgeEntity(1, "PIN", "Judgy Judge"));
+        }
+
+        /**
+         * Test that only the boards whose rows changed are sent
+         */
+        @Test
+        @Transactional
+        void testRefreshSendsChangedBoards() {
+                huntRepository.save(new HuntEntity("Title", null, StakeType.ALL_AGE, 10));
+                dogService.createDogs(List.of(
+                                new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner1", "Sire", "Dam"),
+                                new DogEntity(2, "Dog2", StakeType.DERBY, "Owner2", "Sire", "Dam")));
+                SseEmitter emitter = standingsPublisher.subscribe();
+                assertEquals(1, standingsPublisher.getSubscriberCount());
+
+                dogService.createScore(new ScoreDto(1, "05:30:00", 1, "05:45:00", new int[] { 1 },
+                                new int[] { 35 }, 10));
+                List<String> changed = standingsPublisher.refresh();
+                assertAll("Boards touched by the score",
+                                () -> assertTrue(changed.contains("overall")),
+                                () -> assertTrue(changed.contains("stake-ALL_AGE")),
+                                () -> assertTrue(changed.contains("day-1")),
+                                () -> assertTrue(changed.contains("day-1-stake-ALL_AGE")),
+                                () -> assertFalse(changed.contains("stake-DERBY")));
+                assertTrue(standingsPublisher.refresh().isEmpty());
+
+                // A closed subscriber is dropped on the next send
+                emitter.complete();
+                dogService.createScore(new ScoreDto(1, "05:30:00", 1, "05:50:00", new int[] { 2 },
+                                new int[] { 40 }, 10));
+                assertFalse(standingsPublisher.refresh().isEmpty());
+                assertEquals(0, standingsPublisher.getSubscriberCount());
+        }
+}
@@ -0,0 +1,165 @@
+package com.trackhounds.trackhounds.Service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.trackhounds.trackhounds.Dto.DogStanding;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.DogRepository;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * StandingsService Test class
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class StandingsServiceTest {
+
+        /**
+         * Standings Service
+         */
+        @Autowired
+        private StandingsService standingsService;
+
+        /**
+         * Dog Service
+         */
+        @Autowired
+        private DogService dogService;
+
+        /**
+         * Dog Repository
+         */
+        @Autowired
+        private DogRepository dogRepository;
+
+        /**
+         * Judge Repository
+         */
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        /**
+         * Transaction Manager
+         */
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        /**
+         * Setup for the tests
+         */
+        @BeforeEach
+        void setUp() {
+                dogService.clear();
+                judgeRepository.save(new JudgeEntity(1, "PIN", "Judgy Judge"));
+        }
+
+        /**
+         * Test that score writes update the standings of the touched dogs
+         */
+        @Test
+        @Transactional
+        void testStandingsFollowScores() {
+                dogService.createDogs(List.of(
+                                new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner1", "Sire", "Dam"),
+                                new DogEntity(2, "Dog2", StakeType.DERBY, "Owner2", "Sire", "Dam")));
+                assertEquals(2, standingsService.getStandings().size());
+
+                dogService.createScore(new ScoreDto(1, "05:30:00", 1, "05:45:00", new int[] { 1 },
+                                new int[] { 35 }, 10));
+                DogStanding dog1 = standingsService.getStandings().get(0);
+                DogStanding dog2 = standingsService.getStandings().get(1);
+                assertAll("Scored dog",
+                                () -> assertEquals(1, dog1.getNumber()),
+                                () -> assertEquals(38, dog1.getPoints()),
+                                () -> assertEquals(1, dog1.getDays().size()),
+                                () -> assertEquals(35, dog1.getDays().get(0).getDailyScore()),
+                                () -> assertEquals(LocalTime.of(5, 45), dog1.getDays().get(0).getLastCross()),
+                                () -> assertEquals(LocalTime.of(5, 30), standingsService.getStartTime(1)));
+                assertAll("Untouched dog",
+                                () -> assertEquals(0, dog2.getPoints()),
+                                () -> assertTrue(dog2.getDays().isEmpty()));
+
+                Long scoreId = dogService.getScoresByDogNumber(1).get(0).getId();
+                dogService.removeScore(1, scoreId);
+                assertEquals(0, standingsService.getStandings().get(0).getPoints());
+        }
+
+        /**
+         * Test that dogs written directly through the repository are picked up
+         */
+        @Test
+        @Transactional
+        void testRepositoryWritesMarkDirty() {
+                assertTrue(standingsService.getStandings().isEmpty());
+                dogRepository.save(new DogEntity(5, "Direct", StakeType.ALL_AGE, "Owner", "Sire", "Dam"));
+                assertEquals(1, standingsService.getStandings().size());
+                assertEquals("Direct", standingsService.getStandings().get(0).getName());
+
+                dogService.deleteDog(5);
+                assertTrue(standingsService.getStandings().isEmpty());
+        }
+
+        /**
+         * Test that writes only reach the shared standings once their
+         * transaction commits
+         */
+        @Test
+        void testRolledBackWritesAreDiscarded() {
+                dogService.createDogs(List.of(
+                                new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner1", "Sire", "Dam")));
+                assertEquals(1, standingsService.getStandings().size());
+
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                        dogService.createDogs(List.of(
+                                        new DogEntity(2, "Dog2", StakeType.DERBY, "Owner2", "Sire", "Dam")));
+                        dogService.deleteDog(1);
+                        assertEquals(List.of(2), standingsService.getStandings().stream()
+                                        .map(DogStanding::getNumber).toList());
+                        assertEquals(List.of(1), CompletableFuture.supplyAsync(() -> standingsService.getStandings()
+                                        .stream().map(DogStanding::getNumber).toList()).join());
+                        status.setRollbackOnly();
+                });
+                assertEquals(List.of(1), standingsService.getStandings().stream()
+                                .map(DogStanding::getNumber).toList());
+        }
+
+        /**
+         * Test that the standings load outside of a transaction, the daily scores
+         * are fetched through the entity graph rather than lazily
+         */
+        @Test
+        void testLoadOutsideTransaction() {
+                dogService.createDogs(List.of(new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner1", "Sire", "Dam")));
+                dogService.createScore(new ScoreDto(1, "05:30:00", 1, "05:45:00", new int[] { 1 },
+                                new int[] { 35 }, 10));
+                standingsService.reset();
+                try {
+                        DogStanding dog = standingsService.getStandings().get(0);
+                        assertAll("Loaded standing",
+                                        () -> assertEquals(38, dog.getPoints()),
+                                        () -> assertEquals(1, dog.getDays().size()),
+                                        () -> assertEquals(35, dog.getDays().get(0).getDailyScore()));
+                } finally {
+                        dogService.clear();
+                }
+        }
+}
@@ -0,0 +1,258 @@
+package com.trackhounds.trackhounds.Service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.trackhounds.trackhounds.TrackhoundsApplication;
+import com.trackhounds.trackhounds.Dto.ScoreDto;
+import com.trackhounds.trackhounds.Entity.DogEntity;
+import com.trackhounds.trackhounds.Entity.HuntEntity;
+import com.trackhounds.trackhounds.Entity.JudgeEntity;
+import com.trackhounds.trackhounds.Enums.StakeType;
+import com.trackhounds.trackhounds.Repository.HuntRepository;
+import com.trackhounds.trackhounds.Repository.JudgeRepository;
+
+/**
+ * Copying a hunt between the test database and the embedded database
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class StoreMigrationServiceTest {
+
+        /**
+         * Directory of the embedded database
+         */
+        private static final Path EMBEDDED = Path.of("target/embedded-test");
+
+        /**
+         * MariaDB database copied back into, next to the test database
+         */
+        private static final String COPY_DATABASE = "trackhounds_copy";
+
+        /**
+         * URL of the test database
+         */
+        @Value("${spring.datasource.url}")
+        private String testUrl;
+
+        /**
+         * Test database
+         */
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        /**
+         * Dog Service
+         */
+        @Autowired
+        private DogService dogService;
+
+        /**
+         * Hunt Service
+         */
+        @Autowired
+        private HuntService huntService;
+
+        /**
+         * Hunt Config Service
+         */
+        @Autowired
+        private HuntConfigService huntConfigService;
+
+        /**
+         * Hunt Repository
+         */
+        @Autowired
+        private HuntRepository huntRepository;
+
+        /**
+         * Judge Repository
+         */
+        @Autowired
+        private JudgeRepository judgeRepository;
+
+        /**
+         * Database of the test context
+         */
+        @Autowired
+        private DataSource dataSource;
+
+        /**
+         * Starting numbers of the stakes of the hunt
+         */
+        private static final int[] STAKE_RANGE = { 1, 3, 5, 7 };
+
+        /**
+         * Stake types of the stakes of the hunt
+         */
+        private static final StakeType[] STAKE_TYPE_RANGE = { StakeType.ALL_AGE, StakeType.DERBY, StakeType.ALL_AGE,
+                        StakeType.DERBY };
+
+        /**
+         * Score a hunt with two dogs
+         */
+        @BeforeEach
+        void setUp() {
+                HuntEntity hunt = new HuntEntity("Test Hunt", "2025-10-12 to 2025-10-13", StakeType.ALL_AGE, 10);
+                hunt.setStakeRange(STAKE_RANGE.clone());
+                hunt.setStakeTypeRange(STAKE_TYPE_RANGE.clone());
+                huntService.createHunt(hunt);
+                dogService.clear();
+                judgeRepository.deleteAll();
+                judgeRepository.save(new JudgeEntity(1, "PIN", "Judge"));
+                dogService.createDogs(List.of(new DogEntity(1, "Dog1", StakeType.ALL_AGE, "Owner", "Sire", "Dam"),
+                                new DogEntity(2, "Dog2", StakeType.DERBY, "Owner", "Sire", "Dam")));
+                dogService.createScore(cross("06:05:00", new int[] { 1, 2 }, new int[] { 50, 20 }));
+                dogService.createScore(cross("06:15:00", new int[] { 1 }, new int[] { 40 }));
+        }
+
+        /**
+         * Leave an empty database for the other tests
+         *
+         * @throws Exception
+         */
+        @AfterEach
+        void tearDown() throws Exception {
+                dogService.clear();
+                judgeRepository.deleteAll();
+                huntRepository.deleteAll();
+                huntConfigService.invalidate();
+                if (Files.exists(EMBEDDED)) {
+                        try (Stream<Path> files = Files.walk(EMBEDDED)) {
+                                for (Path file : files.sorted(Comparator.reverseOrder()).toList())
+                                        Files.delete(file);
+                        }
+                }
+        }
+
+        /**
+         * The copy keeps the scores and totals, and scoring goes on in the
+         * embedded database without id clashes
+         *
+         * @throws Exception
+         */
+        @Test
+        void testCopyToEmbedded() throws Exception {
+                try (ConfigurableApplicationContext embedded = startEmbedded()) {
+                        StoreMigrationService migration = embedded.getBean(StoreMigrationService.class);
+                        DogService copy = embedded.getBean(DogService.class);
+
+                        Map<String, Integer> copied = migration.copyFrom(dataSource);
+                        HuntEntity hunt = embedded.getBean(HuntRepository.class).findAll().get(0);
+                        assertAll("Copied",
+                                        () -> assertEquals(2, copied.get("dogs")),
+                                        () -> assertEquals(3, copied.get("score")),
+                                        () -> assertEquals(1, copied.get("hunt_entity")),
+                                        () -> assertArrayEquals(STAKE_RANGE, hunt.getStakeRange()),
+                                        () -> assertArrayEquals(STAKE_TYPE_RANGE, hunt.getStakeTypeRange()),
+                                        () -> assertEquals(99, copy.getDogByNumber(1).getPoints()),
+                                        () -> assertEquals(22, copy.getDogByNumber(2).getPoints()),
+                                        () -> assertEquals(1, copy.getTop10ScoringDogsOverall().get(0).dogNumber()),
+                                        () -> assertEquals(List.of(), copy.verifyScores()));
+
+                        copy.createScore(cross("06:25:00", new int[] { 1, 2 }, new int[] { 30, 30 }));
+                        assertAll("Scored after the copy",
+                                        () -> assertEquals(132, copy.getDogByNumber(1).getPoints()),
+                                        () -> assertEquals(5, copy.getScores().size()),
+                                        () -> assertEquals(List.of(), copy.verifyScores()),
+                                        () -> assertThrows(IllegalStateException.class,
+                                                        () -> migration.copyFrom(dataSource)));
+                }
+        }
+
+        /**
+         * A hunt copied into the embedded database and scored there is copied
+         * back, with its stake ranges, into a new MariaDB database, the way
+         * the app copies it when started on an empty database
+         *
+         * @throws Exception
+         */
+        @Test
+        void testCopyFromEmbedded() throws Exception {
+                assumeTrue(testUrl.startsWith("jdbc:mariadb:"), "Copies back into a database of the test server");
+                jdbcTemplate.execute("DROP DATABASE IF EXISTS " + COPY_DATABASE);
+                try (ConfigurableApplicationContext embedded = startEmbedded()) {
+                        embedded.getBean(StoreMigrationService.class).copyFrom(dataSource);
+                        embedded.getBean(DogService.class)
+                                        .createScore(cross("06:25:00", new int[] { 1, 2 }, new int[] { 30, 30 }));
+
+                        try (ConfigurableApplicationContext copy = new SpringApplicationBuilder(
+                                        TrackhoundsApplication.class)
+                                        .web(WebApplicationType.NONE)
+                                        .run("--spring.profiles.active=test", "--spring.docker.compose.enabled=false",
+                                                        "--spring.datasource.url=" + testUrl.replaceFirst(
+                                                                        "^(jdbc:mariadb://[^/]+/)[^?]*",
+                                                                        "$1" + COPY_DATABASE))) {
+                                DogService copied = copy.getBean(DogService.class);
+                                Map<String, Integer> rows = copy.getBean(StoreMigrationService.class)
+                                                .copyFrom(embedded.getBean(DataSource.class));
+                                HuntEntity hunt = copy.getBean(HuntRepository.class).findAll().get(0);
+                                assertAll("Copied back",
+                                                () -> assertEquals(5, rows.get("score")),
+                                                () -> assertEquals(1, rows.get("hunt_entity")),
+                                                () -> assertEquals("Test Hunt", hunt.getTitle()),
+                                                () -> assertArrayEquals(STAKE_RANGE, hunt.getStakeRange()),
+                                                () -> assertArrayEquals(STAKE_TYPE_RANGE, hunt.getStakeTypeRange()),
+                                                () -> assertEquals(132, copied.getDogByNumber(1).getPoints()),
+                                                () -> assertEquals(List.of(), copied.verifyScores()));
+                        }
+                } finally {
+                        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + COPY_DATABASE);
+                }
+        }
+
+        /**
+         * Start the app on an empty embedded database
+         *
+         * @return Started app
+         */
+        private static ConfigurableApplicationContext startEmbedded() {
+                return new SpringApplicationBuilder(TrackhoundsApplication.class)
+                                .web(WebApplicationType.NONE)
+                                .run("--spring.profiles.active=embedded",
+                                                "--spring.datasource.url=jdbc:h2:file:./" + EMBEDDED
+                                                                + "/trackhounds;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;"
+                                                                + "NON_KEYWORDS=DAY,VALUE,KEY;DB_CLOSE_ON_EXIT=FALSE",
+                                                "--spring.datasource.driver-class-name=org.h2.Driver",
+                                                "--spring.datasource.username=sa",
+                                                "--spring.datasource.password=",
+                                                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        }
+
+        /**
+         * Cross by judge 1 on day 1 of a 10 minute interval hunt started at
+         * 06:00
+         *
+         * @param time   Cross time
+         * @param dogs   Dog numbers
+         * @param points Points of each dog
+         * @return Cross
+         */
+        private static ScoreDto cross(String time, int[] dogs, int[] points) {
+                return new ScoreDto(1, "06:00:00", 1, time, dogs, points, 10);
+        }
+}
@@ -0,0 +1,61 @@
+-- Hunt scored by the app before the pooled id sequences, as MariaDB stored it:
+-- two days, four dogs, a scratch and a score that did not count. Totals are
+-- the ones the app computed then, day 1 at 110% and day 2 at 120%.
+-- stake_range is the Java serialized int[] {1, 3, 5, 7} and
+-- stake_type_range the stake ordinals ALL_AGE, DERBY, ALL_AGE, DERBY.
+INSERT INTO hunt_entity (id, dates, hunt_interval, stake, stake_range, stake_type_range, title) VALUES (1,'2025-10-12 to 2025-10-13',10,0,0xACED0005757200025B494DBA602676EAB2A502000078700000000400000001000000030000000500000007,0x00010001,'Legacy Hunt');
+INSERT INTO days (day, start_time) VALUES (1,'06:00:00');
+INSERT INTO days (day, start_time) VALUES (2,'06:30:00');
+INSERT INTO dogs (number, dam, name, owner, points, scratched, sire, stake) VALUES (1,'Dam1','Dog1','Owner1',195,0,'Sire1',0);
+INSERT INTO dogs (number, dam, name, owner, points, scratched, sire, stake) VALUES (2,'Dam2','Dog2','Owner2',123,0,'Sire2',1);
+INSERT INTO dogs (number, dam, name, owner, points, scratched, sire, stake) VALUES (3,'Dam3','Dog3','Owner3',126,0,'Sire3',0);
+INSERT INTO dogs (number, dam, name, owner, points, scratched, sire, stake) VALUES (4,'Dam4','Dog4','Owner4',81,1,'Sire4',1);
+INSERT INTO judge_entity (number, member_pin, name) VALUES (1,'PIN1','Judge One');
+INSERT INTO judge_entity (number, member_pin, name) VALUES (2,'PIN2','Judge Two');
+INSERT INTO scratch (id, dog_name, dog_number, judge_number, reason, time) VALUES (1,'Dog4',4,1,'Lame','07:00:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (1,1,1,1,1,50,'06:05:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (2,1,1,2,1,40,'06:05:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (3,0,1,1,2,30,'06:08:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (4,1,1,3,2,20,'06:08:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (5,1,1,1,1,40,'06:15:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (6,1,1,2,2,50,'06:25:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (7,1,1,3,2,40,'06:25:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (8,1,1,4,2,30,'06:25:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (9,1,2,1,1,50,'06:35:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (10,1,2,4,1,40,'06:35:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (11,1,2,3,2,50,'06:38:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (12,1,2,1,1,30,'06:47:00');
+INSERT INTO score (id, counted, day, dog_number, judge_number, points, time) VALUES (13,1,2,2,1,20,'06:47:00');
+INSERT INTO daily_score (id, associated_points, daily_score, last_cross, zero_interval, day_day, dog_number, score_order) VALUES (1,40,90,'06:15:00',0,1,1,0);
+INSERT INTO daily_score (id, associated_points, daily_score, last_cross, zero_interval, day_day, dog_number, score_order) VALUES (2,50,90,'06:25:00',0,1,2,0);
+INSERT INTO daily_score (id, associated_points, daily_score, last_cross, zero_interval, day_day, dog_number, score_order) VALUES (3,40,60,'06:25:00',0,1,3,0);
+INSERT INTO daily_score (id, associated_points, daily_score, last_cross, zero_interval, day_day, dog_number, score_order) VALUES (4,30,30,'06:25:00',0,1,4,0);
+INSERT INTO daily_score (id, associated_points, daily_score, last_cross, zero_interval, day_day, dog_number, score_order) VALUES (5,30,80,'06:47:00',0,2,1,1);
+INSERT INTO daily_score (id, associated_points, daily_score, last_cross, zero_interval, day_day, dog_number, score_order) VALUES (6,40,40,'06:35:00',0,2,4,1);
+INSERT INTO daily_score (id, associated_points, daily_score, last_cross, zero_interval, day_day, dog_number, score_order) VALUES (7,50,50,'06:38:00',0,2,3,1);
+INSERT INTO daily_score (id, associated_points, daily_score, last_cross, zero_interval, day_day, dog_number, score_order) VALUES (8,20,20,'06:47:00',0,2,2,1);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (1,0,1,1);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (2,0,2,2);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (3,0,1,3);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (4,0,3,4);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (5,1,1,5);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (6,2,2,6);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (7,2,3,7);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (8,2,4,8);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (9,0,5,9);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (10,0,6,10);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (11,0,7,11);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (12,1,5,12);
+INSERT INTO time_bucket_score (id, time_bucket, daily_score_id, score_id) VALUES (13,1,8,13);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (1,0,1,1);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (2,0,2,2);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (3,0,3,4);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (4,1,1,5);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (5,2,2,6);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (6,2,3,7);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (7,2,4,8);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (8,0,5,9);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (9,0,6,10);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (10,0,7,11);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (11,1,5,12);
+INSERT INTO highest_score (id, time_bucket, daily_score_id, score_id) VALUES (12,1,8,13);
@@ -0,0 +1,99 @@
+-- Schema the app created with ddl-auto=update before the pooled id sequences,
+-- as MariaDB shows it for a database the app created then
+
+CREATE TABLE `hunt_entity` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `dates` varchar(255) DEFAULT NULL,
+  `hunt_interval` int(11) NOT NULL,
+  `stake` tinyint(4) DEFAULT NULL CHECK (`stake` between 0 and 2),
+  `stake_range` varbinary(255) DEFAULT NULL,
+  `stake_type_range` varbinary(255) DEFAULT NULL,
+  `title` varchar(255) DEFAULT NULL,
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `days` (
+  `day` int(11) NOT NULL,
+  `start_time` time(6) DEFAULT NULL,
+  PRIMARY KEY (`day`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `dogs` (
+  `number` int(11) NOT NULL,
+  `dam` varchar(255) DEFAULT NULL,
+  `name` varchar(255) DEFAULT NULL,
+  `owner` varchar(255) DEFAULT NULL,
+  `points` int(11) NOT NULL,
+  `scratched` bit(1) NOT NULL,
+  `sire` varchar(255) DEFAULT NULL,
+  `stake` tinyint(4) DEFAULT NULL CHECK (`stake` between 0 and 2),
+  PRIMARY KEY (`number`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `judge_entity` (
+  `number` int(11) NOT NULL,
+  `member_pin` varchar(255) DEFAULT NULL,
+  `name` varchar(255) DEFAULT NULL,
+  PRIMARY KEY (`number`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `scratch` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `dog_name` varchar(255) DEFAULT NULL,
+  `dog_number` int(11) NOT NULL,
+  `judge_number` int(11) NOT NULL,
+  `reason` varchar(255) DEFAULT NULL,
+  `time` time(6) DEFAULT NULL,
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `score` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `counted` bit(1) NOT NULL,
+  `day` int(11) NOT NULL,
+  `dog_number` int(11) NOT NULL,
+  `judge_number` int(11) NOT NULL,
+  `points` int(11) NOT NULL,
+  `time` time(6) DEFAULT NULL,
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `daily_score` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `associated_points` int(11) NOT NULL,
+  `daily_score` int(11) NOT NULL,
+  `last_cross` time(6) DEFAULT NULL,
+  `zero_interval` bit(1) NOT NULL,
+  `day_day` int(11) NOT NULL,
+  `dog_number` int(11) DEFAULT NULL,
+  `score_order` int(11) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `FK6wgl341jkp0ig2ckq3dicdfsw` (`day_day`),
+  KEY `FKeemdirltg5chh0flr1ro52h5o` (`dog_number`),
+  CONSTRAINT `FK6wgl341jkp0ig2ckq3dicdfsw` FOREIGN KEY (`day_day`) REFERENCES `days` (`day`),
+  CONSTRAINT `FKeemdirltg5chh0flr1ro52h5o` FOREIGN KEY (`dog_number`) REFERENCES `dogs` (`number`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `time_bucket_score` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `time_bucket` int(11) NOT NULL,
+  `daily_score_id` bigint(20) DEFAULT NULL,
+  `score_id` bigint(20) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `FKo7xlsv0j94a5snd0tnl5q0yo9` (`daily_score_id`),
+  KEY `FKpllu76bjhwbrfm6ndjw3oqwte` (`score_id`),
+  CONSTRAINT `FKo7xlsv0j94a5snd0tnl5q0yo9` FOREIGN KEY (`daily_score_id`) REFERENCES `daily_score` (`id`),
+  CONSTRAINT `FKpllu76bjhwbrfm6ndjw3oqwte` FOREIGN KEY (`score_id`) REFERENCES `score` (`id`)
+) ENGINE=InnoDB;
+
+CREATE TABLE `highest_score` (
+  `id` bigint(20) NOT NULL AUTO_INCREMENT,
+  `time_bucket` int(11) NOT NULL,
+  `daily_score_id` bigint(20) DEFAULT NULL,
+  `score_id` bigint(20) DEFAULT NULL,
+  PRIMARY KEY (`id`),
+  KEY `FKay6dclg46i0t6xqbygagwocpj` (`daily_score_id`),
+  KEY `FKf844s4a3avgfm4qk8s8y7e7a9` (`score_id`),
+  CONSTRAINT `FKay6dclg46i0t6xqbygagwocpj` FOREIGN KEY (`daily_score_id`) REFERENCES `daily_score` (`id`),
+  CONSTRAINT `FKf844s4a3avgfm4qk8s8y7e7a9` FOREIGN KEY (`score_id`) REFERENCES `score` (`id`)
+) ENGINE=InnoDB;